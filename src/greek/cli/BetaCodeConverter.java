@@ -1,9 +1,11 @@
 package greek.cli;
 
 import greek.code.BetaCodeBestEffortConverter;
+import greek.metrics.Metrics;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.Arrays;
 
 /**
  * A command-line tool for converting beta code to pre-combined Unicode
@@ -23,14 +25,21 @@ public class BetaCodeConverter {
 	 */
 	public static void main(String [] args) {
 
+		boolean stats = args.length > 0 && args[0].equals("--stats");
+		if(stats) args = Arrays.copyOfRange(args, 1, args.length);
+
 		if(args.length > 1) {
 			System.out.println(
-"Usage: " + PROGRAM_NAME + " [beta code]\n" +
+"Usage: " + PROGRAM_NAME + " [--stats] [beta code]\n" +
 "    If beta code is provided as an argument, it is converted and printed to\n" +
-"    stdout. Otherwise, stdin is read, converted, and printed to stdout.");
+"    stdout. Otherwise, stdin is read, converted, and printed to stdout.\n" +
+"    --stats  Print counts and latencies of the conversions to stderr at the\n" +
+"             end.");
 			System.exit(1);
 		}
 
+		if(stats) Metrics.get().setTimingEnabled(true);
+
 		// Use the fault-tolerant best-effort conversion algorithm.
 		BetaCodeBestEffortConverter converter = new BetaCodeBestEffortConverter();
 
@@ -52,7 +61,9 @@ public class BetaCodeConverter {
 				System.out.println(converter.toPrecombinedUnicode(line));
 			}
 		}
-		
+
+		if(stats) System.err.print(Metrics.get().getSummary());
+
 	}
 
 }
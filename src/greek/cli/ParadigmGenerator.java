@@ -0,0 +1,348 @@
+package greek.cli;
+
+import greek.code.PhonoCode;
+import greek.grammar.GrammaticalTag;
+import greek.morphology.FormAssembler;
+import greek.morphology.Morpheme;
+import greek.morphology.verb.ThematicContr;
+import greek.morphology.verb.ThematicUncontr;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A command-line tool for generating the full paradigms of a list of verb
+ * stems. Each line of input holds a stem in phono code followed by its verb
+ * class. The paradigms are generated in parallel on a fork-join pool, but are
+ * written to stdout in the order of the input, one form per line.
+ */
+public class ParadigmGenerator {
+
+	/**
+	 * The command which the program identifies itself as.
+	 */
+	public static final String PROGRAM_NAME = "paradigms";
+
+	/**
+	 * The output formats.
+	 */
+	public enum Format {
+
+		/**
+		 * Tab-separated values: stem, class, tense, voice, mood, person,
+		 * number, and form.
+		 */
+		TSV,
+
+		/**
+		 * One JSON object per line with the same fields as TSV.
+		 */
+		JSON;
+	}
+
+	/**
+	 * The verb classes which can be named in the input.
+	 */
+	public enum VerbClass {
+
+		/**
+		 * A thematic verb with a non-contracting stem.
+		 */
+		THEMATICUNCONTR,
+
+		/**
+		 * A thematic verb with a contracting stem.
+		 */
+		THEMATICCONTR;
+
+		/**
+		 * Create a verb of this class.
+		 * @param stem
+		 * @return 
+		 */
+		public greek.lexeme.Verb newVerb(Morpheme stem) {
+			switch(this) {
+				case THEMATICCONTR: return new ThematicContr(stem);
+				default:            return new ThematicUncontr(stem);
+			}
+		}
+
+		/**
+		 * Look up a verb class by name, ignoring case.
+		 * @param name
+		 * @return The verb class or null if there is none by that name.
+		 */
+		public static VerbClass fromName(String name) {
+			try {
+				return valueOf(name.toUpperCase(Locale.ROOT));
+			}
+			catch(IllegalArgumentException e) {
+				return null;
+			}
+		}
+	}
+
+	/* The number of stems per worker thread which may be in flight. */
+	private static final int WINDOW_PER_THREAD = 64;
+
+	private final Format _format;
+	private final ForkJoinPool _pool;
+	private final int _window;
+
+	private long _stems = 0;
+	private long _forms = 0;
+	private long _errors = 0;
+
+	/**
+	 * Initialize a generator.
+	 * @param format The output format.
+	 * @param threads The number of worker threads.
+	 */
+	public ParadigmGenerator(Format format, int threads) {
+		_format = format;
+		_pool = new ForkJoinPool(threads);
+		_window = threads * WINDOW_PER_THREAD;
+	}
+
+	/**
+	 * Generate the paradigms of all of the stems read from a reader and
+	 * write them to a writer. Blank lines and lines beginning with # are
+	 * skipped. Lines which cannot be parsed are reported on stderr and
+	 * counted by getErrorCount.
+	 * @param in
+	 * @param out
+	 * @throws IOException
+	 */
+	public void run(BufferedReader in, Writer out) throws IOException {
+		ArrayDeque<ForkJoinTask<Paradigm>> pending = new ArrayDeque<>();
+		String line;
+		int lineNumber = 0;
+		while((line = in.readLine()) != null) {
+			final String entry = line.trim();
+			final int number = ++lineNumber;
+			if(entry.isEmpty() || entry.startsWith("#")) continue;
+			pending.add(_pool.submit(() -> generate(entry, number)));
+			// Keep a bounded number of stems in flight, writing
+			// the oldest one out before reading any further.
+			if(pending.size() >= _window) write(pending.remove().join(), out);
+		}
+		while(!pending.isEmpty()) write(pending.remove().join(), out);
+		out.flush();
+	}
+
+	/**
+	 * Stop the worker threads.
+	 */
+	public void shutdown() {
+		_pool.shutdown();
+	}
+
+	/**
+	 * Get the number of stems processed so far.
+	 * @return 
+	 */
+	public long getStemCount() {
+		return _stems;
+	}
+
+	/**
+	 * Get the number of forms written so far.
+	 * @return 
+	 */
+	public long getFormCount() {
+		return _forms;
+	}
+
+	/**
+	 * Get the number of lines reported as errors so far.
+	 * @return 
+	 */
+	public long getErrorCount() {
+		return _errors;
+	}
+
+	private void write(Paradigm p, Writer out) throws IOException {
+		if(p.error != null) {
+			System.err.println(PROGRAM_NAME + ": " + p.error);
+			++_errors;
+		}
+		else {
+			out.write(p.text);
+			++_stems;
+			_forms += p.forms;
+		}
+	}
+
+	/* The output for a single stem. */
+	private static class Paradigm {
+		String text;
+		int forms;
+		String error;
+	}
+
+	/* Generate every form of the verb described by a line of input. */
+	private Paradigm generate(String entry, int lineNumber) {
+		Paradigm result = new Paradigm();
+		String[] fields = entry.split("\\s+");
+		VerbClass verbClass = fields.length == 2 ? VerbClass.fromName(fields[1]) : null;
+		if(verbClass == null) {
+			result.error = "line " + lineNumber + ": expected a stem and one of " + verbClassNames();
+			return result;
+		}
+		StringBuilder buffer = new StringBuilder();
+		result.forms = appendParadigm(fields[0], fields[1], verbClass, _format, buffer);
+		if(result.forms < 0) {
+			result.error = "line " + lineNumber + ": invalid phono code '" + fields[0] + "'";
+			return result;
+		}
+		result.text = buffer.toString();
+		return result;
+	}
+
+	/**
+	 * Generate every form of a verb, one per line.
+	 * @param phonoCode The stem in phono code.
+	 * @param className The name of the verb class, as written in the
+	 * output.
+	 * @param verbClass
+	 * @param format
+	 * @param buffer The buffer to which the forms are appended.
+	 * @return The number of forms, or -1 if the stem is not valid phono
+	 * code.
+	 */
+	public static int appendParadigm(String phonoCode, String className, VerbClass verbClass,
+		Format format, StringBuilder buffer) {
+		Morpheme stem = PhonoCode.toMorpheme(phonoCode);
+		if(stem == null) return -1;
+		greek.lexeme.Verb verb = verbClass.newVerb(stem);
+		FormAssembler assembler = new FormAssembler();
+		StringBuilder form = new StringBuilder();
+		int result = 0;
+		for(int i = 0; i < GrammaticalTag.VERB_CELLS; ++i) {
+			GrammaticalTag tag = GrammaticalTag.fromVerbIndex(i);
+			form.setLength(0);
+			if(!verb.appendVerbForm(tag, assembler, form)) continue;
+			appendForm(buffer, format, phonoCode, className, tag, form);
+			++result;
+		}
+		return result;
+	}
+
+	private static void appendForm(StringBuilder buffer, Format format, String stem, String verbClass,
+		GrammaticalTag tag, CharSequence form) {
+		Object[] features = {tag.getTense(), tag.getVoice(), tag.getMood(),
+			tag.getPerson(), tag.getNumber()};
+		if(format == Format.JSON) {
+			buffer.append("{\"stem\":");
+			appendJsonString(buffer, stem);
+			buffer.append(",\"class\":");
+			appendJsonString(buffer, verbClass);
+			String[] names = {"tense", "voice", "mood", "person", "number"};
+			for(int i = 0; i < names.length; ++i) {
+				buffer.append(",\"").append(names[i]).append("\":");
+				appendJsonString(buffer, featureName(features[i]));
+			}
+			buffer.append(",\"form\":");
+			appendJsonString(buffer, form);
+			buffer.append("}\n");
+		}
+		else {
+			buffer.append(stem).append('\t').append(verbClass);
+			for(Object feature : features) buffer.append('\t').append(featureName(feature));
+			buffer.append('\t').append(form).append('\n');
+		}
+	}
+
+	private static String featureName(Object feature) {
+		return feature.toString().toLowerCase(Locale.ROOT);
+	}
+
+	private static void appendJsonString(StringBuilder buffer, CharSequence s) {
+		buffer.append('"');
+		for(int i = 0; i < s.length(); ++i) {
+			char c = s.charAt(i);
+			switch(c) {
+				case '"':  buffer.append("\\\""); break;
+				case '\\': buffer.append("\\\\"); break;
+				case '\t': buffer.append("\\t");  break;
+				default:
+					if(c < 0x20) buffer.append(String.format("\\u%04x", (int) c));
+					else buffer.append(c);
+			}
+		}
+		buffer.append('"');
+	}
+
+	/**
+	 * Get the names of the verb classes, for messages.
+	 * @return 
+	 */
+	public static String verbClassNames() {
+		return "ThematicUncontr, ThematicContr";
+	}
+
+	/**
+	 * The main function.
+	 * @param args 
+	 */
+	public static void main(String [] args) {
+
+		Format format = Format.TSV;
+		int threads = Runtime.getRuntime().availableProcessors();
+		boolean usage = false;
+		for(int i = 0; i < args.length && !usage; ++i) {
+			if(args[i].equals("-json")) format = Format.JSON;
+			else if(args[i].equals("-tsv")) format = Format.TSV;
+			else if(args[i].equals("-threads") && i + 1 < args.length) {
+				try {
+					threads = Integer.parseInt(args[++i]);
+					if(threads < 1) usage = true;
+				}
+				catch(NumberFormatException e) {
+					usage = true;
+				}
+			}
+			else usage = true;
+		}
+
+		if(usage) {
+			System.out.println(
+"Usage: " + PROGRAM_NAME + " [-tsv | -json] [-threads n]\n" +
+"    Reads lines of the form '<phono code stem> <class>' from stdin, where\n" +
+"    class is one of " + verbClassNames() + ", and writes every form\n" +
+"    of each verb to stdout in the order of the input. Statistics are\n" +
+"    printed to stderr. Exits with status 1 if any line is in error.");
+			System.exit(1);
+		}
+
+		ParadigmGenerator generator = new ParadigmGenerator(format, threads);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+		Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+		long start = System.nanoTime();
+		try {
+			generator.run(reader, writer);
+		}
+		catch(IOException e) {
+			System.err.println(PROGRAM_NAME + ": " + e.getMessage());
+			System.exit(1);
+		}
+		finally {
+			generator.shutdown();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.err.println(String.format("%s: %d stems, %d forms in %.3f s (%.0f forms/s)",
+			PROGRAM_NAME, generator.getStemCount(), generator.getFormCount(),
+			seconds, seconds > 0 ? generator.getFormCount() / seconds : 0.0));
+		if(generator.getErrorCount() > 0) System.exit(1);
+
+	}
+
+}
@@ -0,0 +1,54 @@
+package greek.cli;
+
+import greek.code.BetaCodeBestEffortConverter;
+import greek.lexicon.VocabLexiconBuilder;
+import greek.lexicon.VocabParser;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A command-line tool for compiling a vocabulary file into the binary form
+ * read by greek.lexicon.VocabLexicon, which the vocabulary viewer and other
+ * tools can open without parsing it again. The lines are parsed in parallel,
+ * and each line which is not an entry is reported on stderr.
+ */
+public class VocabCompiler {
+
+	/**
+	 * The command which the program identifies itself as.
+	 */
+	public static final String PROGRAM_NAME = "vocabc";
+
+	/**
+	 * The main function.
+	 * @param args 
+	 */
+	public static void main(String [] args) {
+
+		if(args.length != 2) {
+			System.out.println(
+"Usage: " + PROGRAM_NAME + " <vocabulary file> <output file>\n" +
+"    Parses a vocabulary file of beta code and writes it out as a compiled\n" +
+"    vocabulary.");
+			System.exit(1);
+		}
+
+		VocabParser parser = new VocabParser(new BetaCodeBestEffortConverter());
+		VocabLexiconBuilder builder = new VocabLexiconBuilder();
+		try {
+			VocabParser.Result result = parser.parseParallel(Paths.get(args[0]), ForkJoinPool.commonPool());
+			for(VocabParser.Malformed m : result.getMalformed()) {
+				System.err.println(args[0] + ": " + m);
+			}
+			builder.addAll(result.getEntries());
+			builder.write(Paths.get(args[1]));
+		}
+		catch(IOException e) {
+			System.err.println(PROGRAM_NAME + ": " + e.getMessage());
+			System.exit(1);
+		}
+
+	}
+
+}
@@ -1,11 +1,9 @@
 package greek.code;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import greek.spelling.Glyph;
 import greek.spelling.Grapheme;
-import java.util.Map;
 
 /**
  * The basic definitions underlying the so-called "Beta Code" method of encoding
@@ -78,21 +76,22 @@ public enum BetaCode {
 	SPACE(' ', Glyph.SPACE),
 	NEWLINE('\n', Glyph.NEWLINE);
 
-	/* Compile the mapping from characters to glyphs. */
-	private static final Map<Character, Glyph> _charactersToGlyphs =
-		new HashMap<>();
+	/* Compile the mapping from characters to glyphs, indexed by the
+	 character, since every beta code character is ASCII. */
+	private static final Glyph[] _charactersToGlyphs = new Glyph[128];
 	static {
 		for(BetaCode c : BetaCode.values()) {
-			_charactersToGlyphs.put(c.getCharacter(), c.getGlyph());
+			_charactersToGlyphs[c.getCharacter()] = c.getGlyph();
 		}
 	}
 	
-	/* Compile the reverse mapping. */
-	private static final Map<Glyph, Character> _glyphsToCharacters =
-		new HashMap<>();
+	/* Compile the reverse mapping, indexed by the ordinal of the glyph, with
+	 0 for none. */
+	private static final char[] _glyphsToCharacters =
+		new char[Glyph.values().length];
 	static {
 		for(BetaCode c : BetaCode.values()) {
-			_glyphsToCharacters.put(c.getGlyph(), c.getCharacter());
+			_glyphsToCharacters[c.getGlyph().ordinal()] = c.getCharacter();
 		}
 	}
 	
@@ -126,7 +125,7 @@ public enum BetaCode {
 	 * @return 
 	 */
 	public static boolean isBetaCode(char c) {
-		return _charactersToGlyphs.containsKey(c);
+		return c < _charactersToGlyphs.length && _charactersToGlyphs[c] != null;
 	}
 
 	/**
@@ -135,7 +134,7 @@ public enum BetaCode {
 	 * @return The corresponding glyph, or null if c is not a beta code letter.
 	 */
 	public static Glyph betaCodeToGlyph(char c) {
-		return _charactersToGlyphs.get(c);
+		return c < _charactersToGlyphs.length ? _charactersToGlyphs[c] : null;
 	}
 
 	/**
@@ -144,7 +143,9 @@ public enum BetaCode {
 	 * @return The corresponding beta code character.
 	 */
 	public static Character glyphToBetaCode(Glyph c) {
-		return _glyphsToCharacters.get(c);
+		if(c == null) return null;
+		char result = _glyphsToCharacters[c.ordinal()];
+		return result == 0 ? null : result;
 	}
 
 	/**
@@ -199,16 +200,19 @@ public enum BetaCode {
 	}
 
 	public static String betaCodeToPrecombinedUnicode(String betaCode) {
-		String result = "";
-		ArrayList<Grapheme> letters = betaCodeToLetters(betaCode);
+		List<Grapheme> letters = betaCodeToLetters(betaCode);
 		if(letters == null) return null;
+		if(letters.isEmpty()) return "";
+		letters = terminateLetters(letters);
+		if(letters == null) return null;
+		StringBuilder result = new StringBuilder(letters.size());
 		Character tempChar;
-		for(Grapheme c : terminateLetters(betaCodeToLetters(betaCode))) {
+		for(Grapheme c : letters) {
 			tempChar = Unicode.toPrecombinedCharacter(c);
 			if(tempChar == null) return null;
-			result += tempChar;
+			result.append(tempChar);
 		}
-		return result;
+		return result.toString();
 	}
 
 	public static Grapheme makeLetter(String betaCode) {
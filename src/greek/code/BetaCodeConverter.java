@@ -1,5 +1,7 @@
 package greek.code;
 
+import greek.metrics.Flight;
+import greek.metrics.Metrics;
 import greek.spelling.Glyph;
 import java.util.ArrayList;
 import greek.spelling.Grapheme;
@@ -19,12 +21,19 @@ public class BetaCodeConverter {
 	 * conversion was not possible.
 	 */
 	public final List<Grapheme> toLetters(String betaCode) {
+		long start = Metrics.startTimer();
 		List<ConvertedCharacter> converted = toConvertedCharacters(betaCode);
-		if(converted == null) return null;
+		if(converted == null) {
+			Metrics.conversionFailed(betaCode.length(), Metrics.Failure.NON_BETA_CODE, start);
+			return null;
+		}
 		ArrayList<Grapheme> result = new ArrayList<>();
+		int graphemes = 0;
 		for(ConvertedCharacter c : converted) {
 			result.add(c.getGreekLetter());
+			if(c.hasGreekLetter()) ++graphemes;
 		}
+		Metrics.converted(betaCode.length(), graphemes, start);
 		return result;
 	}
 
@@ -36,19 +45,36 @@ public class BetaCodeConverter {
 	 * beta code conversion was not possible.
 	 */
 	public final String toPrecombinedUnicode(String betaCode) {
+		long start = Metrics.startTimer();
+		Object event = Flight.begin(Flight.BETA_CODE_CONVERSION);
 		StringBuilder buffer = new StringBuilder();
 		List<ConvertedCharacter> letters = toConvertedCharacters(betaCode);
-		if(letters == null) return null;
+		if(letters == null) {
+			Metrics.conversionFailed(betaCode.length(), Metrics.Failure.NON_BETA_CODE, start);
+			Flight.end(event, betaCode.length(), "non beta code");
+			return null;
+		}
 		Character tempChar;
+		int graphemes = 0;
 		for(ConvertedCharacter c : letters) {
 			tempChar = c.toCharacter();
 			if(tempChar == null) {
 				String placeholder = onNonexistantCharacter(c);
-				if(placeholder == null) return null;
+				if(placeholder == null) {
+					Metrics.conversionFailed(betaCode.length(), Metrics.Failure.NO_CODE_POINT, start);
+					Flight.end(event, betaCode.length(), "no code point");
+					return null;
+				}
+				Metrics.fallback();
 				buffer.append(placeholder);
 			}
-			else buffer.append(tempChar);
+			else {
+				buffer.append(tempChar);
+				if(c.hasGreekLetter()) ++graphemes;
+			}
 		}
+		Metrics.converted(betaCode.length(), graphemes, start);
+		Flight.end(event, betaCode.length(), Flight.OK);
 		return buffer.toString();
 	}
 
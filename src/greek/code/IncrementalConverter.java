@@ -0,0 +1,256 @@
+package greek.code;
+
+import greek.util.GapBuffer;
+import java.util.Arrays;
+
+/**
+ * Keeps a document of beta code converted to precombined Unicode as it is
+ * edited, reconverting only the words an edit touches.
+ *
+ * The document is divided into segments, each a run of characters other than
+ * whitespace followed by the whitespace after it. No grapheme spans
+ * whitespace, and whitespace is never a Greek letter, so the terminal sigma
+ * and the best-effort capitalization of a letter only ever depend on the
+ * other letters of its segment, and converting the segments one by one gives
+ * the same result as converting the whole document at once. An edit
+ * reconverts the segments it overlaps along with the one on either side of
+ * it, which may be joined to it or split from it.
+ *
+ * The beta code and the Unicode are kept in gap buffers, and the lengths of
+ * the segments in a third gap, so that a run of edits near one another each
+ * take time in proportion to the words edited rather than the length of the
+ * document. A document with no whitespace at all is a single segment.
+ *
+ * An incremental converter is not safe for use by more than one thread.
+ */
+public class IncrementalConverter {
+
+	/**
+	 * The change an edit made to the Unicode output, which can be applied
+	 * to a copy of the output kept elsewhere.
+	 */
+	public static final class Change {
+
+		private final int _offset;
+		private final int _removed;
+		private final String _inserted;
+
+		private Change(int offset, int removed, String inserted) {
+			_offset = offset;
+			_removed = removed;
+			_inserted = inserted;
+		}
+
+		/**
+		 * Get the position in the output at which the change begins.
+		 * @return
+		 */
+		public int getOffset() {
+			return _offset;
+		}
+
+		/**
+		 * Get the number of characters of the output removed.
+		 * @return
+		 */
+		public int getRemoved() {
+			return _removed;
+		}
+
+		/**
+		 * Get the characters put in their place.
+		 * @return
+		 */
+		public String getInserted() {
+			return _inserted;
+		}
+
+		@Override
+		public String toString() {
+			return "<" + _offset + ", " + _removed + ", " + _inserted + ">";
+		}
+
+	}
+
+	private final BetaCodeConverter _converter;
+	private final GapBuffer _input = new GapBuffer();
+	private final GapBuffer _output = new GapBuffer();
+
+	/* The input and output lengths of each segment, and whether it could be
+	 converted, with a gap between _gapStart and _gapEnd. */
+	private int[] _inLengths = new int[16];
+	private int[] _outLengths = new int[16];
+	private boolean[] _failed = new boolean[16];
+	private int _gapStart = 0;
+	private int _gapEnd = 16;
+
+	/* The input and output positions of the gap. */
+	private int _inBefore = 0;
+	private int _outBefore = 0;
+
+	/* The number of segments which could not be converted. */
+	private int _failures = 0;
+
+	/**
+	 * Create a converter for an empty document.
+	 * @param converter Converts each segment.
+	 */
+	public IncrementalConverter(BetaCodeConverter converter) {
+		_converter = converter;
+	}
+
+	/**
+	 * Replace a range of the beta code and bring the output up to date.
+	 * @param offset Where the range begins in the beta code.
+	 * @param removed The number of characters removed.
+	 * @param inserted The characters put in their place.
+	 * @return The change made to the output.
+	 */
+	public Change edit(int offset, int removed, String inserted) {
+		int length = _input.length();
+		if(offset < 0 || removed < 0 || offset + removed > length) {
+			throw new IndexOutOfBoundsException("edit at " + offset + " of " + removed + ", length " + length);
+		}
+		int inStart = 0, inEnd = 0, outStart = 0, outEnd = 0;
+		if(segmentCount() > 0) {
+			// From the segment before the edit to the one after it
+			seek(Math.max(offset - 1, 0));
+			inStart = inEnd = _inBefore;
+			outStart = outEnd = _outBefore;
+			do {
+				inEnd += _inLengths[_gapEnd];
+				outEnd += _outLengths[_gapEnd];
+				if(_failed[_gapEnd]) --_failures;
+				++_gapEnd;
+			} while(_gapEnd < _inLengths.length && inEnd <= offset + removed);
+		}
+		StringBuilder text = new StringBuilder(inEnd - inStart - removed + inserted.length());
+		_input.appendTo(text, inStart, offset);
+		text.append(inserted);
+		_input.appendTo(text, offset + removed, inEnd);
+		_input.replace(offset, removed, inserted);
+		String out = convertSegments(text);
+		_output.replace(outStart, outEnd - outStart, out);
+		return new Change(outStart, outEnd - outStart, out);
+	}
+
+	/**
+	 * Replace the whole document.
+	 * @param betaCode
+	 * @return The change made to the output.
+	 */
+	public Change setText(String betaCode) {
+		return edit(0, _input.length(), betaCode);
+	}
+
+	/**
+	 * Get the beta code of the document.
+	 * @return
+	 */
+	public String getBetaCode() {
+		return _input.toString();
+	}
+
+	/**
+	 * Get the document as precombined Unicode.
+	 * @return The Unicode, or null if some word could not be converted.
+	 */
+	public String getUnicode() {
+		return _failures == 0 ? _output.toString() : null;
+	}
+
+	/**
+	 * Get the output as it stands, with any word which could not be
+	 * converted left as beta code.
+	 * @return
+	 */
+	public CharSequence getOutput() {
+		return _output;
+	}
+
+	/**
+	 * Tell whether every word of the document could be converted.
+	 * @return
+	 */
+	public boolean isValid() {
+		return _failures == 0;
+	}
+
+	private int segmentCount() {
+		return _gapStart + _inLengths.length - _gapEnd;
+	}
+
+	/* Move the gap to just before the segment which contains a position of
+	 the input, or the last segment if the position is at the end. */
+	private void seek(int position) {
+		while(_gapStart > 0 && _inBefore > position) {
+			--_gapStart;
+			--_gapEnd;
+			_inLengths[_gapEnd] = _inLengths[_gapStart];
+			_outLengths[_gapEnd] = _outLengths[_gapStart];
+			_failed[_gapEnd] = _failed[_gapStart];
+			_inBefore -= _inLengths[_gapEnd];
+			_outBefore -= _outLengths[_gapEnd];
+		}
+		while(_gapEnd + 1 < _inLengths.length && _inBefore + _inLengths[_gapEnd] <= position) {
+			_inLengths[_gapStart] = _inLengths[_gapEnd];
+			_outLengths[_gapStart] = _outLengths[_gapEnd];
+			_failed[_gapStart] = _failed[_gapEnd];
+			_inBefore += _inLengths[_gapStart];
+			_outBefore += _outLengths[_gapStart];
+			++_gapStart;
+			++_gapEnd;
+		}
+	}
+
+	/* Divide text into segments, convert each, and put them in the gap. */
+	private String convertSegments(CharSequence text) {
+		StringBuilder result = new StringBuilder(text.length());
+		int i = 0, n = text.length();
+		while(i < n) {
+			int start = i;
+			while(i < n && !Character.isWhitespace(text.charAt(i))) ++i;
+			while(i < n && Character.isWhitespace(text.charAt(i))) ++i;
+			String segment = text.subSequence(start, i).toString();
+			String converted = _converter.toPrecombinedUnicode(segment);
+			boolean failed = converted == null;
+			if(failed) {
+				converted = segment;
+				++_failures;
+			}
+			result.append(converted);
+			addSegment(segment.length(), converted.length(), failed);
+		}
+		return result.toString();
+	}
+
+	private void addSegment(int inLength, int outLength, boolean failed) {
+		if(_gapStart == _gapEnd) grow();
+		_inLengths[_gapStart] = inLength;
+		_outLengths[_gapStart] = outLength;
+		_failed[_gapStart] = failed;
+		++_gapStart;
+		_inBefore += inLength;
+		_outBefore += outLength;
+	}
+
+	/* Double the segment arrays, keeping the segments after the gap at the
+	 end. */
+	private void grow() {
+		int after = _inLengths.length - _gapEnd;
+		int capacity = _inLengths.length * 2;
+		_inLengths = widen(_inLengths, capacity, after);
+		_outLengths = widen(_outLengths, capacity, after);
+		boolean[] failed = Arrays.copyOf(_failed, capacity);
+		System.arraycopy(_failed, _gapEnd, failed, capacity - after, after);
+		_failed = failed;
+		_gapEnd = capacity - after;
+	}
+
+	private static int[] widen(int[] values, int capacity, int after) {
+		int[] result = Arrays.copyOf(values, capacity);
+		System.arraycopy(values, values.length - after, result, capacity - after, after);
+		return result;
+	}
+
+}
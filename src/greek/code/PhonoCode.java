@@ -1,5 +1,6 @@
 package greek.code;
 
+import greek.metrics.Flight;
 import greek.morphology.Morpheme;
 import greek.phonology.Phoneme;
 import greek.phonology.Phoneme.Modifier;
@@ -100,9 +101,15 @@ public enum PhonoCode {
 	 * @return The morpheme or null if the conversion failed.
 	 */
 	public static Morpheme toMorpheme(String phonoCode) {
+		Object event = Flight.begin(Flight.PHONO_CODE_PARSE);
 		List<PitchedPhoneme> phonemes = toPhonemes(phonoCode);
-		if(phonemes == null) return null;
-		return new Morpheme(phonemes);
+		if(phonemes == null) {
+			Flight.end(event, phonoCode.length(), "invalid phono code");
+			return null;
+		}
+		Morpheme result = new Morpheme(phonemes);
+		Flight.end(event, phonoCode.length(), Flight.OK);
+		return result;
 	}
 
 	/**
@@ -0,0 +1,258 @@
+package greek.code;
+
+import greek.spelling.Glyph;
+
+/**
+ * A tokenizer for Unicode Greek text. Rather than producing a substring for
+ * each token, the tokenizer records each token as an offset, length, and kind
+ * in an internal integer buffer which is reused from one call to the next.
+ * Elided words keep their trailing apostrophe, and the Greek question mark and
+ * raised dot are recognized along with the other punctuation marks which have
+ * a Unicode representation.
+ */
+public class Tokenizer {
+
+	/**
+	 * The kinds of tokens.
+	 */
+	public enum Kind {
+
+		/**
+		 * A word, possibly ending in an apostrophe marking elision.
+		 */
+		WORD,
+
+		/**
+		 * A single punctuation mark which does not end a sentence.
+		 */
+		PUNCTUATION,
+
+		/**
+		 * A single punctuation mark which ends a sentence.
+		 */
+		SENTENCE_END;
+	}
+
+	private static final Kind[] _kinds = Kind.values();
+
+	/* The number of integers used to store each token. */
+	private static final int STRIDE = 3;
+
+	/* The apostrophe marking elision. */
+	private static final char APOSTROPHE = Unicode.punctuationToUnicode(Glyph.APOSTROPHE);
+
+	/* A bit set over the basic multilingual plane marking punctuation. */
+	private static final long[] _punctuationBits = new long[0x10000 / 64];
+	static {
+		for(Glyph g : Glyph.values()) {
+			if(g.isPunctuation()) {
+				Character c = Unicode.punctuationToUnicode(g);
+				if(c != null && !Character.isWhitespace(c)) addPunctuation(c);
+			}
+		}
+		// Unicode canonically decomposes the question mark and raised
+		// dot to these characters, which are often used in their place.
+		addPunctuation(';');
+		addPunctuation((char) 0x00B7);
+		addPunctuation('?');
+		addPunctuation('!');
+		addPunctuation(':');
+	}
+
+	private int[] _spans;
+	private int _size;
+
+	/**
+	 * Initialize the tokenizer with an empty buffer.
+	 */
+	public Tokenizer() {
+		_spans = new int[STRIDE * 64];
+		_size = 0;
+	}
+
+	private static void addPunctuation(char c) {
+		_punctuationBits[c >>> 6] |= 1L << c;
+	}
+
+	/**
+	 * Tell whether a character is a punctuation mark.
+	 * @param c
+	 * @return 
+	 */
+	public static boolean isPunctuation(char c) {
+		return (_punctuationBits[c >>> 6] & (1L << c)) != 0;
+	}
+
+	/**
+	 * Tell whether a character is a punctuation mark which ends a sentence.
+	 * The Greek question mark is included, but the raised dot, which marks
+	 * a pause within a sentence, is not.
+	 * @param c
+	 * @return 
+	 */
+	public static boolean isSentenceEnd(char c) {
+		return c == '.' || c == 0x037E || c == ';' || c == '?' || c == '!';
+	}
+
+	/**
+	 * Tell whether a character may be part of a word. This includes
+	 * letters, digits, combining diacritics, and the free-standing Greek
+	 * diacritics.
+	 * @param c
+	 * @return 
+	 */
+	public static boolean isWordCharacter(char c) {
+		if(isPunctuation(c)) return false;
+		return Character.isLetterOrDigit(c) ||
+			Character.getType(c) == Character.NON_SPACING_MARK ||
+			Unicode.isGreekCharacter(c);
+	}
+
+	/**
+	 * Tokenize a string of text, replacing the tokens from any previous
+	 * call.
+	 * @param text
+	 * @return The number of tokens found.
+	 */
+	public int tokenize(CharSequence text) {
+		return tokenize(text, 0, text.length());
+	}
+
+	/**
+	 * Tokenize a range of a string of text, replacing the tokens from any
+	 * previous call. Offsets are relative to the start of the whole
+	 * string, not the range.
+	 * @param text
+	 * @param start The index of the first character to tokenize.
+	 * @param end The index just past the last character to tokenize.
+	 * @return The number of tokens found.
+	 */
+	public int tokenize(CharSequence text, int start, int end) {
+		_size = 0;
+		int i = start;
+		char c;
+		while(i < end) {
+			c = text.charAt(i);
+			if(isWordCharacter(c)) {
+				int begin = i++;
+				while(i < end && isWordCharacter(text.charAt(i))) ++i;
+				// An apostrophe directly after a word marks
+				// elision and belongs to the word.
+				if(i < end && text.charAt(i) == APOSTROPHE) ++i;
+				addToken(begin, i - begin, Kind.WORD);
+			}
+			else if(isPunctuation(c)) {
+				addToken(i, 1, isSentenceEnd(c) ? Kind.SENTENCE_END : Kind.PUNCTUATION);
+				++i;
+			}
+			else {
+				// White space and unrecognized characters
+				// separate tokens but are not tokens.
+				++i;
+			}
+		}
+		return _size;
+	}
+
+	private void addToken(int offset, int length, Kind kind) {
+		int j = _size * STRIDE;
+		if(j + STRIDE > _spans.length) {
+			int[] grown = new int[_spans.length * 2];
+			System.arraycopy(_spans, 0, grown, 0, j);
+			_spans = grown;
+		}
+		_spans[j] = offset;
+		_spans[j + 1] = length;
+		_spans[j + 2] = kind.ordinal();
+		++_size;
+	}
+
+	/**
+	 * Get the number of tokens found by the last call to tokenize.
+	 * @return 
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Get the offset of token i in the text.
+	 * @param i
+	 * @return 
+	 */
+	public int getOffset(int i) {
+		return _spans[checkIndex(i) * STRIDE];
+	}
+
+	/**
+	 * Get the length of token i.
+	 * @param i
+	 * @return 
+	 */
+	public int getLength(int i) {
+		return _spans[checkIndex(i) * STRIDE + 1];
+	}
+
+	/**
+	 * Get the offset just past the end of token i.
+	 * @param i
+	 * @return 
+	 */
+	public int getEnd(int i) {
+		return getOffset(i) + getLength(i);
+	}
+
+	/**
+	 * Get the kind of token i.
+	 * @param i
+	 * @return 
+	 */
+	public Kind getKind(int i) {
+		return _kinds[_spans[checkIndex(i) * STRIDE + 2]];
+	}
+
+	/**
+	 * Tell whether token i is a word.
+	 * @param i
+	 * @return 
+	 */
+	public boolean isWord(int i) {
+		return getKind(i) == Kind.WORD;
+	}
+
+	/**
+	 * Tell whether token i ends a sentence.
+	 * @param i
+	 * @return 
+	 */
+	public boolean endsSentence(int i) {
+		return getKind(i) == Kind.SENTENCE_END;
+	}
+
+	/**
+	 * Tell whether token i is an elided word ending in an apostrophe.
+	 * @param text The text last passed to tokenize.
+	 * @param i
+	 * @return 
+	 */
+	public boolean isElided(CharSequence text, int i) {
+		return isWord(i) && text.charAt(getEnd(i) - 1) == APOSTROPHE;
+	}
+
+	/**
+	 * Copy token i out of the text. This allocates a new string, so it is
+	 * meant for convenience rather than bulk processing.
+	 * @param text The text last passed to tokenize.
+	 * @param i
+	 * @return 
+	 */
+	public String getToken(CharSequence text, int i) {
+		return text.subSequence(getOffset(i), getEnd(i)).toString();
+	}
+
+	private int checkIndex(int i) {
+		if(i < 0 || i >= _size) throw new IndexOutOfBoundsException("token " + i + " of " + _size);
+		return i;
+	}
+
+}
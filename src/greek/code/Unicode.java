@@ -1,7 +1,9 @@
 package greek.code;
 
+import greek.metrics.Flight;
 import greek.spelling.Grapheme;
 import greek.spelling.Glyph;
+import java.text.Normalizer;
 import java.util.List;
 
 /**
@@ -193,19 +195,74 @@ public class Unicode {
 		return result;
 	}
 
+	/* The letters with tonos, and the same letters with oxia, to which they
+	 are canonically equivalent. NFC gives the first, while the tables here
+	 know only the second. */
+	private static final String TONOS =
+		"\u0386\u0388\u0389\u038a\u038c\u038e\u038f\u0390" +
+		"\u03ac\u03ad\u03ae\u03af\u03b0\u03cc\u03cd\u03ce";
+	private static final String OXIA =
+		"\u1fbb\u1fc9\u1fcb\u1fdb\u1ff9\u1feb\u1ffb\u1fd3" +
+		"\u1f71\u1f73\u1f75\u1f77\u1fe3\u1f79\u1f7b\u1f7d";
+
+	/**
+	 * Convert a string of Unicode characters to beta code. The string may
+	 * be in any normal form, and letters with tonos are read as the same
+	 * letters with oxia. Characters which are not used in Greek script are
+	 * passed along unchanged.
+	 * @param unicode
+	 * @return 
+	 */
+	public static String toBetaCode(CharSequence unicode) {
+		CharSequence text = composed(unicode);
+		StringBuilder result = new StringBuilder(2 * text.length());
+		for(int i = 0; i < text.length(); ++i) {
+			char u = withOxia(text.charAt(i));
+			Grapheme g = toGrapheme(u);
+			String b = g == null ? null : BetaCode.letterToBetaCode(g);
+			if(b == null || b.isEmpty()) result.append(u);
+			else result.append(b);
+		}
+		return result.toString();
+	}
+
+	/* Compose any combining diacritics with their letters. Text without
+	 them is left alone, so that the normalizer is only loaded when it is
+	 needed. */
+	private static CharSequence composed(CharSequence unicode) {
+		for(int i = 0; i < unicode.length(); ++i) {
+			char c = unicode.charAt(i);
+			if(c >= 0x0300 && c <= 0x036F) return Normalizer.normalize(unicode, Normalizer.Form.NFC);
+		}
+		return unicode;
+	}
+
+	/* The letter with oxia equivalent to a letter with tonos, or else the
+	 character itself. */
+	private static char withOxia(char u) {
+		if(u < 0x0386 || u > 0x03CE) return u;
+		int i = TONOS.indexOf(u);
+		return i < 0 ? u : OXIA.charAt(i);
+	}
+
 	/**
 	 * Convert a list of graphemes to a string of Unicode characters.
 	 * @param graphemes
 	 * @return The converted string or null if the conversion failed.
 	 */
 	public static String toPrecombinedUnicode(List<Grapheme> graphemes) {
+		Object event = Flight.begin(Flight.UNICODE_RENDERING);
 		StringBuilder result = new StringBuilder(graphemes.size());
 		Character c;
 		for(Grapheme g : graphemes) {
 			c = Unicode.toPrecombinedCharacter(g);
-			if(c == null) return null;
+			if(c == null) {
+				Flight.end(event, graphemes.size(), "no code point");
+				return null;
+			}
 			result.append(c);
 		}
+		Flight.end(event, graphemes.size(), Flight.OK);
 		return result.toString();
 	}
 
@@ -0,0 +1,108 @@
+package greek.devel;
+
+import greek.service.ConversionServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a conversion server on this machine and loads it with a number of
+ * client threads for a while, then prints the throughput, the latencies, and
+ * how many requests were turned away. Each client sends a batch of beta code
+ * lines and a paradigm request in turn.
+ *
+ * Arguments: client threads, seconds, and the server's request limit.
+ */
+public class ServerLoadTest {
+
+	private static final String BATCH =
+		"lo/gos\na)/nqrwpos\nh( yuxh/\ntw=| lo/gw|\nlu/w\n";
+
+	public static void main(String [] args) throws Exception {
+
+		int clients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		int limit = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+		ConversionServer server = new ConversionServer(new InetSocketAddress("127.0.0.1", 0), limit);
+		server.start();
+		String base = "http://127.0.0.1:" + server.getAddress().getPort();
+		URL betaCode = new URL(base + "/betacode");
+		URL paradigm = new URL(base + "/paradigm?stem=lu&class=ThematicUncontr");
+
+		AtomicLong ok = new AtomicLong(), rejected = new AtomicLong(), failed = new AtomicLong();
+		long[][] latencies = new long[clients][];
+		long end = System.nanoTime() + seconds * 1000000000L;
+		Thread[] threads = new Thread[clients];
+		for(int t = 0; t < clients; ++t) {
+			final int id = t;
+			threads[t] = new Thread(() -> {
+				long[] mine = new long[1024];
+				int n = 0;
+				while(System.nanoTime() < end) {
+					long start = System.nanoTime();
+					int status;
+					try {
+						status = (n & 1) == 0 ? request(betaCode, BATCH) : request(paradigm, null);
+					}
+					catch(IOException e) {
+						status = -1;
+					}
+					if(status == 200) ok.incrementAndGet();
+					else if(status == 503) rejected.incrementAndGet();
+					else failed.incrementAndGet();
+					if(n == mine.length) mine = Arrays.copyOf(mine, 2 * n);
+					mine[n++] = System.nanoTime() - start;
+				}
+				latencies[id] = Arrays.copyOf(mine, n);
+			});
+			threads[t].start();
+		}
+		for(Thread t : threads) t.join();
+		server.stop(0);
+
+		long[] all = new long[0];
+		for(long[] l : latencies) {
+			int n = all.length;
+			all = Arrays.copyOf(all, n + l.length);
+			System.arraycopy(l, 0, all, n, l.length);
+		}
+		Arrays.sort(all);
+		System.out.println(String.format(
+			"%d clients, limit %d: %.0f requests/s, %d ok, %d rejected, %d failed, p50 %.2f ms, p99 %.2f ms",
+			clients, limit, all.length / (double) seconds, ok.get(), rejected.get(), failed.get(),
+			percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6));
+
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, p * sorted.length)];
+	}
+
+	private static int request(URL url, String body) throws IOException {
+		HttpURLConnection c = (HttpURLConnection) url.openConnection();
+		if(body != null) {
+			c.setRequestMethod("POST");
+			c.setDoOutput(true);
+			try(OutputStream out = c.getOutputStream()) {
+				out.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		int status = c.getResponseCode();
+		try(InputStream in = status < 400 ? c.getInputStream() : c.getErrorStream()) {
+			if(in != null) {
+				ByteArrayOutputStream sink = new ByteArrayOutputStream();
+				in.transferTo(sink);
+			}
+		}
+		return status;
+	}
+
+}
@@ -0,0 +1,88 @@
+package greek.devel;
+
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.PhonoCode;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.nominal.DefiniteArticle;
+import greek.morphology.FormAssembler;
+import greek.morphology.verb.ThematicContr;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures how long a fresh JVM takes to make its first conversions, which is
+ * what a short-lived command pays on every run. Each run starts a new JVM on
+ * the same class path, which converts a word of beta code, then makes a
+ * contracted verb form, then renders the definite article, timing each step
+ * from the start of main. The medians over all runs are printed, along with
+ * the median time to start and finish the whole process.
+ *
+ * Arguments: the number of runs, 20 by default.
+ */
+public class StartupBenchmark {
+
+	/**
+	 * The main function.
+	 * @param args
+	 * @throws Exception
+	 */
+	public static void main(String [] args) throws Exception {
+
+		if(args.length == 1 && args[0].equals("-child")) {
+			child();
+			return;
+		}
+
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		String classPath = System.getProperty("java.class.path");
+		long[][] steps = new long[3][runs];
+		long[] process = new long[runs];
+		for(int r = 0; r < runs; ++r) {
+			long start = System.nanoTime();
+			Process p = new ProcessBuilder(java, "-Xshare:auto", "-cp", classPath,
+				StartupBenchmark.class.getName(), "-child").redirectErrorStream(true).start();
+			String line;
+			try(BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
+				line = in.readLine();
+			}
+			if(p.waitFor() != 0 || line == null) throw new IllegalStateException("child failed: " + line);
+			process[r] = System.nanoTime() - start;
+			String[] fields = line.trim().split(" ");
+			for(int i = 0; i < steps.length; ++i) steps[i][r] = Long.parseLong(fields[i]);
+		}
+		System.out.println(String.format(
+			"%d runs (medians): first conversion %.2f ms, first verb form %.2f ms, first article %.2f ms, process %.1f ms",
+			runs, median(steps[0]) / 1e6, median(steps[1]) / 1e6, median(steps[2]) / 1e6, median(process) / 1e6));
+
+	}
+
+	/* Take the first steps and print the time from the start of main to
+	 the end of each. */
+	private static void child() {
+		long start = System.nanoTime();
+		List<Object> sink = new ArrayList<>();
+		sink.add(new BetaCodeBestEffortConverter().toPrecombinedUnicode("lo/gos"));
+		long converted = System.nanoTime();
+		sink.add(new ThematicContr(PhonoCode.toMorpheme("tima"))
+			.getVerbForm(GrammaticalTag.fromVerbIndex(0)).getMorpheme().toUnicode());
+		long generated = System.nanoTime();
+		StringBuilder article = new StringBuilder();
+		new FormAssembler().append(DefiniteArticle.NOM_SING_MASC.getMorpheme(), true, article);
+		sink.add(article);
+		long rendered = System.nanoTime();
+		if(sink.contains(null)) throw new IllegalStateException("a step failed");
+		System.out.println((converted - start) + " " + (generated - start) + " " + (rendered - start));
+	}
+
+	private static long median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+}
@@ -0,0 +1,104 @@
+package greek.devel;
+
+import greek.grammar.nominal.DefiniteArticle;
+import greek.morphology.FormAssembler;
+import greek.morphology.verb.Ending;
+import greek.morphology.verb.VowelContraction;
+import greek.phonology.Phoneme;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes out GeneratedTables, the tables which would otherwise be worked out
+ * from phono code and beta code every time the program starts. Run it again
+ * whenever the phonemes, the endings, the contractions, the forms of the
+ * article, or the way phonemes are written as graphemes and Unicode change;
+ * GeneratedTablesTest fails until it has been.
+ *
+ * Arguments: the file to write, src/greek/morphology/GeneratedTables.java by
+ * default.
+ */
+public class TableGenerator {
+
+	/**
+	 * Where the tables are kept, relative to the top of the project.
+	 */
+	public static final String DEFAULT_PATH = "src/greek/morphology/GeneratedTables.java";
+
+	/* How many characters of a table to write on each line. */
+	private static final int CHUNK = 16;
+
+	/**
+	 * The main function.
+	 * @param args
+	 * @throws IOException
+	 */
+	public static void main(String [] args) throws IOException {
+		Path path = Paths.get(args.length > 0 ? args[0] : DEFAULT_PATH);
+		Files.write(path, generate().getBytes(StandardCharsets.UTF_8));
+		System.out.println("Wrote " + path);
+	}
+
+	/**
+	 * Make the source of GeneratedTables from the definitions as they
+	 * stand.
+	 * @return
+	 */
+	public static String generate() {
+		StringBuilder out = new StringBuilder();
+		out.append("/* Generated by greek.devel.TableGenerator; do not edit. */\n");
+		out.append("package greek.morphology;\n\n");
+		out.append("/**\n");
+		out.append(" * Tables worked out ahead of time from the phono code and beta code\n");
+		out.append(" * definitions, so that they need not be worked out each time the program\n");
+		out.append(" * starts. Each is read back by the class which made it. PHONEMES keeps\n");
+		out.append(" * the phonemes the tables were made from, and each entry of VERB_ENDINGS,\n");
+		out.append(" * DEFINITE_ARTICLES, and VOWEL_CONTRACTIONS the phono code it was made\n");
+		out.append(" * from, so that an entry which no longer fits is worked out afresh rather\n");
+		out.append(" * than read. RENDERINGS also depends on how graphemes are converted to\n");
+		out.append(" * Unicode, which is not checked when it is read; GeneratedTablesTest is\n");
+		out.append(" * the only guard against it going stale.\n");
+		out.append(" */\n");
+		out.append("public final class GeneratedTables {\n\n");
+		out.append("\tprivate GeneratedTables() {\n\t}\n\n");
+		table(out, "Phoneme.definitions", "PHONEMES", Phoneme.definitions());
+		table(out, "FormAssembler.computeRenderingTable", "RENDERINGS", FormAssembler.computeRenderingTable());
+		table(out, "Ending.computeCodeTable", "VERB_ENDINGS", Ending.computeCodeTable());
+		table(out, "DefiniteArticle.computeCodeTable", "DEFINITE_ARTICLES", DefiniteArticle.computeCodeTable());
+		table(out, "VowelContraction.computeTable", "VOWEL_CONTRACTIONS", VowelContraction.computeTable());
+		out.append("}\n");
+		return out.toString();
+	}
+
+	/* Write a table as a string constant, a few characters to a line. */
+	private static void table(StringBuilder out, String source, String name, String value) {
+		out.append("\t/** From ").append(source).append(". */\n");
+		out.append("\tpublic static final String ").append(name).append(" =");
+		if(value.isEmpty()) out.append(" \"\"");
+		for(int i = 0; i < value.length(); i += CHUNK) {
+			if(i > 0) out.append(" +");
+			out.append("\n\t\t\"");
+			for(int j = i; j < Math.min(i + CHUNK, value.length()); ++j) escape(out, value.charAt(j));
+			out.append('"');
+		}
+		out.append(";\n\n");
+	}
+
+	/* Unicode escapes are read before anything else in the source, so line
+	 breaks, quotes, and backslashes must have their own escapes. */
+	private static void escape(StringBuilder out, char c) {
+		switch(c) {
+			case '\n': out.append("\\n"); break;
+			case '\r': out.append("\\r"); break;
+			case '"':  out.append("\\\""); break;
+			case '\\': out.append("\\\\"); break;
+			default:
+				if(c >= ' ' && c < 0x7f) out.append(c);
+				else out.append(String.format("\\u%04x", (int) c));
+		}
+	}
+
+}
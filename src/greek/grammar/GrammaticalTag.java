@@ -0,0 +1,327 @@
+package greek.grammar;
+
+/**
+ * A set of grammatical features packed into a single integer. Each of tense,
+ * voice, mood, person, number, case, and gender occupies a few bits, holding
+ * the feature's ordinal plus one, or zero if the feature is unspecified.
+ *
+ * The tags of complete verb forms (tense, voice, mood, person, and number) and
+ * of complete nominal forms (case, number, and gender) also have a dense index
+ * which numbers them from zero without gaps, so that tables of forms can be
+ * stored in arrays. Tags for complete forms are created once and shared, so
+ * looking them up does not allocate.
+ */
+public final class GrammaticalTag {
+
+	private static final Tense[]  _tenses  = Tense.values();
+	private static final Voice[]  _voices  = Voice.values();
+	private static final Mood[]   _moods   = Mood.values();
+	private static final Person[] _persons = Person.values();
+	private static final Number[] _numbers = Number.values();
+	private static final Case[]   _cases   = Case.values();
+	private static final Gender[] _genders = Gender.values();
+
+	/* The position of each feature in the packed integer. */
+	private static final int TENSE_SHIFT  = 0;
+	private static final int VOICE_SHIFT  = 3;
+	private static final int MOOD_SHIFT   = 5;
+	private static final int PERSON_SHIFT = 8;
+	private static final int NUMBER_SHIFT = 10;
+	private static final int CASE_SHIFT   = 12;
+	private static final int GENDER_SHIFT = 15;
+
+	/* The width of each feature in the packed integer. */
+	private static final int TENSE_MASK  = 0x7;
+	private static final int VOICE_MASK  = 0x3;
+	private static final int MOOD_MASK   = 0x7;
+	private static final int PERSON_MASK = 0x3;
+	private static final int NUMBER_MASK = 0x3;
+	private static final int CASE_MASK   = 0x7;
+	private static final int GENDER_MASK = 0x3;
+
+	/**
+	 * The number of complete verb tags, which is one more than the largest
+	 * verb index.
+	 */
+	public static final int VERB_CELLS = _tenses.length * _voices.length *
+		_moods.length * _persons.length * _numbers.length;
+
+	/**
+	 * The number of complete nominal tags, which is one more than the
+	 * largest nominal index.
+	 */
+	public static final int NOMINAL_CELLS = _cases.length * _numbers.length *
+		_genders.length;
+
+	private static final GrammaticalTag[] _verbTags = new GrammaticalTag[VERB_CELLS];
+	private static final GrammaticalTag[] _nominalTags = new GrammaticalTag[NOMINAL_CELLS];
+	static {
+		for(Tense t : _tenses) {
+			for(Voice v : _voices) {
+				for(Mood m : _moods) {
+					for(Person p : _persons) {
+						for(Number n : _numbers) {
+							_verbTags[verbIndex(t, v, m, p, n)] =
+								new GrammaticalTag(packVerb(t, v, m, p, n));
+						}
+					}
+				}
+			}
+		}
+		for(Case c : _cases) {
+			for(Number n : _numbers) {
+				for(Gender g : _genders) {
+					_nominalTags[nominalIndex(c, n, g)] =
+						new GrammaticalTag(packNominal(c, n, g));
+				}
+			}
+		}
+	}
+
+	private final int _bits;
+
+	private GrammaticalTag(int bits) {
+		_bits = bits;
+	}
+
+	/**
+	 * Get the tag of a complete verb form.
+	 * @param t
+	 * @param v
+	 * @param m
+	 * @param p
+	 * @param n
+	 * @return 
+	 */
+	public static GrammaticalTag verb(Tense t, Voice v, Mood m, Person p, Number n) {
+		return _verbTags[verbIndex(t, v, m, p, n)];
+	}
+
+	/**
+	 * Get the tag of a complete nominal form.
+	 * @param c
+	 * @param n
+	 * @param g
+	 * @return 
+	 */
+	public static GrammaticalTag nominal(Case c, Number n, Gender g) {
+		return _nominalTags[nominalIndex(c, n, g)];
+	}
+
+	/**
+	 * Get the tag of the complete verb form with a given dense index.
+	 * @param i A number from zero up to but not including VERB_CELLS.
+	 * @return 
+	 */
+	public static GrammaticalTag fromVerbIndex(int i) {
+		return _verbTags[i];
+	}
+
+	/**
+	 * Get the tag of the complete nominal form with a given dense index.
+	 * @param i A number from zero up to but not including NOMINAL_CELLS.
+	 * @return 
+	 */
+	public static GrammaticalTag fromNominalIndex(int i) {
+		return _nominalTags[i];
+	}
+
+	/**
+	 * Get the tag with the given packed representation.
+	 * @param bits
+	 * @return 
+	 */
+	public static GrammaticalTag fromBits(int bits) {
+		GrammaticalTag result = new GrammaticalTag(bits);
+		GrammaticalTag shared = null;
+		if(result.isVerb()) shared = _verbTags[result.getIndex()];
+		else if(result.isNominal()) shared = _nominalTags[result.getIndex()];
+		return shared != null && shared._bits == bits ? shared : result;
+	}
+
+	/**
+	 * Compute the dense index of a complete verb form.
+	 * @param t
+	 * @param v
+	 * @param m
+	 * @param p
+	 * @param n
+	 * @return 
+	 */
+	public static int verbIndex(Tense t, Voice v, Mood m, Person p, Number n) {
+		return (((t.ordinal() * _voices.length + v.ordinal()) *
+			_moods.length + m.ordinal()) *
+			_persons.length + p.ordinal()) *
+			_numbers.length + n.ordinal();
+	}
+
+	/**
+	 * Compute the dense index of a complete nominal form.
+	 * @param c
+	 * @param n
+	 * @param g
+	 * @return 
+	 */
+	public static int nominalIndex(Case c, Number n, Gender g) {
+		return (c.ordinal() * _numbers.length + n.ordinal()) *
+			_genders.length + g.ordinal();
+	}
+
+	/**
+	 * Pack the features of a verb form into an integer.
+	 * @param t
+	 * @param v
+	 * @param m
+	 * @param p
+	 * @param n
+	 * @return 
+	 */
+	public static int packVerb(Tense t, Voice v, Mood m, Person p, Number n) {
+		return pack(t, TENSE_SHIFT) | pack(v, VOICE_SHIFT) |
+			pack(m, MOOD_SHIFT) | pack(p, PERSON_SHIFT) |
+			pack(n, NUMBER_SHIFT);
+	}
+
+	/**
+	 * Pack the features of a nominal form into an integer.
+	 * @param c
+	 * @param n
+	 * @param g
+	 * @return 
+	 */
+	public static int packNominal(Case c, Number n, Gender g) {
+		return pack(c, CASE_SHIFT) | pack(n, NUMBER_SHIFT) |
+			pack(g, GENDER_SHIFT);
+	}
+
+	private static int pack(Enum<?> e, int shift) {
+		return e == null ? 0 : (e.ordinal() + 1) << shift;
+	}
+
+	private int field(int shift, int mask) {
+		return ((_bits >>> shift) & mask) - 1;
+	}
+
+	/**
+	 * Get the packed representation of this tag.
+	 * @return 
+	 */
+	public int getBits() {
+		return _bits;
+	}
+
+	/**
+	 * Tell whether this tag has all of the features of a verb form.
+	 * @return 
+	 */
+	public boolean isVerb() {
+		return getTense() != null && getVoice() != null &&
+			getMood() != null && getPerson() != null && getNumber() != null;
+	}
+
+	/**
+	 * Tell whether this tag has all of the features of a nominal form.
+	 * @return 
+	 */
+	public boolean isNominal() {
+		return getCase() != null && getNumber() != null && getGender() != null;
+	}
+
+	/**
+	 * Get the dense index of this tag among verb or nominal forms.
+	 * @return The index, or -1 if the tag is neither a complete verb nor
+	 * a complete nominal tag.
+	 */
+	public int getIndex() {
+		if(isVerb()) return verbIndex(getTense(), getVoice(), getMood(), getPerson(), getNumber());
+		else if(isNominal()) return nominalIndex(getCase(), getNumber(), getGender());
+		else return -1;
+	}
+
+	/**
+	 * Get the tense.
+	 * @return The tense or null if it is unspecified.
+	 */
+	public Tense getTense() {
+		int i = field(TENSE_SHIFT, TENSE_MASK);
+		return i < 0 ? null : _tenses[i];
+	}
+
+	/**
+	 * Get the voice.
+	 * @return The voice or null if it is unspecified.
+	 */
+	public Voice getVoice() {
+		int i = field(VOICE_SHIFT, VOICE_MASK);
+		return i < 0 ? null : _voices[i];
+	}
+
+	/**
+	 * Get the mood.
+	 * @return The mood or null if it is unspecified.
+	 */
+	public Mood getMood() {
+		int i = field(MOOD_SHIFT, MOOD_MASK);
+		return i < 0 ? null : _moods[i];
+	}
+
+	/**
+	 * Get the person.
+	 * @return The person or null if it is unspecified.
+	 */
+	public Person getPerson() {
+		int i = field(PERSON_SHIFT, PERSON_MASK);
+		return i < 0 ? null : _persons[i];
+	}
+
+	/**
+	 * Get the number.
+	 * @return The number or null if it is unspecified.
+	 */
+	public Number getNumber() {
+		int i = field(NUMBER_SHIFT, NUMBER_MASK);
+		return i < 0 ? null : _numbers[i];
+	}
+
+	/**
+	 * Get the case.
+	 * @return The case or null if it is unspecified.
+	 */
+	public Case getCase() {
+		int i = field(CASE_SHIFT, CASE_MASK);
+		return i < 0 ? null : _cases[i];
+	}
+
+	/**
+	 * Get the gender.
+	 * @return The gender or null if it is unspecified.
+	 */
+	public Gender getGender() {
+		int i = field(GENDER_SHIFT, GENDER_MASK);
+		return i < 0 ? null : _genders[i];
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof GrammaticalTag && ((GrammaticalTag) o)._bits == _bits;
+	}
+
+	@Override
+	public int hashCode() {
+		return _bits;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		for(Object feature : new Object[] {getTense(), getVoice(), getMood(),
+			getPerson(), getNumber(), getCase(), getGender()}) {
+			if(feature != null) {
+				if(buffer.length() != 0) buffer.append(' ');
+				buffer.append(feature);
+			}
+		}
+		return buffer.toString();
+	}
+
+}
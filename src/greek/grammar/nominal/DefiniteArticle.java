@@ -3,11 +3,12 @@ package greek.grammar.nominal;
 import greek.code.PhonoCode;
 import greek.grammar.Case;
 import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Number;
+import greek.morphology.GeneratedTables;
 import greek.morphology.Morpheme;
 import greek.morphology.Morpheme.CliticType;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
  * The definite article in its various forms.
@@ -15,8 +16,9 @@ import java.util.HashMap;
  */
 public class DefiniteArticle extends Nominal {
 
-	private static HashMap<ArrayList<Object>, DefiniteArticle> _defArtMapping =
-		new HashMap<>();
+	private static final DefiniteArticle[] _defArtTable =
+		new DefiniteArticle[GrammaticalTag.NOMINAL_CELLS];
+	private static int _defArtCount = 0;
 
 	/* Masculine */
 	public static final DefiniteArticle NOM_SING_MASC = new DefiniteArticle("ho");
@@ -52,12 +54,13 @@ public class DefiniteArticle extends Nominal {
 	public static final DefiniteArticle DAT_PLUR_NEUT = new DefiniteArticle(DAT_PLUR_MASC);
 
 	private int _ordinal;
+	private String _phonoCode;
 
 	private DefiniteArticle(String phonoCode) {
-		super(PhonoCode.toMorpheme(phonoCode),
+		super(ctorMorpheme(phonoCode),
 			new greek.lexeme.DefiniteArticle(),
 			ctorCase(), ctorGender(), ctorNumber());
-		super.getMorpheme().trySetCliticType(CliticType.PROCLITIC);
+		_phonoCode = phonoCode;
 		registerConstant();
 	}
 
@@ -68,22 +71,44 @@ public class DefiniteArticle extends Nominal {
 		registerConstant();
 	}
 
-	private void registerConstant() {
-		_ordinal = _defArtMapping.size();
-		ArrayList<Object> key = makeKey(getCase(), getGender(), getNumber());
-		_defArtMapping.put(key, this);
+	/* Read the morpheme from the table in GeneratedTables, unless the table
+	 was made from something else. */
+	private static Morpheme ctorMorpheme(String phonoCode) {
+		Morpheme m = Morpheme.fromCodeTable(GeneratedTables.DEFINITE_ARTICLES, ctorOrdinal(), phonoCode);
+		return m != null ? m : proclitic(PhonoCode.toMorpheme(phonoCode));
 	}
 
-	private static ArrayList<Object> makeKey(Case c, Gender g, Number n) {
-		ArrayList<Object> result = new ArrayList<>();
-		result.add(c);
-		result.add(g);
-		result.add(n);
-		return result;
+	/**
+	 * Parse the phono code of every form of the article, as a table of
+	 * codes which GeneratedTables keeps ready-made. The forms which are the
+	 * same as another have null entries.
+	 * @return
+	 */
+	public static String computeCodeTable() {
+		String[] sources = new String[_defArtCount];
+		Morpheme[] result = new Morpheme[_defArtCount];
+		for(DefiniteArticle a : _defArtTable) {
+			if(a != null && a._phonoCode != null) {
+				sources[a._ordinal] = a._phonoCode;
+				result[a._ordinal] = proclitic(PhonoCode.toMorpheme(a._phonoCode));
+			}
+		}
+		return Morpheme.toCodeTable(Arrays.asList(sources), Arrays.asList(result));
+	}
+
+	/* The unaccented forms of the article are proclitic. */
+	private static Morpheme proclitic(Morpheme m) {
+		Morpheme result = m.withCliticType(CliticType.PROCLITIC);
+		return result == null ? m : result;
+	}
+
+	private void registerConstant() {
+		_ordinal = _defArtCount++;
+		_defArtTable[getTag().getIndex()] = this;
 	}
 
 	private static int ctorOrdinal() {
-		return _defArtMapping.size();
+		return _defArtCount;
 	}
 
 	private static Case ctorCase() {
@@ -107,17 +132,7 @@ public class DefiniteArticle extends Nominal {
 	 * @return 
 	 */
 	public static DefiniteArticle getDefiniteArticle(Case c, Gender g, Number n) {
-		ArrayList<Object> key = makeKey(c, g, n);
-		return _defArtMapping.containsKey(key) ? _defArtMapping.get(key) : null;
-	}
-
-	/**
-	 * Get the morpheme associated with this form of the definite article.
-	 * @return 
-	 */
-	@Override
-	public Morpheme getMorpheme() {
-		return (Morpheme) super.getMorpheme().clone();
+		return _defArtTable[GrammaticalTag.nominalIndex(c, n, g)];
 	}
 
 }
@@ -2,6 +2,7 @@ package greek.grammar.nominal;
 
 import greek.grammar.Case;
 import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Number;
 import greek.morphology.Morpheme;
 
@@ -76,4 +77,12 @@ public class Nominal {
 		return _number;
 	}
 
+	/**
+	 * Get the case, number, and gender of this form.
+	 * @return 
+	 */
+	public GrammaticalTag getTag() {
+		return GrammaticalTag.nominal(_case, _number, _gender);
+	}
+
 }
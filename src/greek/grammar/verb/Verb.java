@@ -1,5 +1,6 @@
 package greek.grammar.verb;
 
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Mood;
 import greek.grammar.Person;
 import greek.grammar.Tense;
@@ -83,6 +84,14 @@ public class Verb {
 		return _number;
 	}
 
+	/**
+	 * Get the tense, voice, mood, person, and number of this form.
+	 * @return 
+	 */
+	public GrammaticalTag getTag() {
+		return GrammaticalTag.verb(_tense, _voice, _mood, _person, _number);
+	}
+
 	/**
 	 * Get the morpheme of this form.
 	 * @return 
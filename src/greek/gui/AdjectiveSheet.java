@@ -13,20 +13,18 @@ package greek.gui;
 
 import greek.util.Joiner;
 import greek.code.PhonoCode;
-import greek.code.Unicode;
 import greek.grammar.Case;
 import greek.grammar.Gender;
-import java.util.ArrayList;
+import greek.grammar.GrammaticalTag;
 import java.util.HashMap;
 import javax.swing.JLabel;
 import greek.grammar.Number;
 import greek.lexeme.DefiniteArticle;
 import greek.morphology.Morpheme;
-import greek.spelling.Grapheme;
+import greek.morphology.nominal.Adjective;
 import java.awt.Component;
 import java.awt.Font;
 import java.awt.GridLayout;
-import java.util.List;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 
@@ -38,46 +36,50 @@ public class AdjectiveSheet extends javax.swing.JFrame {
 
 	private static final int COLS = 4;
 
-	private HashMap<ArrayList<Object>, JLabel> labelMapping;
+	/* The time to wait after an edit before redrawing the sheet. */
+	private static final int REFRESH_DELAY = 150;
+
+	/* The text of everything which the sheet shows for a stem. */
+	private static final class Rendering {
+		String stem;
+		String lemma;
+		final String[] forms = new String[GrammaticalTag.NOMINAL_CELLS];
+	}
+
+	private JLabel[] labelMapping;
 	private GridLayout gridLayout;
 	private HashMap<Integer, Font> fontMapping;
 
 	private String phonoCodeStem;
 	private int declensionType;
 
-	private greek.lexeme.Nominal nominal;
+	private Debouncer<Rendering> refresher;
 
     /** Creates new form NominalSheet */
     public AdjectiveSheet() {
         initComponents();
 
-	labelMapping = new HashMap<ArrayList<Object>, JLabel>();
+	labelMapping = new JLabel[GrammaticalTag.NOMINAL_CELLS];
 	gridLayout = (GridLayout) this.chartPanel.getLayout();
 	fontMapping = new HashMap<Integer, Font>();
 
 	phonoCodeStem = null;
 	declensionType = this.declensionSelector.getSelectedIndex();
 
-	this.nominal = null;
+	this.refresher = new Debouncer<Rendering>(REFRESH_DELAY, this::apply, this::showFailure);
 
 	this.stemInputField.getDocument().addDocumentListener(new DocumentListener() {
 
 		public void insertUpdate(DocumentEvent e) {
-			refresh();
+			requestRefresh(false);
 		}
 
 		public void removeUpdate(DocumentEvent e) {
-			refresh();
+			requestRefresh(false);
 		}
 
 		public void changedUpdate(DocumentEvent e) {
-			refresh();
-		}
-
-		private void refresh() {
-			String s = phonoCodeToUnicode(AdjectiveSheet.this.stemInputField.getText());
-			if(s != null && !s.isEmpty()) AdjectiveSheet.this.stemDisplayLabel.setText(s + "-");
-			else AdjectiveSheet.this.stemDisplayLabel.setText(" ");
+			requestRefresh(false);
 		}
 		
 	});
@@ -85,14 +87,11 @@ public class AdjectiveSheet extends javax.swing.JFrame {
 	buildChart();
     }
 
-    private static String phonoCodeToUnicode(String phonoCode) {
-	    Morpheme m = PhonoCode.toMorpheme(phonoCode);
-	    if(m == null) return null;
-	    List<Grapheme> g = m.getGraphemes(false);
-	    if(g == null) return null;
-	    String s = Unicode.toPrecombinedUnicode(g);
-	    if(s == null) return null;
-	    return s;
+    private static String stemText(Morpheme m) {
+	    if(m == null) return " ";
+	    String s = m.toUnicode(false);
+	    if(s == null || s.isEmpty()) return " ";
+	    return s + "-";
     }
 
     private void buildChart() {
@@ -130,15 +129,7 @@ public class AdjectiveSheet extends javax.swing.JFrame {
 
     private JLabel registerLabel(Case c, Number n, Gender g) {
 	    JLabel result = new JLabel(" ");
-	    this.labelMapping.put(makeKey(c, n, g), result);
-	    return result;
-    }
-
-    private ArrayList<Object> makeKey(Case c, Number n, Gender g) {
-	    ArrayList<Object> result = new ArrayList<Object>();
-	    result.add(c);
-	    result.add(n);
-	    result.add(g);
+	    this.labelMapping[GrammaticalTag.nominalIndex(c, n, g)] = result;
 	    return result;
     }
 
@@ -329,55 +320,89 @@ public class AdjectiveSheet extends javax.swing.JFrame {
         }// </editor-fold>//GEN-END:initComponents
 
     private void declensionSelectorActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_declensionSelectorActionPerformed
-	    requestRefresh();
+	    requestRefresh(true);
     }//GEN-LAST:event_declensionSelectorActionPerformed
 
     private void refreshButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_refreshButtonActionPerformed
-	    requestRefresh();
+	    requestRefresh(true);
     }//GEN-LAST:event_refreshButtonActionPerformed
 
-    private void requestRefresh() {
+    /*
+     * Redraw the sheet if the stem or declension has changed. Edits made in
+     * quick succession are redrawn once, after the last of them, unless now
+     * is set. The forms are made on a background thread.
+     */
+    private void requestRefresh(boolean now) {
 	    String stem = this.stemInputField.getText();
 	    int type = this.declensionSelector.getSelectedIndex();
 	    if(stem == null || !stem.equals(this.phonoCodeStem) || type != this.declensionType) {
 		    this.phonoCodeStem = stem;
-		    refreshNominal(type);
-		    refresh();
+		    this.declensionType = type;
+		    if(now) this.refresher.scheduleNow(() -> render(stem, type));
+		    else this.refresher.schedule(() -> render(stem, type));
 	    }
+	    else if(now) this.refresher.flush();
     }
 
-    private void refreshNominal(int type) {
-	    if(type != this.declensionType) {
-		    this.declensionType = type;
-		    this.nominal = makeNominal();
+    /* Make the text of the whole sheet, or return null if the thread is
+     interrupted because a newer rendering has been requested. */
+    private static Rendering render(String phonoCode, int type) {
+	    Rendering result = new Rendering();
+	    Morpheme stem = PhonoCode.toMorpheme(phonoCode);
+	    result.stem = stemText(stem);
+	    greek.lexeme.Nominal nominal = makeNominal(stem, type);
+	    result.lemma = getLemmaText(nominal);
+	    for(int i = 0; i < result.forms.length; ++i) {
+		    if(Thread.currentThread().isInterrupted()) return null;
+		    result.forms[i] = getLabelText(nominal, GrammaticalTag.fromNominalIndex(i));
 	    }
+	    return result;
     }
 
-    private greek.lexeme.Nominal makeNominal() {
-	    switch(this.declensionType) {
-		    case 0: return null;
-		    case 1: return new DefiniteArticle();
-		    default: return null;
+    /* Show a rendering, touching only the labels whose text changes. */
+    private void apply(Rendering r) {
+	    setText(this.stemDisplayLabel, r.stem);
+	    setText(this.lemmaDisplayLabel, r.lemma);
+	    for(int i = 0; i < r.forms.length; ++i) {
+		    JLabel label = this.labelMapping[i];
+		    if(label != null) setText(label, r.forms[i]);
 	    }
     }
 
-    private void refresh() {
-	    refreshLemma();
-	    refreshLabels();
+    private static void setText(JLabel label, String text) {
+	    if(!text.equals(label.getText())) label.setText(text);
+    }
+
+    /* Show that the sheet could not be made, rather than leave the last
+     one in place, and forget the stem so that refreshing tries again. */
+    private void showFailure(Exception e) {
+	    this.phonoCodeStem = null;
+	    setText(this.stemDisplayLabel, "<unable to make the forms: " + e.getMessage() + ">");
+	    setText(this.lemmaDisplayLabel, " ");
+	    for(JLabel label : this.labelMapping) {
+		    if(label != null) setText(label, " ");
+	    }
     }
 
-    private void refreshLemma() {
-	    this.lemmaDisplayLabel.setText(getLemmaText());
+    private static greek.lexeme.Nominal makeNominal(Morpheme stem, int type) {
+	    switch(type) {
+		    case 0: {
+			    if(stem == null || stem.isEmpty()) return null;
+			    return new Adjective(stem, Adjective.Terminations.THREE);
+		    }
+		    case 1: return new DefiniteArticle();
+		    default: return null;
+	    }
     }
 
-    private String getLemmaText() {
-	    if(this.nominal == null) return " ";
+    private static String getLemmaText(greek.lexeme.Nominal nominal) {
+	    if(nominal == null) return " ";
 	    else {
 		    greek.util.Joiner joiner = new Joiner(" ");
 		    for(Gender g : Gender.values()) {
-			    greek.grammar.nominal.Nominal nominal =
-				    this.nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, g);
-			    if(nominal != null) joiner.add(morphemeToUnicode(nominal.getMorpheme()));
+			    greek.grammar.nominal.Nominal form =
+				    nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, g);
+			    if(form != null) joiner.add(morphemeToUnicode(form.getMorpheme()));
 		    }
 		    return joiner.result();
 	    }
@@ -385,47 +410,16 @@ public class AdjectiveSheet extends javax.swing.JFrame {
 
     private static String morphemeToUnicode(Morpheme m) {
 	    if(m == null) return " ";
-	    List<Grapheme> graphemes = m.getGraphemes();
-	    if(graphemes == null) return " ";
-	    String s = Unicode.toPrecombinedUnicode(graphemes);
+	    String s = m.toUnicode();
 	    if(s == null) return " ";
 	    return s;
     }
 
-    private void refreshLabels() {
-	    for(Case c : Case.values()) {
-		    for(Number n : Number.values()) {
-			    for(Gender g : Gender.values()) {
-				    refreshLabel(c, n, g);
-			    }
-		    }
-	    }
-    }
-
-    private void refreshLabel(Case c, Number n, Gender g) {
-	    JLabel label = getLabel(c, n, g);
-	    if(label != null) label.setText(getLabelText(c, n, g));
-    }
-
-    private JLabel getLabel(Case c, Number n, Gender g) {
-	    ArrayList<Object> key = makeKey(c, n, g);
-	    if(this.labelMapping.containsKey(key)) {
-		    return this.labelMapping.get(key);
-	    }
-	    else return null;
-    }
-
-    private String getLabelText(Case c, Number n, Gender g) {
-	    if(this.nominal == null) return " ";
-	    greek.grammar.nominal.Nominal nominalForm = this.nominal.getNominalForm(c, n, g);
+    private static String getLabelText(greek.lexeme.Nominal nominal, GrammaticalTag tag) {
+	    if(nominal == null) return " ";
+	    greek.grammar.nominal.Nominal nominalForm = nominal.getNominalForm(tag);
 	    if(nominalForm == null) return " ";
-	    Morpheme morpheme = nominalForm.getMorpheme();
-	    if(morpheme == null) return " ";
-	    List<Grapheme> graphemes = morpheme.getGraphemes();
-	    if(graphemes == null) return " ";
-	    String result = Unicode.toPrecombinedUnicode(graphemes);
-	    if(result == null) return " ";
-	    return result;
+	    return morphemeToUnicode(nominalForm.getMorpheme());
     }
 
     /**
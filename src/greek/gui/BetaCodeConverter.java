@@ -19,8 +19,45 @@ public class BetaCodeConverter extends javax.swing.JFrame {
 
     /** Creates new form BetaCodeConverter */
     public BetaCodeConverter() {
-	    _converter = new greek.code.BetaCodeBestEffortConverter();
+	    _live = new greek.code.IncrementalConverter(new greek.code.BetaCodeBestEffortConverter());
         initComponents();
+	    inputBox.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+		    public void insertUpdate(javax.swing.event.DocumentEvent e) {
+			    try {
+				    applyChange(_live.edit(e.getOffset(), 0, e.getDocument().getText(e.getOffset(), e.getLength())));
+			    }
+			    catch(javax.swing.text.BadLocationException ex) {
+				    resynchronize();
+			    }
+		    }
+		    public void removeUpdate(javax.swing.event.DocumentEvent e) {
+			    applyChange(_live.edit(e.getOffset(), e.getLength(), ""));
+		    }
+		    public void changedUpdate(javax.swing.event.DocumentEvent e) {
+		    }
+	    });
+    }
+
+    /* Patch the output with a change from the incremental converter, which
+     keeps up with the input as it is typed by reconverting only the words
+     edited. Only the changed text is replaced, so a keystroke costs the same
+     however long the document. Words which cannot be converted are shown
+     as beta code. */
+    private void applyChange(greek.code.IncrementalConverter.Change change) {
+	    javax.swing.text.Document output = outputBox.getDocument();
+	    try {
+		    if(change.getRemoved() > 0) output.remove(change.getOffset(), change.getRemoved());
+		    if(!change.getInserted().isEmpty()) output.insertString(change.getOffset(), change.getInserted(), null);
+	    }
+	    catch(javax.swing.text.BadLocationException e) {
+		    outputBox.setText(_live.getOutput().toString());
+	    }
+    }
+
+    /* Convert the whole input again and replace the output. */
+    private void resynchronize() {
+	    _live.setText(inputBox.getText());
+	    outputBox.setText(_live.getOutput().toString());
     }
 
     /** This method is called from within the constructor to
@@ -34,7 +71,8 @@ public class BetaCodeConverter extends javax.swing.JFrame {
 
                 inputBox = new javax.swing.JTextField();
                 convertButton = new javax.swing.JButton();
-                outputBox = new javax.swing.JLabel();
+                outputScrollPane = new javax.swing.JScrollPane();
+                outputBox = new javax.swing.JTextArea();
 
                 setDefaultCloseOperation(javax.swing.WindowConstants.EXIT_ON_CLOSE);
                 setTitle("Beta Code Converter");
@@ -52,7 +90,12 @@ public class BetaCodeConverter extends javax.swing.JFrame {
                         }
                 });
 
-                outputBox.setText("<no input yet>");
+                outputBox.setEditable(false);
+                outputBox.setColumns(40);
+                outputBox.setLineWrap(true);
+                outputBox.setRows(5);
+                outputBox.setWrapStyleWord(true);
+                outputScrollPane.setViewportView(outputBox);
 
                 javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
                 getContentPane().setLayout(layout);
@@ -62,7 +105,7 @@ public class BetaCodeConverter extends javax.swing.JFrame {
                                 .addContainerGap()
                                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.CENTER)
                                         .addComponent(inputBox, javax.swing.GroupLayout.PREFERRED_SIZE, 432, javax.swing.GroupLayout.PREFERRED_SIZE)
-                                        .addComponent(outputBox)
+                                        .addComponent(outputScrollPane, javax.swing.GroupLayout.PREFERRED_SIZE, 432, javax.swing.GroupLayout.PREFERRED_SIZE)
                                         .addComponent(convertButton, javax.swing.GroupLayout.PREFERRED_SIZE, 163, javax.swing.GroupLayout.PREFERRED_SIZE))
                                 .addContainerGap())
                 );
@@ -74,8 +117,8 @@ public class BetaCodeConverter extends javax.swing.JFrame {
                                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                                 .addComponent(convertButton)
                                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
-                                .addComponent(outputBox)
-                                .addContainerGap(javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
+                                .addComponent(outputScrollPane, javax.swing.GroupLayout.DEFAULT_SIZE, 120, Short.MAX_VALUE)
+                                .addContainerGap())
                 );
 
                 pack();
@@ -87,9 +130,7 @@ public class BetaCodeConverter extends javax.swing.JFrame {
 
     private void convertButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_convertButtonActionPerformed
 
-	    String result = _converter.toPrecombinedUnicode(inputBox.getText());
-	    if(result == null) result = "<invalid>";
-	    this.outputBox.setText(result);
+	    resynchronize();
 
     }//GEN-LAST:event_convertButtonActionPerformed
 
@@ -104,12 +145,13 @@ public class BetaCodeConverter extends javax.swing.JFrame {
         });
     }
 
-	private greek.code.BetaCodeConverter _converter;
+	private greek.code.IncrementalConverter _live;
 
         // Variables declaration - do not modify//GEN-BEGIN:variables
         private javax.swing.JButton convertButton;
         private javax.swing.JTextField inputBox;
-        private javax.swing.JLabel outputBox;
+        private javax.swing.JTextArea outputBox;
+        private javax.swing.JScrollPane outputScrollPane;
         // End of variables declaration//GEN-END:variables
 
 }
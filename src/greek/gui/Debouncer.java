@@ -0,0 +1,142 @@
+package greek.gui;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Coalesces requests for a computation which come in quick succession, such
+ * as one for every key typed, into a single run. A run starts once no request
+ * has been made for a short delay. It computes its result on a background
+ * thread and hands it to a consumer on the event dispatch thread. Starting a
+ * run cancels the one before it, and the result of a cancelled run is
+ * dropped. A task may also give up on its own by returning null, which it
+ * should do when it finds that its thread has been interrupted. A task which
+ * throws an exception hands it to a second consumer on the event dispatch
+ * thread instead, unless the run has been cancelled.
+ *
+ * Requests must be made on the event dispatch thread.
+ * @param <R> The type of the result.
+ */
+public class Debouncer<R> {
+
+	/* The threads on which runs are computed. They are daemons so that an
+	 abandoned run does not keep the program alive. */
+	private static final ExecutorService _sharedExecutor = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "debouncer");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final Timer _timer;
+	private final ExecutorService _executor;
+	private final Consumer<R> _consumer;
+	private final Consumer<Exception> _failure;
+	private Callable<R> _pending = null;
+	private Future<?> _running = null;
+	private int _generation = 0;
+
+	/**
+	 * Initialize a debouncer whose runs are computed on threads shared by
+	 * every debouncer.
+	 * @param delay The time in milliseconds for which no request must be
+	 * made before a run starts.
+	 * @param consumer Takes the result of each run which is not cancelled,
+	 * on the event dispatch thread.
+	 * @param failure Takes the exception of each run which fails and is
+	 * not cancelled, on the event dispatch thread.
+	 */
+	public Debouncer(int delay, Consumer<R> consumer, Consumer<Exception> failure) {
+		this(delay, _sharedExecutor, consumer, failure);
+	}
+
+	/**
+	 * Initialize a debouncer whose runs are computed on a given executor.
+	 * @param delay
+	 * @param executor
+	 * @param consumer
+	 * @param failure
+	 */
+	public Debouncer(int delay, ExecutorService executor, Consumer<R> consumer, Consumer<Exception> failure) {
+		_executor = executor;
+		_consumer = consumer;
+		_failure = failure;
+		_timer = new Timer(delay, e -> run());
+		_timer.setRepeats(false);
+	}
+
+	/**
+	 * Request a run, replacing any which has been requested but has not
+	 * started, and restart the delay.
+	 * @param task The computation, which is called on a background thread.
+	 */
+	public void schedule(Callable<R> task) {
+		_pending = task;
+		_timer.restart();
+	}
+
+	/**
+	 * Request a run and start it without waiting for the delay.
+	 * @param task
+	 */
+	public void scheduleNow(Callable<R> task) {
+		_pending = task;
+		flush();
+	}
+
+	/**
+	 * Start the run which has been requested, if any, without waiting for
+	 * the rest of the delay.
+	 */
+	public void flush() {
+		_timer.stop();
+		if(_pending != null) run();
+	}
+
+	/**
+	 * Drop the run which has been requested and cancel the one in progress.
+	 */
+	public void cancel() {
+		_timer.stop();
+		_pending = null;
+		++_generation;
+		if(_running != null) {
+			_running.cancel(true);
+			_running = null;
+		}
+	}
+
+	private void run() {
+		Callable<R> task = _pending;
+		_pending = null;
+		if(task == null) return;
+		if(_running != null) _running.cancel(true);
+		int generation = ++_generation;
+		_running = _executor.submit(() -> {
+			R result;
+			try {
+				result = task.call();
+			}
+			catch(Exception e) {
+				deliver(generation, () -> _failure.accept(e));
+				return;
+			}
+			if(result != null) deliver(generation, () -> _consumer.accept(result));
+		});
+	}
+
+	/* Hand the outcome of a run to the event dispatch thread, where it is
+	 dropped unless the run is still the latest. */
+	private void deliver(int generation, Runnable outcome) {
+		SwingUtilities.invokeLater(() -> {
+			if(generation != _generation) return;
+			_running = null;
+			outcome.run();
+		});
+	}
+
+}
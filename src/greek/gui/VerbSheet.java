@@ -12,24 +12,21 @@
 package greek.gui;
 
 import greek.code.PhonoCode;
-import greek.code.Unicode;
 import greek.grammar.Mood;
 import greek.grammar.Person;
 import greek.grammar.Tense;
 import greek.grammar.Voice;
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Number;
 import greek.morphology.Morpheme;
 import greek.morphology.verb.ThematicContr;
 import greek.morphology.verb.ThematicUncontr;
-import greek.spelling.Grapheme;
 import java.awt.Component;
 import java.awt.Font;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.GridLayout;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.event.DocumentEvent;
@@ -45,13 +42,22 @@ public class VerbSheet extends javax.swing.JFrame {
 
 	private static final int COLS = 6;
 
+	/* The time to wait after an edit before redrawing the sheet. */
+	private static final int REFRESH_DELAY = 150;
+
+	/* The text of everything which the sheet shows for a stem. */
+	private static final class Rendering {
+		String stem;
+		String lemma;
+		final String[] forms = new String[GrammaticalTag.VERB_CELLS];
+	}
+
 	private VerbType verbType;
 	private String phonoCodeStem;
-	private Morpheme stem;
-	private greek.lexeme.Verb verb;
+	private Debouncer<Rendering> refresher;
 	private GridBagLayout gridLayout;
 	private HashMap<Integer, Font> fontMapping;
-	private HashMap<ArrayList<Object>, JLabel> labelMapping;
+	private JLabel[] labelMapping;
 
 	private int gridx;
 	private int gridy;
@@ -61,10 +67,10 @@ public class VerbSheet extends javax.swing.JFrame {
         initComponents();
 	    this.verbType = VerbType.values()[verbTypeSelector.getSelectedIndex()];
 	    this.phonoCodeStem = null;
-	    this.stem = null;
+	    this.refresher = new Debouncer<Rendering>(REFRESH_DELAY, this::apply, this::showFailure);
 
 	    this.fontMapping = new HashMap<Integer, Font>();
-	    this.labelMapping = new HashMap<ArrayList<Object>, JLabel>();
+	    this.labelMapping = new JLabel[GrammaticalTag.VERB_CELLS];
 
 	    this.gridx = 0;
 	    this.gridy = 0;
@@ -72,21 +78,15 @@ public class VerbSheet extends javax.swing.JFrame {
 	    this.stemInputField.getDocument().addDocumentListener(new DocumentListener() {
 
 			public void insertUpdate(DocumentEvent e) {
-				refresh();
+				requestRefresh(false);
 			}
 
 			public void removeUpdate(DocumentEvent e) {
-				refresh();
+				requestRefresh(false);
 			}
 
 			public void changedUpdate(DocumentEvent e) {
-				refresh();
-			}
-
-			private void refresh() {
-				String s = phonoCodeToUnicode(VerbSheet.this.stemInputField.getText());
-				if(s != null && !s.isEmpty()) VerbSheet.this.stemDisplayLabel.setText(s + "-");
-				else VerbSheet.this.stemDisplayLabel.setText(" ");
+				requestRefresh(false);
 			}
 		});
 
@@ -204,17 +204,7 @@ public class VerbSheet extends javax.swing.JFrame {
 
     private JLabel registerLabel(Tense t, Voice v, Mood m, Person p, Number n) {
 	    JLabel result = styledLabel(" ", Font.PLAIN);
-	    this.labelMapping.put(getKey(t, v, m, p, n), result);
-	    return result;
-    }
-
-    private ArrayList<Object> getKey(Tense t, Voice v, Mood m, Person p, Number n) {
-	    ArrayList<Object> result = new ArrayList<Object>();
-	    result.add(t);
-	    result.add(v);
-	    result.add(m);
-	    result.add(p);
-	    result.add(n);
+	    this.labelMapping[GrammaticalTag.verbIndex(t, v, m, p, n)] = result;
 	    return result;
     }
 
@@ -245,14 +235,11 @@ public class VerbSheet extends javax.swing.JFrame {
 	    return new JLabel();
     }
 
-    private static String phonoCodeToUnicode(String phonoCode) {
-	    Morpheme m = PhonoCode.toMorpheme(phonoCode);
-	    if(m == null) return null;
-	    List<Grapheme> g = m.getGraphemes(false);
-	    if(g == null) return null;
-	    String s = Unicode.toPrecombinedUnicode(g);
-	    if(s == null) return null;
-	    return s;
+    private static String stemText(Morpheme m) {
+	    if(m == null) return " ";
+	    String s = m.toUnicode(false);
+	    if(s == null || s.isEmpty()) return " ";
+	    return s + "-";
     }
 
     /** This method is called from within the constructor to
@@ -396,12 +383,12 @@ public class VerbSheet extends javax.swing.JFrame {
 
     private void verbTypeSelectorActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_verbTypeSelectorActionPerformed
 	    if(this.verbTypeSelector.getSelectedIndex() >= 0) {
-		    requestRefresh();
+		    requestRefresh(true);
 	    }
     }//GEN-LAST:event_verbTypeSelectorActionPerformed
 
     private void refreshButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_refreshButtonActionPerformed
-	    requestRefresh();
+	    requestRefresh(true);
     }//GEN-LAST:event_refreshButtonActionPerformed
 
     /**
@@ -415,7 +402,12 @@ public class VerbSheet extends javax.swing.JFrame {
         });
     }
 
-    private void requestRefresh() {
+    /*
+     * Redraw the sheet if the stem or verb type has changed. Edits made in
+     * quick succession are redrawn once, after the last of them, unless now
+     * is set. The forms are made on a background thread.
+     */
+    private void requestRefresh(boolean now) {
 	    String phonoCode = this.stemInputField.getText();
 	    VerbType verbType = VerbType.values()[this.verbTypeSelector.getSelectedIndex()];
 	if((this.phonoCodeStem == null || !this.phonoCodeStem.equals(phonoCode)) ||
@@ -423,33 +415,69 @@ public class VerbSheet extends javax.swing.JFrame {
 
 		this.phonoCodeStem = phonoCode;
 		this.verbType = verbType;
-		refresh();
+		if(now) this.refresher.scheduleNow(() -> render(phonoCode, verbType));
+		else this.refresher.schedule(() -> render(phonoCode, verbType));
 		
 	}
+	else if(now) this.refresher.flush();
+    }
+
+    /* Make the text of the whole sheet, or return null if the thread is
+     interrupted because a newer rendering has been requested. */
+    private static Rendering render(String phonoCode, VerbType verbType) {
+	    Rendering result = new Rendering();
+	    Morpheme stem = PhonoCode.toMorpheme(phonoCode);
+	    result.stem = stemText(stem);
+	    greek.lexeme.Verb verb = makeVerb(stem, verbType);
+	    result.lemma = lemmaText(verb);
+	    for(int i = 0; i < result.forms.length; ++i) {
+		    if(Thread.currentThread().isInterrupted()) return null;
+		    result.forms[i] = verbFormText(verb, GrammaticalTag.fromVerbIndex(i));
+	    }
+	    return result;
+    }
+
+    /* Show a rendering, touching only the labels whose text changes. */
+    private void apply(Rendering r) {
+	    setText(this.stemDisplayLabel, r.stem);
+	    if(r.lemma != null) setText(this.lemmaDisplayLabel, r.lemma);
+	    for(int i = 0; i < r.forms.length; ++i) {
+		    JLabel label = this.labelMapping[i];
+		    if(label != null) setText(label, r.forms[i]);
+	    }
+    }
+
+    private static void setText(JLabel label, String text) {
+	    if(!text.equals(label.getText())) label.setText(text);
     }
 
-    private void refresh() {
-	    this.stem = PhonoCode.toMorpheme(this.phonoCodeStem);
-	    this.verb = getVerb();
-	    refreshLemma();
-	    refreshTables();
+    /* Show that the sheet could not be made, rather than leave the last
+     one in place, and forget the stem so that refreshing tries again. */
+    private void showFailure(Exception e) {
+	    this.phonoCodeStem = null;
+	    setText(this.stemDisplayLabel, "<unable to make the forms: " + e.getMessage() + ">");
+	    setText(this.lemmaDisplayLabel, " ");
+	    for(JLabel label : this.labelMapping) {
+		    if(label != null) setText(label, " ");
+	    }
     }
 
-    private greek.lexeme.Verb getVerb() {
-	if(this.stem == null) return null;
-	switch(this.verbType) {
+    private static greek.lexeme.Verb makeVerb(Morpheme stem, VerbType verbType) {
+	if(stem == null) return null;
+	switch(verbType) {
 		case THEMATIC_UNCONTR:
-			return new ThematicUncontr(this.stem);
+			return new ThematicUncontr(stem);
 		case THEMATIC_CONTR:
-			return new ThematicContr(this.stem);
+			return new ThematicContr(stem);
 		default:
 			return null;
 	}
     }
 
-    private void refreshLemma() {
-	    if(this.verb != null) {
-		    greek.grammar.verb.Verb form = this.verb.getVerbForm(
+    /* The lemma, or null if it cannot be made. */
+    private static String lemmaText(greek.lexeme.Verb verb) {
+	    if(verb != null) {
+		    greek.grammar.verb.Verb form = verb.getVerbForm(
 			    Tense.PRESENT,
 			    Voice.ACTIVE,
 			    Mood.INDICATIVE,
@@ -457,54 +485,19 @@ public class VerbSheet extends javax.swing.JFrame {
 			    greek.grammar.Number.SINGULAR);
 		    if(form != null) {
 			    Morpheme m = form.getMorpheme();
-			    if(m != null) {
-				    List<Grapheme> g = m.getGraphemes();
-				    if(g != null) {
-					    String s = Unicode.toPrecombinedUnicode(m.getGraphemes());
-					    if(s != null) {
-						    this.lemmaDisplayLabel.setText(s);
-					    }
-				    }
-			    }
+			    if(m != null) return m.toUnicode();
 		    }
 	    }
+	    return null;
     }
 
-    private JLabel getLabel(Tense t, Voice v, Mood m, Person p, Number n) {
-	    ArrayList<Object> key = getKey(t, v, m, p, n);
-	    return this.labelMapping.containsKey(key) ? this.labelMapping.get(key) : null;
-    }
-
-    private void refreshTables() {
-	    for(Tense t : Tense.values()) {
-		    for(Voice v : Voice.values()) {
-			    for(Mood m : Mood.values()) {
-				    for(Person p : Person.values()) {
-					    for(Number n : Number.values()) {
-						    refreshVerbForm(t, v, m, p, n);
-					    }
-				    }
-			    }
-		    }
-	    }
-    }
-
-    private void refreshVerbForm(Tense t, Voice v, Mood m, Person p, Number n) {
-	    JLabel label = getLabel(t, v, m, p, n);
-	    if(label != null) {
-		    label.setText(verbFormText(t, v, m, p, n));
-	    }
-    }
-
-    private String verbFormText(Tense t, Voice v, Mood m, Person p, Number n) {
-	    if(this.verb == null) return " ";
-	    greek.grammar.verb.Verb verbForm = this.verb.getVerbForm(t, v, m, p, n);
+    private static String verbFormText(greek.lexeme.Verb verb, GrammaticalTag tag) {
+	    if(verb == null) return " ";
+	    greek.grammar.verb.Verb verbForm = verb.getVerbForm(tag);
 	    if(verbForm == null) return " ";
 	    Morpheme morpheme = verbForm.getMorpheme();
 	    if(morpheme == null) return " ";
-	    List<Grapheme> graphemes = morpheme.getGraphemes();
-	    if(graphemes == null) return " ";
-	    String result = Unicode.toPrecombinedUnicode(graphemes);
+	    String result = morpheme.toUnicode();
 	    if(result == null) return " ";
 	    return result;
     }
@@ -1,25 +1,29 @@
 package greek.gui;
 
-import greek.util.Joiner;
-import greek.code.BetaCode;
 import greek.code.BetaCodeBestEffortConverter;
+import greek.lexicon.VocabLexicon;
 import java.io.BufferedReader;
-import java.io.FileReader;
-import javax.swing.DefaultListModel;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
 import java.awt.FileDialog;
 import java.io.File;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import javax.swing.SwingWorker;
 
 public class VocabFileViewer extends javax.swing.JFrame {
 
     /** Creates new form VocabFileViewer */
     public VocabFileViewer() {
-	_listModel = new DefaultListModel<String>();
-	//_pattern = Pattern.compile("(.*),\\s*(\'.*\',\\s*)*(\'.*\')");
-	_pattern = Pattern.compile("(.*?)(?: [(](.*)-[)])?, (([A-Za-z]+[.] )?['].*['])( ([A-Za-z]+[.]) (.*))?");
 	_converter = new BetaCodeBestEffortConverter();
+	_listModel = new VocabListModel(_converter);
         initComponents();
+	// A fixed cell size keeps the list from converting every row to
+	// measure it.
+	mainList.setPrototypeCellValue(PROTOTYPE_ROW);
     }
 
     static {
@@ -42,6 +46,7 @@ public class VocabFileViewer extends javax.swing.JFrame {
                 jScrollPane1 = new javax.swing.JScrollPane();
                 mainList = new javax.swing.JList<String>();
                 jButton1 = new javax.swing.JButton();
+                loadProgress = new javax.swing.JProgressBar();
 
                 setDefaultCloseOperation(javax.swing.WindowConstants.EXIT_ON_CLOSE);
                 setTitle("Greek Vocabulary Viewer");
@@ -64,6 +69,7 @@ public class VocabFileViewer extends javax.swing.JFrame {
                                 .addContainerGap()
                                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.CENTER)
                                         .addComponent(jButton1)
+                                        .addComponent(loadProgress, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
                                         .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, 623, Short.MAX_VALUE))
                                 .addContainerGap())
                 );
@@ -72,7 +78,9 @@ public class VocabFileViewer extends javax.swing.JFrame {
                         .addGroup(layout.createSequentialGroup()
                                 .addGap(12, 12, 12)
                                 .addComponent(jButton1)
-                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(loadProgress, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
+                                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                                 .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, 409, Short.MAX_VALUE)
                                 .addContainerGap())
                 );
@@ -82,6 +90,11 @@ public class VocabFileViewer extends javax.swing.JFrame {
 
     private void jButton1ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton1ActionPerformed
 
+	if(_loader != null) {
+		// The button cancels a load in progress.
+		_loader.cancel(false);
+		return;
+	}
 	FileDialog d = new FileDialog(this);
 	d.setDirectory("/home/brian/Dropbox/dusell/programming/greek/vocab");
 	d.setAlwaysOnTop(true);
@@ -90,38 +103,17 @@ public class VocabFileViewer extends javax.swing.JFrame {
 	String filename = d.getFile();
 	if(filename != null) {
 		_listModel.clear();
-		BufferedReader r;
-		try {
-			r = new BufferedReader(new FileReader(new File(d.getDirectory(), d.getFile())));
-			String line, output;
-			while((line = r.readLine()) != null) {
-				Matcher m = _pattern.matcher(line);
-				output = "<no match>";
-				if(m.find()) {
-					greek.util.Joiner j = new Joiner("");
-					if(m.group(1) != null) j.add(_converter.toPrecombinedUnicode(m.group(1)));
-					if(m.group(2) != null) j.add(" (" + BetaCode.betaCodeToPrecombinedUnicode(m.group(2)) + "-)");
-					if(m.group(3) != null) j.add(", " + m.group(3));
-					if(m.group(6) != null) j.add(", " + m.group(6));
-					if(m.group(7) != null) j.add(" " + _converter.toPrecombinedUnicode(m.group(7)));
-					output = j.result();
-				}
-				else {
-					output = _converter.toPrecombinedUnicode(line);
+		_loader = new Loader(new File(d.getDirectory(), filename));
+		_loader.addPropertyChangeListener(new java.beans.PropertyChangeListener() {
+			public void propertyChange(java.beans.PropertyChangeEvent evt) {
+				if("progress".equals(evt.getPropertyName())) {
+					loadProgress.setValue((Integer) evt.getNewValue());
 				}
-				_listModel.addElement(output);
 			}
-			r.close();
-		}
-		catch(java.io.FileNotFoundException e) {
-			System.out.println("unable to open file " + filename);
-		}
-		catch(java.io.IOException e) {
-			
-		}
-		catch(java.util.regex.PatternSyntaxException e) {
-			System.out.println(e);
-		}
+		});
+		jButton1.setText("Cancel");
+		loadProgress.setValue(0);
+		_loader.execute();
 	}
 
     }//GEN-LAST:event_jButton1ActionPerformed
@@ -137,15 +129,87 @@ public class VocabFileViewer extends javax.swing.JFrame {
         });
     }
 
+	/*
+	 * Reads a vocabulary file off the event dispatch thread. The lines of a
+	 * text file are handed to the list in chunks as they are read, and are
+	 * only converted once they are shown. A compiled file is simply
+	 * mapped. Progress is the share of the file read so far.
+	 */
+	private class Loader extends SwingWorker<VocabLexicon, List<String>> {
+
+		private final File _file;
+
+		Loader(File file) {
+			_file = file;
+		}
+
+		@Override
+		protected VocabLexicon doInBackground() throws java.io.IOException {
+			if(VocabLexicon.isLexicon(_file.toPath())) {
+				// A compiled vocabulary needs no parsing.
+				return VocabLexicon.open(_file.toPath());
+			}
+			try(FileInputStream in = new FileInputStream(_file)) {
+				long length = Math.max(1, _file.length());
+				BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+				List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+				String line;
+				while(!isCancelled() && (line = r.readLine()) != null) {
+					chunk.add(line);
+					if(chunk.size() == CHUNK_SIZE) {
+						publish(chunk);
+						chunk = new ArrayList<>(CHUNK_SIZE);
+						setProgress((int) Math.min(100, 100 * in.getChannel().position() / length));
+					}
+				}
+				if(!chunk.isEmpty()) publish(chunk);
+			}
+			return null;
+		}
+
+		@Override
+		protected void process(List<List<String>> chunks) {
+			if(_loader != this) return;
+			for(List<String> chunk : chunks) _listModel.addLines(chunk);
+		}
+
+		@Override
+		protected void done() {
+			_loader = null;
+			jButton1.setText("Load File");
+			loadProgress.setValue(0);
+			try {
+				VocabLexicon lexicon = get();
+				if(lexicon != null) _listModel.setLexicon(lexicon);
+			}
+			catch(CancellationException e) {
+			}
+			catch(InterruptedException e) {
+			}
+			catch(ExecutionException e) {
+				System.out.println("unable to read file " + _file + ": " + e.getCause());
+			}
+		}
+	}
+
+	/* The number of lines handed to the list at a time. */
+	private static final int CHUNK_SIZE = 1024;
+
+	/* A row as wide as most, which sets the size of every cell. */
+	private static final String PROTOTYPE_ROW =
+		"\u1F00\u03BD\u03B8\u03C1\u03C9\u03C0\u03BF\u03C2 (\u1F00\u03BD\u03B8\u03C1\u03C9\u03C0-), " +
+		"'human being, man', cf. \u1F00\u03BD\u03B8\u03C1\u03C9\u03C0\u03B9\u03BA\u03CC\u03C2";
+
 	private static final String bc; // beta code character class
 
-	private javax.swing.DefaultListModel<String> _listModel;
-	private java.util.regex.Pattern _pattern;
+	private VocabListModel _listModel;
 	private greek.code.BetaCodeConverter _converter;
+	private Loader _loader = null;
 
         // Variables declaration - do not modify//GEN-BEGIN:variables
         private javax.swing.JButton jButton1;
         private javax.swing.JScrollPane jScrollPane1;
+        private javax.swing.JProgressBar loadProgress;
         private javax.swing.JList<String> mainList;
         // End of variables declaration//GEN-END:variables
 
@@ -0,0 +1,88 @@
+package greek.gui;
+
+import greek.code.BetaCodeConverter;
+import greek.lexicon.VocabLexicon;
+import greek.lexicon.VocabParser;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.AbstractListModel;
+
+/**
+ * A list model over the lines of a vocabulary which converts each line only
+ * when the list asks for it, that is, when it scrolls into view. Lines of a
+ * text vocabulary are kept as they were read and converted once on first
+ * use; a compiled vocabulary is read straight from its file.
+ *
+ * Like other Swing models, it must only be used on the event dispatch
+ * thread.
+ */
+public class VocabListModel extends AbstractListModel<String> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final VocabParser _parser;
+	private final List<String> _lines = new ArrayList<>();
+	private final List<String> _rows = new ArrayList<>();
+	private VocabLexicon _lexicon = null;
+
+	/**
+	 * Initialize an empty model.
+	 * @param converter The converter used for the lines of text
+	 * vocabularies.
+	 */
+	public VocabListModel(BetaCodeConverter converter) {
+		_parser = new VocabParser(converter);
+	}
+
+	/**
+	 * Remove every line.
+	 */
+	public void clear() {
+		int size = getSize();
+		_lines.clear();
+		_rows.clear();
+		_lexicon = null;
+		if(size > 0) fireIntervalRemoved(this, 0, size - 1);
+	}
+
+	/**
+	 * Show a compiled vocabulary in place of whatever was shown before.
+	 * @param lexicon
+	 */
+	public void setLexicon(VocabLexicon lexicon) {
+		clear();
+		_lexicon = lexicon;
+		if(lexicon.size() > 0) fireIntervalAdded(this, 0, lexicon.size() - 1);
+	}
+
+	/**
+	 * Append lines of a text vocabulary, firing a single event for all of
+	 * them.
+	 * @param lines
+	 */
+	public void addLines(List<String> lines) {
+		if(lines.isEmpty()) return;
+		if(_lexicon != null) clear();
+		int start = _lines.size();
+		_lines.addAll(lines);
+		for(int i = 0; i < lines.size(); ++i) _rows.add(null);
+		fireIntervalAdded(this, start, _lines.size() - 1);
+	}
+
+	@Override
+	public int getSize() {
+		return _lexicon != null ? _lexicon.size() : _lines.size();
+	}
+
+	@Override
+	public String getElementAt(int i) {
+		if(_lexicon != null) return _lexicon.getDisplay(i);
+		String result = _rows.get(i);
+		if(result == null) {
+			result = _parser.parseLine(_lines.get(i)).getDisplay();
+			_rows.set(i, result);
+		}
+		return result;
+	}
+
+}
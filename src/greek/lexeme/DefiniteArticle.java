@@ -18,8 +18,9 @@ public class DefiniteArticle extends Nominal {
 
 	@Override
 	protected Morpheme getMorpheme(Case c, Number n, Gender g) {
-		//return greek.grammar.nominal.DefiniteArticle.getDefiniteArticle(c, g, n).getMorpheme();
-		return null;
+		greek.grammar.nominal.DefiniteArticle form =
+			greek.grammar.nominal.DefiniteArticle.getDefiniteArticle(c, g, n);
+		return form == null ? null : form.getMorpheme();
 	}
 
 }
@@ -0,0 +1,62 @@
+package greek.lexeme;
+
+import greek.morphology.Morpheme;
+import greek.phonology.PitchedPhoneme;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A table of the forms of a lexeme, indexed by grammatical cell and filled in
+ * lazily. Any number of threads may read and fill the table at once; when two
+ * threads generate the same form, the first one stored wins.
+ */
+class FormCache {
+
+	/* Stands in for a cell which has been generated but has no form. */
+	private static final Morpheme NO_FORM =
+		new Morpheme(Collections.<PitchedPhoneme>emptyList());
+
+	private final AtomicReferenceArray<Morpheme> _forms;
+
+	/**
+	 * Initialize an empty table.
+	 * @param size The number of grammatical cells.
+	 */
+	FormCache(int size) {
+		_forms = new AtomicReferenceArray<>(size);
+	}
+
+	/**
+	 * Tell whether a cell has been filled.
+	 * @param i
+	 * @return 
+	 */
+	boolean isFilled(int i) {
+		return _forms.get(i) != null;
+	}
+
+	/**
+	 * Get the form stored in a cell.
+	 * @param i
+	 * @return The stored form, or null if the cell is empty or has no
+	 * form.
+	 */
+	Morpheme get(int i) {
+		Morpheme result = _forms.get(i);
+		return result == NO_FORM ? null : result;
+	}
+
+	/**
+	 * Fill a cell unless another thread has already done so.
+	 * @param i
+	 * @param form The generated form, or null if there is none.
+	 * @return The form which ended up in the cell, or null if there is
+	 * none.
+	 */
+	Morpheme fill(int i, Morpheme form) {
+		Morpheme value = form == null ? NO_FORM : form;
+		if(!_forms.compareAndSet(i, null, value)) value = _forms.get(i);
+		return value == NO_FORM ? null : value;
+	}
+
+}
@@ -1,47 +1,127 @@
 package greek.lexeme;
 
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Mood;
 import greek.grammar.Number;
 import greek.grammar.Person;
 import greek.grammar.Tense;
 import greek.grammar.Voice;
+import greek.morphology.FormAssembler;
 import greek.morphology.Morpheme;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * A lexical verb composed of multiple types of lexical verb layered on top of
  * each other, where each provides a set of forms which the ones before cannot.
  * This allows more complex lexical verb types to be built out of simpler
  * pieces.
+ *
+ * The first time a form is requested, the verb types are tried in order and
+ * the one which provides it is recorded in a table indexed by grammatical
+ * cell. Later requests for the form go straight to that verb type. The table
+ * is started afresh whenever a verb type is added; a verb type whose forms
+ * change after it has been added must be followed by a call to
+ * invalidateCache.
  * @author Brian DuSell <bdusell@gmail.com>
  */
 public class MixedVerb extends Verb {
 
-	private List<Verb> _forms;
+	/* Entries of the dispatch table other than the index plus FIRST of a
+	 verb type. */
+	private static final short UNKNOWN = 0;
+	private static final short NONE = 1;
+	private static final short FIRST = 2;
+
+	/* The verb types together with the table of which one provides each
+	 cell. A new one replaces it whenever the verb types change, so that
+	 the two always agree. */
+	private static final class Dispatch {
+		final Verb[] verbs;
+		final short[] suppliers;
+
+		Dispatch(Verb[] verbs) {
+			this.verbs = verbs;
+			this.suppliers = new short[GrammaticalTag.VERB_CELLS];
+		}
+	}
+
+	private volatile Dispatch _dispatch;
 
 	public MixedVerb() {
-		_forms = new ArrayList<>();
+		_dispatch = new Dispatch(new Verb[0]);
 	}
 
 	/**
 	 * Add a lexical verb type. A verb type provides a verb form if it
 	 * returns a non-null morpheme for the requested form. Verb types added
 	 * earlier mask those added later for the word forms they provide.
-	 * @param form 
+	 * @param form
 	 */
-	public void addForm(Verb form) {
-		_forms.add(form);
+	public synchronized void addForm(Verb form) {
+		if(_dispatch.verbs.length + FIRST > Short.MAX_VALUE) {
+			throw new IllegalStateException("too many verb types");
+		}
+		Verb[] verbs = Arrays.copyOf(_dispatch.verbs, _dispatch.verbs.length + 1);
+		verbs[verbs.length - 1] = form;
+		_dispatch = new Dispatch(verbs);
+		super.invalidateCache();
+	}
+
+	@Override
+	public synchronized void invalidateCache() {
+		_dispatch = new Dispatch(_dispatch.verbs);
+		super.invalidateCache();
 	}
 
 	@Override
 	protected Morpheme getMorpheme(Tense t, Voice v, Mood m, Person p, Number n) {
+		Dispatch d = _dispatch;
+		int i = GrammaticalTag.verbIndex(t, v, m, p, n);
+		short supplier = d.suppliers[i];
+		if(supplier == NONE) return null;
+		if(supplier != UNKNOWN) return d.verbs[supplier - FIRST].getMorpheme(t, v, m, p, n);
+		return resolve(d, i, t, v, m, p, n);
+	}
+
+	/* Try each verb type in turn for a form whose supplier is not yet
+	 known, and record which one provides it. Threads racing to fill the
+	 entry record the same verb type. */
+	private static Morpheme resolve(Dispatch d, int i, Tense t, Voice v, Mood m, Person p, Number n) {
 		Morpheme result;
-		for(Verb verb : _forms) {
-			result = verb.getMorpheme(t, v, m, p, n);
-			if(result != null) return result;
+		for(int k = 0; k < d.verbs.length; ++k) {
+			result = d.verbs[k].getMorpheme(t, v, m, p, n);
+			if(result != null) {
+				d.suppliers[i] = (short) (k + FIRST);
+				return result;
+			}
 		}
+		d.suppliers[i] = NONE;
 		return null;
 	}
 
+	@Override
+	protected boolean assembleVerbForm(GrammaticalTag tag, FormAssembler assembler, StringBuilder out) {
+		Dispatch d = _dispatch;
+		short supplier = d.suppliers[tag.getIndex()];
+		if(supplier == NONE) return false;
+		if(supplier != UNKNOWN) return d.verbs[supplier - FIRST].assembleVerbForm(tag, assembler, out);
+		return super.assembleVerbForm(tag, assembler, out);
+	}
+
+	/**
+	 * Find which verb type provides a form.
+	 * @param tag
+	 * @return The verb type, or null if none of them provides the form.
+	 */
+	public Verb getSupplier(GrammaticalTag tag) {
+		if(!tag.isVerb()) return null;
+		Dispatch d = _dispatch;
+		int i = tag.getIndex();
+		if(d.suppliers[i] == UNKNOWN) {
+			resolve(d, i, tag.getTense(), tag.getVoice(), tag.getMood(), tag.getPerson(), tag.getNumber());
+		}
+		short supplier = d.suppliers[i];
+		return supplier < FIRST ? null : d.verbs[supplier - FIRST];
+	}
+
 }
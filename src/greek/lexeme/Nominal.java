@@ -3,6 +3,8 @@ package greek.lexeme;
 import greek.grammar.Case;
 import greek.grammar.Number;
 import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
+import greek.metrics.Metrics;
 import greek.morphology.Morpheme;
 
 /**
@@ -11,6 +13,8 @@ import greek.morphology.Morpheme;
  */
 public abstract class Nominal {
 
+	private volatile FormCache _cache = null;
+
 	/**
 	 * Get a particular form derived from this lexeme.
 	 * @param c
@@ -19,11 +23,22 @@ public abstract class Nominal {
 	 * @return The requested word form or null if no such form exists.
 	 */
 	public greek.grammar.nominal.Nominal getNominalForm(Case c, Number n, Gender g) {
-		Morpheme morpheme = getMorpheme(c, n, g);
+		Morpheme morpheme = getCachedMorpheme(c, n, g);
 		if(morpheme == null) return null;
 		else return new greek.grammar.nominal.Nominal(morpheme, this, c, g, n);
 	}
 
+	/**
+	 * Get the form derived from this lexeme with a given grammatical tag.
+	 * @param tag
+	 * @return The requested word form or null if there is no such form or
+	 * the tag is not that of a nominal form.
+	 */
+	public final greek.grammar.nominal.Nominal getNominalForm(GrammaticalTag tag) {
+		if(!tag.isNominal()) return null;
+		return getNominalForm(tag.getCase(), tag.getNumber(), tag.getGender());
+	}
+
 	/**
 	 * Get a particular form derived from this lexeme as a morpheme.
 	 * @param c
@@ -33,4 +48,50 @@ public abstract class Nominal {
 	 */
 	abstract protected Morpheme getMorpheme(Case c, Number n, Gender g);
 
+	/**
+	 * Turn caching of this lexeme's forms on or off. While caching is on,
+	 * each form is generated at most once and kept for later requests.
+	 * Caching is off by default.
+	 * @param enabled 
+	 */
+	public synchronized void setCaching(boolean enabled) {
+		if(enabled) {
+			if(_cache == null) _cache = new FormCache(GrammaticalTag.NOMINAL_CELLS);
+		}
+		else _cache = null;
+	}
+
+	/**
+	 * Tell whether caching of this lexeme's forms is on.
+	 * @return 
+	 */
+	public boolean isCaching() {
+		return _cache != null;
+	}
+
+	/**
+	 * Discard any cached forms, so that they are generated anew on the
+	 * next request. Subclasses should call this whenever a change to the
+	 * lexeme would change its forms.
+	 */
+	public synchronized void invalidateCache() {
+		if(_cache != null) _cache = new FormCache(GrammaticalTag.NOMINAL_CELLS);
+	}
+
+	private Morpheme getCachedMorpheme(Case c, Number n, Gender g) {
+		FormCache cache = _cache;
+		if(cache == null) return generateMorpheme(c, n, g);
+		int i = GrammaticalTag.nominalIndex(c, n, g);
+		boolean hit = cache.isFilled(i);
+		Metrics.formCacheLookup(hit);
+		return hit ? cache.get(i) : cache.fill(i, generateMorpheme(c, n, g));
+	}
+
+	private Morpheme generateMorpheme(Case c, Number n, Gender g) {
+		long start = Metrics.startTimer();
+		Morpheme result = getMorpheme(c, n, g);
+		if(result != null) Metrics.formGenerated(start);
+		return result;
+	}
+
 }
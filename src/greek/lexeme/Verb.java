@@ -1,10 +1,14 @@
 package greek.lexeme;
 
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Mood;
 import greek.grammar.Person;
 import greek.grammar.Tense;
 import greek.grammar.Voice;
 import greek.grammar.Number;
+import greek.metrics.Flight;
+import greek.metrics.Metrics;
+import greek.morphology.FormAssembler;
 import greek.morphology.Morpheme;
 
 /**
@@ -13,6 +17,8 @@ import greek.morphology.Morpheme;
  */
 public abstract class Verb {
 
+	private volatile FormCache _cache = null;
+
 	/**
 	 * Get a particular form of this verb.
 	 * @param t
@@ -23,11 +29,77 @@ public abstract class Verb {
 	 * @return The requested form or null if there is no such form.
 	 */
 	public final greek.grammar.verb.Verb getVerbForm(Tense t, Voice v, Mood m, Person p, Number n) {
-		Morpheme morpheme = getMorpheme(t, v, m, p, n);
+		Object event = Flight.beginVerbForm();
+		Morpheme morpheme = getCachedMorpheme(t, v, m, p, n);
+		Flight.endVerbForm(event, getClass(), GrammaticalTag.verb(t, v, m, p, n), morpheme != null);
 		if(morpheme == null) return null;
 		else return new greek.grammar.verb.Verb(morpheme, this, t, v, m, p, n);
 	}
 
+	/**
+	 * Get the form of this verb with a given grammatical tag.
+	 * @param tag
+	 * @return The requested form or null if there is no such form or the
+	 * tag is not that of a verb form.
+	 */
+	public final greek.grammar.verb.Verb getVerbForm(GrammaticalTag tag) {
+		if(!tag.isVerb()) return null;
+		return getVerbForm(tag.getTense(), tag.getVoice(), tag.getMood(),
+			tag.getPerson(), tag.getNumber());
+	}
+
+	/**
+	 * Append the form of this verb with a given grammatical tag to a string
+	 * builder as precombined Unicode. While caching is on, the form is
+	 * taken from the cache as by getVerbForm; otherwise it is written by
+	 * assembleVerbForm. Either way the request is recorded like one made
+	 * through getVerbForm, and a form which is made is counted once in
+	 * Metrics as generated, or as a failure if it cannot be written.
+	 * @param tag
+	 * @param assembler
+	 * @param out
+	 * @return Whether there is such a form and it could be written. If
+	 * not, nothing is appended.
+	 */
+	public final boolean appendVerbForm(GrammaticalTag tag, FormAssembler assembler, StringBuilder out) {
+		if(!tag.isVerb()) return false;
+		Object event = Flight.beginVerbForm();
+		long failures = assembler.getFailureCount();
+		boolean result;
+		if(_cache != null) {
+			Morpheme morpheme = getCachedMorpheme(tag.getTense(), tag.getVoice(), tag.getMood(),
+				tag.getPerson(), tag.getNumber());
+			result = morpheme != null && assembler.append(morpheme, true, out);
+		}
+		else {
+			long start = Metrics.startTimer();
+			result = assembleVerbForm(tag, assembler, out);
+			if(result) Metrics.formGenerated(start);
+		}
+		// A form which exists but could not be written
+		if(assembler.getFailureCount() != failures) Metrics.formFailed();
+		Flight.endVerbForm(event, getClass(), tag, result);
+		return result;
+	}
+
+	/**
+	 * Generate the form of this verb with a given grammatical tag and write
+	 * it to a string builder as precombined Unicode, without the cache. By
+	 * default the form is made as by getMorpheme and then written out; a
+	 * verb which knows how its forms are assembled may write them in a
+	 * single pass instead.
+	 * @param tag A verb tag.
+	 * @param assembler
+	 * @param out
+	 * @return Whether there is such a form and it could be written. If
+	 * not, nothing is appended.
+	 */
+	protected boolean assembleVerbForm(GrammaticalTag tag, FormAssembler assembler, StringBuilder out) {
+		Morpheme morpheme = getMorpheme(tag.getTense(), tag.getVoice(), tag.getMood(),
+			tag.getPerson(), tag.getNumber());
+		return morpheme != null && assembler.append(morpheme, true, out);
+	}
+
 	/**
 	 * Get a particular form of this verb as a morpheme.
 	 * @param t
@@ -39,4 +111,50 @@ public abstract class Verb {
 	 */
 	abstract protected Morpheme getMorpheme(Tense t, Voice v, Mood m, Person p, Number n);
 
+	/**
+	 * Turn caching of this verb's forms on or off. While caching is on,
+	 * each form is generated at most once and kept for later requests.
+	 * Caching is off by default.
+	 * @param enabled 
+	 */
+	public synchronized void setCaching(boolean enabled) {
+		if(enabled) {
+			if(_cache == null) _cache = new FormCache(GrammaticalTag.VERB_CELLS);
+		}
+		else _cache = null;
+	}
+
+	/**
+	 * Tell whether caching of this verb's forms is on.
+	 * @return 
+	 */
+	public boolean isCaching() {
+		return _cache != null;
+	}
+
+	/**
+	 * Discard any cached forms, so that they are generated anew on the
+	 * next request. Subclasses should call this whenever a change to the
+	 * verb would change its forms.
+	 */
+	public synchronized void invalidateCache() {
+		if(_cache != null) _cache = new FormCache(GrammaticalTag.VERB_CELLS);
+	}
+
+	private Morpheme getCachedMorpheme(Tense t, Voice v, Mood m, Person p, Number n) {
+		FormCache cache = _cache;
+		if(cache == null) return generateMorpheme(t, v, m, p, n);
+		int i = GrammaticalTag.verbIndex(t, v, m, p, n);
+		boolean hit = cache.isFilled(i);
+		Metrics.formCacheLookup(hit);
+		return hit ? cache.get(i) : cache.fill(i, generateMorpheme(t, v, m, p, n));
+	}
+
+	private Morpheme generateMorpheme(Tense t, Voice v, Mood m, Person p, Number n) {
+		long start = Metrics.startTimer();
+		Morpheme result = getMorpheme(t, v, m, p, n);
+		if(result != null) Metrics.formGenerated(start);
+		return result;
+	}
+
 }
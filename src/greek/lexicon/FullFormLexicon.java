@@ -0,0 +1,256 @@
+package greek.lexicon;
+
+import greek.grammar.GrammaticalTag;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only table from the surface forms of inflected words to the lexemes
+ * and grammatical features which they may represent. The table is an open
+ * addressing hash table which lives in a memory-mapped file, so that opening
+ * even a very large lexicon takes little time and almost no heap. Lexicons
+ * are written with FullFormLexiconBuilder.
+ *
+ * The file consists of a header, an array of slots, and a record area. Each
+ * slot holds the hash of a surface form and the offset of its record, or zero
+ * if the slot is empty; slots are probed linearly. Each record holds the
+ * surface form as UTF-16 code units followed by its analyses as pairs of a
+ * lexeme id and packed grammatical tag. Surface forms are compared character
+ * by character, except that the letters with oxia which greek.code.Unicode
+ * produces match their canonically equivalent letters with tonos, which is
+ * how most text is normalized.
+ *
+ * Lookups only read from the mapped buffer at absolute positions, so a
+ * lexicon may be shared freely between threads.
+ */
+public class FullFormLexicon {
+
+	/* The first four bytes of every lexicon file. */
+	static final int MAGIC = 0x47464C58;
+
+	/* The version of the file layout. */
+	static final int VERSION = 1;
+
+	/* The size of the header: magic, version, slot count, form count. */
+	static final int HEADER_SIZE = 16;
+
+	/* The size of a slot: hash, record offset. */
+	static final int SLOT_SIZE = 8;
+
+	/* The size of an analysis: lexeme id, tag bits. */
+	static final int ANALYSIS_SIZE = 8;
+
+	/* The start of the range of characters which fold to another. */
+	private static final char FOLD_START = 0x1F70;
+
+	/* The tonos equivalent of each letter with oxia, by offset. */
+	private static final char[] _folds = new char[0x2000 - FOLD_START];
+	static {
+		for(int i = 0; i < _folds.length; ++i) {
+			char c = (char) (FOLD_START + i);
+			String s = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFC);
+			_folds[i] = s.length() == 1 ? s.charAt(0) : c;
+		}
+	}
+
+	/**
+	 * One reading of a surface form: the lexeme it belongs to and its
+	 * grammatical features.
+	 */
+	public static final class Analysis {
+
+		private final int _lexemeId;
+		private final GrammaticalTag _tag;
+
+		/**
+		 * Initialize an analysis.
+		 * @param lexemeId
+		 * @param tag
+		 */
+		public Analysis(int lexemeId, GrammaticalTag tag) {
+			_lexemeId = lexemeId;
+			_tag = tag;
+		}
+
+		/**
+		 * Get the id of the lexeme which the form belongs to.
+		 * @return 
+		 */
+		public int getLexemeId() {
+			return _lexemeId;
+		}
+
+		/**
+		 * Get the grammatical features of the form.
+		 * @return 
+		 */
+		public GrammaticalTag getTag() {
+			return _tag;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Analysis)) return false;
+			Analysis a = (Analysis) o;
+			return a._lexemeId == _lexemeId && a._tag.equals(_tag);
+		}
+
+		@Override
+		public int hashCode() {
+			return _lexemeId * 31 + _tag.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return _lexemeId + " " + _tag;
+		}
+	}
+
+	private final ByteBuffer _buffer;
+	private final int _slotMask;
+	private final int _size;
+
+	/**
+	 * Wrap a buffer holding a lexicon in the format written by
+	 * FullFormLexiconBuilder.
+	 * @param buffer
+	 * @throws IllegalArgumentException If the buffer does not hold a
+	 * lexicon.
+	 */
+	public FullFormLexicon(ByteBuffer buffer) {
+		_buffer = buffer.duplicate();
+		if(_buffer.capacity() < HEADER_SIZE || _buffer.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("not a full-form lexicon");
+		}
+		if(_buffer.getInt(4) != VERSION) {
+			throw new IllegalArgumentException("unsupported lexicon version " + _buffer.getInt(4));
+		}
+		int slots = _buffer.getInt(8);
+		if(slots <= 0 || (slots & (slots - 1)) != 0 ||
+			HEADER_SIZE + (long) slots * SLOT_SIZE > _buffer.capacity()) {
+			throw new IllegalArgumentException("corrupt lexicon header");
+		}
+		_slotMask = slots - 1;
+		_size = _buffer.getInt(12);
+	}
+
+	/**
+	 * Memory-map a lexicon file.
+	 * @param path
+	 * @return 
+	 * @throws IOException
+	 */
+	public static FullFormLexicon open(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new FullFormLexicon(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Get the number of distinct surface forms.
+	 * @return 
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Tell whether a surface form is in the lexicon.
+	 * @param form
+	 * @return 
+	 */
+	public boolean contains(CharSequence form) {
+		return findRecord(form) != 0;
+	}
+
+	/**
+	 * Get the number of analyses of a surface form.
+	 * @param form
+	 * @return The number of analyses, which is zero if the form is not in
+	 * the lexicon.
+	 */
+	public int countAnalyses(CharSequence form) {
+		int record = findRecord(form);
+		return record == 0 ? 0 : _buffer.getInt(analysesOffset(record) - 4);
+	}
+
+	/**
+	 * Look up all of the analyses of a surface form.
+	 * @param form
+	 * @return The analyses in the order in which they were added, or an
+	 * empty list if the form is not in the lexicon.
+	 */
+	public List<Analysis> lookup(CharSequence form) {
+		int record = findRecord(form);
+		if(record == 0) return Collections.emptyList();
+		int offset = analysesOffset(record);
+		int count = _buffer.getInt(offset - 4);
+		List<Analysis> result = new ArrayList<>(count);
+		for(int i = 0; i < count; ++i, offset += ANALYSIS_SIZE) {
+			result.add(new Analysis(_buffer.getInt(offset),
+				GrammaticalTag.fromBits(_buffer.getInt(offset + 4))));
+		}
+		return result;
+	}
+
+	/*
+	 * Find the record offset of a surface form, or zero if there is no such
+	 * form.
+	 */
+	private int findRecord(CharSequence form) {
+		int hash = hash(form);
+		int slot = hash & _slotMask;
+		while(true) {
+			int position = HEADER_SIZE + slot * SLOT_SIZE;
+			int record = _buffer.getInt(position + 4);
+			if(record == 0) return 0;
+			if(_buffer.getInt(position) == hash && matches(record, form)) return record;
+			slot = (slot + 1) & _slotMask;
+		}
+	}
+
+	private boolean matches(int record, CharSequence form) {
+		int length = _buffer.getChar(record);
+		if(length != form.length()) return false;
+		int offset = record + 2;
+		for(int i = 0; i < length; ++i, offset += 2) {
+			if(_buffer.getChar(offset) != fold(form.charAt(i))) return false;
+		}
+		return true;
+	}
+
+	/* The offset of the first analysis in a record. */
+	private int analysesOffset(int record) {
+		return record + 2 + 2 * _buffer.getChar(record) + 4;
+	}
+
+	/* Fold a letter with oxia to the same letter with tonos. */
+	static char fold(char c) {
+		return c >= FOLD_START && c < 0x2000 ? _folds[c - FOLD_START] : c;
+	}
+
+	/*
+	 * Hash a surface form. The hash is part of the file format, since the
+	 * builder uses it to place each form in its slot.
+	 */
+	static int hash(CharSequence s) {
+		int h = 0x811C9DC5;
+		for(int i = 0; i < s.length(); ++i) {
+			h ^= fold(s.charAt(i));
+			h *= 0x01000193;
+		}
+		// Mix the high bits down since only the low bits pick a slot.
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		return h;
+	}
+
+}
@@ -0,0 +1,168 @@
+package greek.lexicon;
+
+import greek.grammar.GrammaticalTag;
+import greek.lexeme.Nominal;
+import greek.lexeme.Verb;
+import greek.morphology.Morpheme;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the inflected forms of a set of lexemes and writes them out as a
+ * file which can be opened with FullFormLexicon. The builder keeps all of the
+ * forms on the heap, so it is meant to be run once ahead of time rather than
+ * at startup.
+ */
+public class FullFormLexiconBuilder {
+
+	/*
+	 * The analyses of each surface form. The first element of each array
+	 * is the number of analyses, followed by pairs of lexeme id and tag
+	 * bits.
+	 */
+	private final Map<String, int[]> _forms = new LinkedHashMap<>();
+
+	/**
+	 * Add every form of a verb.
+	 * @param lexemeId
+	 * @param verb
+	 * @return The number of forms added.
+	 */
+	public int addVerb(int lexemeId, Verb verb) {
+		int result = 0;
+		for(int i = 0; i < GrammaticalTag.VERB_CELLS; ++i) {
+			GrammaticalTag tag = GrammaticalTag.fromVerbIndex(i);
+			greek.grammar.verb.Verb form = verb.getVerbForm(tag);
+			if(form != null && add(toUnicode(form.getMorpheme()), lexemeId, tag)) ++result;
+		}
+		return result;
+	}
+
+	/**
+	 * Add every form of a nominal.
+	 * @param lexemeId
+	 * @param nominal
+	 * @return The number of forms added.
+	 */
+	public int addNominal(int lexemeId, Nominal nominal) {
+		int result = 0;
+		for(int i = 0; i < GrammaticalTag.NOMINAL_CELLS; ++i) {
+			GrammaticalTag tag = GrammaticalTag.fromNominalIndex(i);
+			greek.grammar.nominal.Nominal form = nominal.getNominalForm(tag);
+			if(form != null && add(toUnicode(form.getMorpheme()), lexemeId, tag)) ++result;
+		}
+		return result;
+	}
+
+	/**
+	 * Add a single analysis of a surface form.
+	 * @param form The surface form, or null to add nothing.
+	 * @param lexemeId
+	 * @param tag
+	 * @return Whether the analysis was new.
+	 */
+	public boolean add(String form, int lexemeId, GrammaticalTag tag) {
+		if(form == null || form.isEmpty()) return false;
+		if(form.length() > Character.MAX_VALUE) {
+			throw new IllegalArgumentException("surface form too long");
+		}
+		form = fold(form);
+		int bits = tag.getBits();
+		int[] analyses = _forms.get(form);
+		if(analyses == null) {
+			analyses = new int[3];
+		}
+		else {
+			for(int i = 0; i < analyses[0]; ++i) {
+				if(analyses[1 + 2 * i] == lexemeId && analyses[2 + 2 * i] == bits) return false;
+			}
+			if(1 + 2 * (analyses[0] + 1) > analyses.length) {
+				int[] grown = new int[analyses.length * 2 + 1];
+				System.arraycopy(analyses, 0, grown, 0, analyses.length);
+				analyses = grown;
+			}
+		}
+		int i = analyses[0]++;
+		analyses[1 + 2 * i] = lexemeId;
+		analyses[2 + 2 * i] = bits;
+		_forms.put(form, analyses);
+		return true;
+	}
+
+	/**
+	 * Get the number of distinct surface forms added so far.
+	 * @return 
+	 */
+	public int size() {
+		return _forms.size();
+	}
+
+	/**
+	 * Write the lexicon to a file, replacing anything already there.
+	 * @param path
+	 * @throws IOException
+	 */
+	public void write(Path path) throws IOException {
+
+		// Keep the table at most half full so that probe sequences
+		// stay short.
+		int slots = 2;
+		while(slots < 2L * _forms.size()) {
+			if(slots >= (1 << 30)) throw new IllegalStateException("lexicon too large");
+			slots <<= 1;
+		}
+		int mask = slots - 1;
+
+		// Lay out the records and place each one in a slot.
+		int[] table = new int[2 * slots];
+		long offset = FullFormLexicon.HEADER_SIZE + (long) slots * FullFormLexicon.SLOT_SIZE;
+		for(Map.Entry<String, int[]> e : _forms.entrySet()) {
+			if(offset > Integer.MAX_VALUE) throw new IllegalStateException("lexicon too large");
+			int hash = FullFormLexicon.hash(e.getKey());
+			int slot = hash & mask;
+			while(table[2 * slot + 1] != 0) slot = (slot + 1) & mask;
+			table[2 * slot] = hash;
+			table[2 * slot + 1] = (int) offset;
+			offset += recordSize(e.getKey(), e.getValue());
+		}
+		if(offset > Integer.MAX_VALUE) throw new IllegalStateException("lexicon too large");
+
+		try(DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(FullFormLexicon.MAGIC);
+			out.writeInt(FullFormLexicon.VERSION);
+			out.writeInt(slots);
+			out.writeInt(_forms.size());
+			for(int x : table) out.writeInt(x);
+			for(Map.Entry<String, int[]> e : _forms.entrySet()) {
+				String form = e.getKey();
+				int[] analyses = e.getValue();
+				out.writeChar(form.length());
+				out.writeChars(form);
+				out.writeInt(analyses[0]);
+				for(int i = 1; i <= 2 * analyses[0]; ++i) out.writeInt(analyses[i]);
+			}
+		}
+	}
+
+	/* Store each form the way the lexicon compares it. */
+	private static String fold(String form) {
+		char[] chars = form.toCharArray();
+		for(int i = 0; i < chars.length; ++i) chars[i] = FullFormLexicon.fold(chars[i]);
+		return new String(chars);
+	}
+
+	private static long recordSize(String form, int[] analyses) {
+		return 2 + 2L * form.length() + 4 + (long) FullFormLexicon.ANALYSIS_SIZE * analyses[0];
+	}
+
+	private static String toUnicode(Morpheme m) {
+		return m == null ? null : m.toUnicode();
+	}
+
+}
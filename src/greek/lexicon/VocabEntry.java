@@ -0,0 +1,150 @@
+package greek.lexicon;
+
+import greek.code.BetaCodeConverter;
+
+/**
+ * One line of a vocabulary file. A line holds a headword in beta code,
+ * optionally followed by a stem in parentheses, then a quoted gloss, and
+ * optionally a note such as a related form:
+ * <pre>
+ * lu/w (lu-), 'loose' cf. lu/sis
+ * </pre>
+ * The Greek parts are kept as pre-combined Unicode. Every entry also has the
+ * text under which it is displayed; a line which does not have the form of
+ * an entry is kept as its display text alone. Lines are parsed with
+ * VocabParser.
+ */
+public final class VocabEntry {
+
+	private final String _display;
+	private final String _headword;
+	private final String _stem;
+	private final String _gloss;
+	private final String _note;
+	private final String _noteForm;
+
+	/**
+	 * Initialize an entry from its parts. The display text is made from
+	 * the parts.
+	 * @param headword
+	 * @param stem The stem or null.
+	 * @param gloss
+	 * @param note The note or null.
+	 * @param noteForm The form which the note refers to or null.
+	 */
+	public VocabEntry(String headword, String stem, String gloss, String note, String noteForm) {
+		this(display(headword, stem, gloss, note, noteForm), headword, stem, gloss, note, noteForm);
+	}
+
+	VocabEntry(String display, String headword, String stem, String gloss, String note, String noteForm) {
+		_display = display;
+		_headword = headword;
+		_stem = stem;
+		_gloss = gloss;
+		_note = note;
+		_noteForm = noteForm;
+	}
+
+	/**
+	 * Parse one line of a vocabulary file.
+	 * @param line
+	 * @param converter The converter used for the headword and note.
+	 * @return The entry. If the line does not have the form of an entry,
+	 * the entry holds only the converted line as its display text.
+	 */
+	public static VocabEntry parse(String line, BetaCodeConverter converter) {
+		return new VocabParser(converter).parseLine(line);
+	}
+
+	/**
+	 * Get the text under which the entry is displayed.
+	 * @return 
+	 */
+	public String getDisplay() {
+		return _display;
+	}
+
+	/**
+	 * Get the headword.
+	 * @return The headword or null if the line was not an entry.
+	 */
+	public String getHeadword() {
+		return _headword;
+	}
+
+	/**
+	 * Get the stem.
+	 * @return The stem or null if none is given.
+	 */
+	public String getStem() {
+		return _stem;
+	}
+
+	/**
+	 * Get the gloss, with its quotes and any abbreviation before it.
+	 * @return The gloss or null if the line was not an entry.
+	 */
+	public String getGloss() {
+		return _gloss;
+	}
+
+	/**
+	 * Get the abbreviation which begins the note, such as "cf.".
+	 * @return The note or null if none is given.
+	 */
+	public String getNote() {
+		return _note;
+	}
+
+	/**
+	 * Get the form which the note refers to.
+	 * @return The form or null if none is given.
+	 */
+	public String getNoteForm() {
+		return _noteForm;
+	}
+
+	/**
+	 * Tell whether the line had the form of an entry.
+	 * @return 
+	 */
+	public boolean isEntry() {
+		return _headword != null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if(!(o instanceof VocabEntry)) return false;
+		VocabEntry e = (VocabEntry) o;
+		return equal(_display, e._display) && equal(_headword, e._headword) &&
+			equal(_stem, e._stem) && equal(_gloss, e._gloss) &&
+			equal(_note, e._note) && equal(_noteForm, e._noteForm);
+	}
+
+	@Override
+	public int hashCode() {
+		return _display == null ? 0 : _display.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return _display;
+	}
+
+	/* Join the parts the way the vocabulary viewer has always shown
+	 them. */
+	private static String display(String headword, String stem, String gloss, String note, String noteForm) {
+		StringBuilder b = new StringBuilder();
+		if(headword != null) b.append(headword);
+		if(stem != null) b.append(" (").append(stem).append("-)");
+		if(gloss != null) b.append(", ").append(gloss);
+		if(note != null) b.append(", ").append(note);
+		if(noteForm != null) b.append(' ').append(noteForm);
+		return b.toString();
+	}
+
+	private static boolean equal(String a, String b) {
+		return a == null ? b == null : a.equals(b);
+	}
+
+}
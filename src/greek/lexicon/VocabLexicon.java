@@ -0,0 +1,289 @@
+package greek.lexicon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only vocabulary which lives in a memory-mapped file, so that tools
+ * can open even a long vocabulary without parsing or converting any beta
+ * code. Vocabularies are compiled with VocabLexiconBuilder.
+ *
+ * The file consists of a header, an entry table, an index sorted by headword,
+ * an index sorted by gloss, and a string pool. Each entry in the table holds
+ * the offsets in the pool of its display text, its parts, and the keys under
+ * which it is indexed, or zero for each part which it lacks. Each string in
+ * the pool is a length followed by UTF-16 code units. The indexes hold entry
+ * numbers; lines which are not entries appear in neither.
+ *
+ * Headwords are looked up without regard to case or final sigma, and the
+ * letters with oxia match their equivalents with tonos as in FullFormLexicon.
+ * Glosses are looked up by the text between their quotes, without regard to
+ * case.
+ *
+ * Lookups only read from the mapped buffer at absolute positions, so a
+ * vocabulary may be shared freely between threads.
+ */
+public class VocabLexicon {
+
+	/* The first four bytes of every vocabulary file. */
+	static final int MAGIC = 0x47564C58;
+
+	/* The version of the file layout. */
+	static final int VERSION = 1;
+
+	/* The size of the header: magic, version, entry count, headword
+	 index size, gloss index size. */
+	static final int HEADER_SIZE = 20;
+
+	/* The fields of an entry, in the order in which they are stored. */
+	static final int DISPLAY = 0;
+	static final int HEADWORD = 1;
+	static final int STEM = 2;
+	static final int GLOSS = 3;
+	static final int NOTE = 4;
+	static final int NOTE_FORM = 5;
+	static final int HEADWORD_KEY = 6;
+	static final int GLOSS_KEY = 7;
+	static final int FIELDS = 8;
+
+	/* The size of an entry. */
+	static final int ENTRY_SIZE = 4 * FIELDS;
+
+	private static final int[] NO_ENTRIES = new int[0];
+
+	private final ByteBuffer _buffer;
+	private final int _size;
+	private final int _headwordIndex;
+	private final int _headwordCount;
+	private final int _glossIndex;
+	private final int _glossCount;
+
+	/**
+	 * Wrap a buffer holding a vocabulary in the format written by
+	 * VocabLexiconBuilder.
+	 * @param buffer
+	 * @throws IllegalArgumentException If the buffer does not hold a
+	 * vocabulary.
+	 */
+	public VocabLexicon(ByteBuffer buffer) {
+		_buffer = buffer.duplicate();
+		if(_buffer.capacity() < HEADER_SIZE || _buffer.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("not a vocabulary lexicon");
+		}
+		if(_buffer.getInt(4) != VERSION) {
+			throw new IllegalArgumentException("unsupported vocabulary version " + _buffer.getInt(4));
+		}
+		_size = _buffer.getInt(8);
+		_headwordCount = _buffer.getInt(12);
+		_glossCount = _buffer.getInt(16);
+		if(_size < 0 || _headwordCount < 0 || _headwordCount > _size ||
+			_glossCount < 0 || _glossCount > _size ||
+			HEADER_SIZE + (long) _size * ENTRY_SIZE +
+			4L * (_headwordCount + _glossCount) > _buffer.capacity()) {
+			throw new IllegalArgumentException("corrupt vocabulary header");
+		}
+		_headwordIndex = HEADER_SIZE + _size * ENTRY_SIZE;
+		_glossIndex = _headwordIndex + 4 * _headwordCount;
+	}
+
+	/**
+	 * Memory-map a vocabulary file.
+	 * @param path
+	 * @return 
+	 * @throws IOException
+	 */
+	public static VocabLexicon open(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new VocabLexicon(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Tell whether a file is a compiled vocabulary rather than a text one.
+	 * @param path
+	 * @return 
+	 * @throws IOException
+	 */
+	public static boolean isLexicon(Path path) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(4);
+			while(magic.hasRemaining() && channel.read(magic) >= 0);
+			return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+		}
+	}
+
+	/**
+	 * Get the number of lines in the vocabulary, including those which are
+	 * not entries.
+	 * @return 
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Get a line of the vocabulary.
+	 * @param i The number of the line, counted from zero.
+	 * @return 
+	 */
+	public VocabEntry getEntry(int i) {
+		return new VocabEntry(getDisplay(i), getHeadword(i), getStem(i),
+			getGloss(i), getNote(i), getNoteForm(i));
+	}
+
+	/**
+	 * Get the text under which a line is displayed.
+	 * @param i
+	 * @return 
+	 */
+	public String getDisplay(int i) {
+		return getField(i, DISPLAY);
+	}
+
+	/**
+	 * Get the headword of a line.
+	 * @param i
+	 * @return The headword or null if the line is not an entry.
+	 */
+	public String getHeadword(int i) {
+		return getField(i, HEADWORD);
+	}
+
+	/**
+	 * Get the stem of a line.
+	 * @param i
+	 * @return The stem or null if none is given.
+	 */
+	public String getStem(int i) {
+		return getField(i, STEM);
+	}
+
+	/**
+	 * Get the gloss of a line.
+	 * @param i
+	 * @return The gloss or null if the line is not an entry.
+	 */
+	public String getGloss(int i) {
+		return getField(i, GLOSS);
+	}
+
+	/**
+	 * Get the note of a line.
+	 * @param i
+	 * @return The note or null if none is given.
+	 */
+	public String getNote(int i) {
+		return getField(i, NOTE);
+	}
+
+	/**
+	 * Get the form which the note of a line refers to.
+	 * @param i
+	 * @return The form or null if none is given.
+	 */
+	public String getNoteForm(int i) {
+		return getField(i, NOTE_FORM);
+	}
+
+	/**
+	 * Find the entries with a given headword.
+	 * @param headword
+	 * @return The numbers of the lines, in order.
+	 */
+	public int[] findHeadword(CharSequence headword) {
+		return find(_headwordIndex, _headwordCount, HEADWORD_KEY, headword, false);
+	}
+
+	/**
+	 * Find the entries whose headwords begin with a prefix.
+	 * @param prefix
+	 * @return The numbers of the lines, in order of their headwords.
+	 */
+	public int[] searchHeadword(CharSequence prefix) {
+		return find(_headwordIndex, _headwordCount, HEADWORD_KEY, prefix, true);
+	}
+
+	/**
+	 * Find the entries whose glosses begin with a prefix.
+	 * @param prefix The beginning of the text between the quotes.
+	 * @return The numbers of the lines, in order of their glosses.
+	 */
+	public int[] searchGloss(CharSequence prefix) {
+		return find(_glossIndex, _glossCount, GLOSS_KEY, prefix, true);
+	}
+
+	/* Find the range of an index whose keys equal the query, or begin with
+	 it, and return the entries in that range. */
+	private int[] find(int index, int count, int field, CharSequence query, boolean prefix) {
+		int low = 0, high = count;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(compare(keyOf(index, mid, field), query, false) < 0) low = mid + 1;
+			else high = mid;
+		}
+		int start = low;
+		high = count;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(compare(keyOf(index, mid, field), query, prefix) <= 0) low = mid + 1;
+			else high = mid;
+		}
+		if(low == start) return NO_ENTRIES;
+		int[] result = new int[low - start];
+		for(int i = 0; i < result.length; ++i) result[i] = _buffer.getInt(index + 4 * (start + i));
+		return result;
+	}
+
+	/* The pool offset of the key of the entry at a position in an
+	 index. */
+	private int keyOf(int index, int position, int field) {
+		int entry = _buffer.getInt(index + 4 * position);
+		return _buffer.getInt(HEADER_SIZE + entry * ENTRY_SIZE + 4 * field);
+	}
+
+	/*
+	 * Compare a key in the pool with a query, folding the query as the
+	 * keys are folded. If prefix is set, a key which begins with the query
+	 * compares equal to it.
+	 */
+	private int compare(int key, CharSequence query, boolean prefix) {
+		int length = _buffer.getChar(key);
+		int n = Math.min(length, query.length());
+		int offset = key + 2;
+		for(int i = 0; i < n; ++i, offset += 2) {
+			int d = _buffer.getChar(offset) - fold(query.charAt(i));
+			if(d != 0) return d;
+		}
+		if(prefix && length >= query.length()) return 0;
+		return length - query.length();
+	}
+
+	private String getField(int i, int field) {
+		if(i < 0 || i >= _size) throw new IndexOutOfBoundsException("line " + i);
+		int offset = _buffer.getInt(HEADER_SIZE + i * ENTRY_SIZE + 4 * field);
+		if(offset == 0) return null;
+		int length = _buffer.getChar(offset);
+		char[] chars = new char[length];
+		offset += 2;
+		for(int j = 0; j < length; ++j, offset += 2) chars[j] = _buffer.getChar(offset);
+		return new String(chars);
+	}
+
+	/* Fold a character of a key or query. Final sigma folds with the
+	 others, since it has no capital of its own. */
+	static char fold(char c) {
+		c = Character.toLowerCase(FullFormLexicon.fold(c));
+		return c == '\u03C2' ? '\u03C3' : c;
+	}
+
+	/* Fold a whole key. */
+	static String fold(CharSequence s) {
+		char[] chars = new char[s.length()];
+		for(int i = 0; i < chars.length; ++i) chars[i] = fold(s.charAt(i));
+		return new String(chars);
+	}
+
+}
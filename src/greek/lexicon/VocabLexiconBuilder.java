@@ -0,0 +1,186 @@
+package greek.lexicon;
+
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.BetaCodeConverter;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a vocabulary into a file which can be opened with VocabLexicon.
+ * The lines are parsed and their beta code converted once, here, so that
+ * nothing needs to be parsed when the vocabulary is opened. Equal strings
+ * are stored once in the string pool.
+ */
+public class VocabLexiconBuilder {
+
+	private final VocabParser _parser;
+	private final List<VocabEntry> _entries = new ArrayList<>();
+
+	/**
+	 * Initialize a builder which converts beta code with the best-effort
+	 * converter.
+	 */
+	public VocabLexiconBuilder() {
+		this(new BetaCodeBestEffortConverter());
+	}
+
+	/**
+	 * Initialize a builder with a beta code converter.
+	 * @param converter
+	 */
+	public VocabLexiconBuilder(BetaCodeConverter converter) {
+		_parser = new VocabParser(converter);
+	}
+
+	/**
+	 * Parse and add a line of a vocabulary file.
+	 * @param line
+	 * @return The entry added.
+	 */
+	public VocabEntry addLine(String line) {
+		VocabEntry e = _parser.parseLine(line);
+		add(e);
+		return e;
+	}
+
+	/**
+	 * Add every line of a vocabulary file.
+	 * @param path
+	 * @return The lines as parsed, including those which were malformed.
+	 * @throws IOException
+	 */
+	public VocabParser.Result addFile(Path path) throws IOException {
+		VocabParser.Result result = _parser.parse(path);
+		addAll(result.getEntries());
+		return result;
+	}
+
+	/**
+	 * Add an entry.
+	 * @param e
+	 */
+	public void add(VocabEntry e) {
+		_entries.add(e);
+	}
+
+	/**
+	 * Add entries in order.
+	 * @param entries
+	 */
+	public void addAll(List<VocabEntry> entries) {
+		_entries.addAll(entries);
+	}
+
+	/**
+	 * Get the number of lines added so far.
+	 * @return 
+	 */
+	public int size() {
+		return _entries.size();
+	}
+
+	/**
+	 * Write the vocabulary to a file, replacing anything already there.
+	 * @param path
+	 * @throws IOException
+	 */
+	public void write(Path path) throws IOException {
+
+		int n = _entries.size();
+		String[][] fields = new String[n][];
+		for(int i = 0; i < n; ++i) fields[i] = fieldsOf(_entries.get(i));
+		Integer[] headwords = sortedBy(fields, VocabLexicon.HEADWORD_KEY);
+		Integer[] glosses = sortedBy(fields, VocabLexicon.GLOSS_KEY);
+
+		// Lay out the string pool after the tables.
+		long offset = VocabLexicon.HEADER_SIZE + (long) n * VocabLexicon.ENTRY_SIZE +
+			4L * (headwords.length + glosses.length);
+		Map<String, Integer> pool = new LinkedHashMap<>();
+		int[][] offsets = new int[n][VocabLexicon.FIELDS];
+		for(int i = 0; i < n; ++i) {
+			for(int f = 0; f < VocabLexicon.FIELDS; ++f) {
+				String s = fields[i][f];
+				if(s == null) continue;
+				if(s.length() > Character.MAX_VALUE) {
+					throw new IllegalArgumentException("line " + (i + 1) + " too long");
+				}
+				Integer existing = pool.get(s);
+				if(existing == null) {
+					if(offset > Integer.MAX_VALUE) throw new IllegalStateException("vocabulary too large");
+					existing = (int) offset;
+					pool.put(s, existing);
+					offset += 2 + 2L * s.length();
+				}
+				offsets[i][f] = existing;
+			}
+		}
+		if(offset > Integer.MAX_VALUE) throw new IllegalStateException("vocabulary too large");
+
+		try(DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(VocabLexicon.MAGIC);
+			out.writeInt(VocabLexicon.VERSION);
+			out.writeInt(n);
+			out.writeInt(headwords.length);
+			out.writeInt(glosses.length);
+			for(int[] entry : offsets) {
+				for(int x : entry) out.writeInt(x);
+			}
+			for(int i : headwords) out.writeInt(i);
+			for(int i : glosses) out.writeInt(i);
+			for(String s : pool.keySet()) {
+				out.writeChar(s.length());
+				out.writeChars(s);
+			}
+		}
+	}
+
+	/* The strings stored for an entry, in the order of the fields of the
+	 entry table. */
+	private static String[] fieldsOf(VocabEntry e) {
+		String[] result = new String[VocabLexicon.FIELDS];
+		result[VocabLexicon.DISPLAY] = e.getDisplay();
+		result[VocabLexicon.HEADWORD] = e.getHeadword();
+		result[VocabLexicon.STEM] = e.getStem();
+		result[VocabLexicon.GLOSS] = e.getGloss();
+		result[VocabLexicon.NOTE] = e.getNote();
+		result[VocabLexicon.NOTE_FORM] = e.getNoteForm();
+		if(e.getHeadword() != null) {
+			result[VocabLexicon.HEADWORD_KEY] = VocabLexicon.fold(e.getHeadword());
+		}
+		if(e.getGloss() != null) {
+			result[VocabLexicon.GLOSS_KEY] = VocabLexicon.fold(glossText(e.getGloss()));
+		}
+		return result;
+	}
+
+	/* The entries which have a key, sorted by it. The sort is stable, so
+	 entries with equal keys stay in the order of the file. */
+	private static Integer[] sortedBy(String[][] fields, int key) {
+		int count = 0;
+		for(String[] f : fields) if(f[key] != null) ++count;
+		Integer[] result = new Integer[count];
+		count = 0;
+		for(int i = 0; i < fields.length; ++i) if(fields[i][key] != null) result[count++] = i;
+		Arrays.sort(result, Comparator.comparing(i -> fields[i][key]));
+		return result;
+	}
+
+	/* The text of a gloss between its quotes, without the abbreviation
+	 which may come before it. */
+	private static String glossText(String gloss) {
+		int start = gloss.indexOf('\'');
+		int end = gloss.lastIndexOf('\'');
+		return end > start ? gloss.substring(start + 1, end) : gloss;
+	}
+
+}
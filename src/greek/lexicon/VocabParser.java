@@ -0,0 +1,273 @@
+package greek.lexicon;
+
+import greek.code.BetaCode;
+import greek.code.BetaCodeConverter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A parser for the lines of a vocabulary file. A line is scanned a constant
+ * number of times, with no backtracking, and its Greek parts are converted
+ * as they are found.
+ *
+ * A line is read the same way as by the pattern which the vocabulary viewer
+ * once used:
+ * <pre>
+ * (.*?)(?: [(](.*)-[)])?, (([A-Za-z]+[.] )?['].*['])( ([A-Za-z]+[.]) (.*))?
+ * </pre>
+ * That is, the headword runs up to the first ", " or " (" after which the
+ * rest of the line can be read as an entry. A stem runs up to the last "-), "
+ * which a gloss follows. The gloss runs from its opening quote, or from the
+ * abbreviation before it, to the last quote on the line, and a note may
+ * follow it. Anything else after the gloss is ignored.
+ *
+ * Files may be parsed in one pass or, for large files, split into ranges of
+ * lines which are parsed in parallel. Either way, lines which are not blank
+ * and do not have the form of an entry are reported with their line numbers.
+ */
+public class VocabParser {
+
+	/* The number of lines below which a range is not split further. */
+	private static final int RANGE_SIZE = 2048;
+
+	/**
+	 * A line which does not have the form of an entry.
+	 */
+	public static final class Malformed {
+
+		private final int _lineNumber;
+		private final String _line;
+
+		Malformed(int lineNumber, String line) {
+			_lineNumber = lineNumber;
+			_line = line;
+		}
+
+		/**
+		 * Get the number of the line, counted from one.
+		 * @return 
+		 */
+		public int getLineNumber() {
+			return _lineNumber;
+		}
+
+		/**
+		 * Get the text of the line.
+		 * @return 
+		 */
+		public String getLine() {
+			return _line;
+		}
+
+		@Override
+		public String toString() {
+			return "line " + _lineNumber + ": not an entry: " + _line;
+		}
+	}
+
+	/**
+	 * The lines of a file, parsed.
+	 */
+	public static final class Result {
+
+		private final List<VocabEntry> _entries;
+		private final List<Malformed> _malformed;
+
+		Result(List<VocabEntry> entries, List<Malformed> malformed) {
+			_entries = Collections.unmodifiableList(entries);
+			_malformed = Collections.unmodifiableList(malformed);
+		}
+
+		/**
+		 * Get every line, in order. A malformed line is kept as its
+		 * display text alone.
+		 * @return 
+		 */
+		public List<VocabEntry> getEntries() {
+			return _entries;
+		}
+
+		/**
+		 * Get the lines which are not blank and do not have the form of
+		 * an entry, in order.
+		 * @return 
+		 */
+		public List<Malformed> getMalformed() {
+			return _malformed;
+		}
+	}
+
+	private final BetaCodeConverter _converter;
+
+	/**
+	 * Initialize a parser.
+	 * @param converter The converter used for the headword and note. Since
+	 * converters hold no state, one may be shared between threads.
+	 */
+	public VocabParser(BetaCodeConverter converter) {
+		_converter = converter;
+	}
+
+	/**
+	 * Parse one line.
+	 * @param line
+	 * @return The entry. If the line does not have the form of an entry,
+	 * the entry holds only the converted line as its display text.
+	 */
+	public VocabEntry parseLine(String line) {
+		int n = line.length();
+		int lastQuote = line.lastIndexOf('\'');
+
+		// The stem ends at the last "-), " which a gloss follows. The
+		// abbreviations scanned after each one do not overlap.
+		int stemEnd = -1;
+		for(int r = line.indexOf("-), "); r >= 0; r = line.indexOf("-), ", r + 4)) {
+			if(isGlossStart(line, r + 4, lastQuote)) stemEnd = r;
+		}
+
+		for(int p = 0; p + 1 < n; ++p) {
+			char c = line.charAt(p), next = line.charAt(p + 1);
+			if(c == ' ' && next == '(' && stemEnd >= p + 2) {
+				return entry(line, p, line.substring(p + 2, stemEnd), stemEnd + 4, lastQuote);
+			}
+			if(c == ',' && next == ' ' && isGlossStart(line, p + 2, lastQuote)) {
+				return entry(line, p, null, p + 2, lastQuote);
+			}
+		}
+		return new VocabEntry(_converter.toPrecombinedUnicode(line), null, null, null, null, null);
+	}
+
+	/* Make the entry of a line whose headword ends at the given position
+	 and whose gloss starts at another. */
+	private VocabEntry entry(String line, int headwordEnd, String stem, int glossStart, int lastQuote) {
+		String note = null, noteForm = null;
+		int k = lastQuote + 1, n = line.length();
+		if(k < n && line.charAt(k) == ' ') {
+			int e = letters(line, k + 1);
+			if(e > k + 1 && e + 1 < n && line.charAt(e) == '.' && line.charAt(e + 1) == ' ') {
+				note = line.substring(k + 1, e + 1);
+				noteForm = _converter.toPrecombinedUnicode(line.substring(e + 2));
+			}
+		}
+		return new VocabEntry(
+			_converter.toPrecombinedUnicode(line.substring(0, headwordEnd)),
+			stem == null ? null : BetaCode.betaCodeToPrecombinedUnicode(stem),
+			line.substring(glossStart, lastQuote + 1),
+			note,
+			noteForm);
+	}
+
+	/* Tell whether a gloss, with an optional abbreviation before its
+	 opening quote, begins at a position. */
+	private static boolean isGlossStart(String line, int q, int lastQuote) {
+		int o = letters(line, q);
+		if(o > q) {
+			if(o + 1 >= line.length() || line.charAt(o) != '.' || line.charAt(o + 1) != ' ') return false;
+			o += 2;
+		}
+		return o < lastQuote && line.charAt(o) == '\'';
+	}
+
+	/* The end of the run of ASCII letters starting at a position. */
+	private static int letters(String line, int i) {
+		int n = line.length();
+		while(i < n) {
+			char c = line.charAt(i);
+			if(!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) break;
+			++i;
+		}
+		return i;
+	}
+
+	/**
+	 * Parse every line of a file in one pass.
+	 * @param path
+	 * @return 
+	 * @throws IOException
+	 */
+	public Result parse(Path path) throws IOException {
+		List<VocabEntry> entries = new ArrayList<>();
+		List<Malformed> malformed = new ArrayList<>();
+		try(BufferedReader r = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while((line = r.readLine()) != null) {
+				VocabEntry e = parseLine(line);
+				if(isMalformed(e, line)) malformed.add(new Malformed(entries.size() + 1, line));
+				entries.add(e);
+			}
+		}
+		return new Result(entries, malformed);
+	}
+
+	/**
+	 * Parse the lines of a file in parallel. The file is read into memory
+	 * and split into ranges of lines, each of which is parsed by a task on
+	 * the pool.
+	 * @param path
+	 * @param pool
+	 * @return The same result as parse(path).
+	 * @throws IOException
+	 */
+	public Result parseParallel(Path path, ForkJoinPool pool) throws IOException {
+		return parse(Files.readAllLines(path, StandardCharsets.UTF_8), pool);
+	}
+
+	/**
+	 * Parse lines in parallel.
+	 * @param lines
+	 * @param pool
+	 * @return 
+	 */
+	public Result parse(List<String> lines, ForkJoinPool pool) {
+		VocabEntry[] entries = new VocabEntry[lines.size()];
+		pool.invoke(new RangeTask(lines, entries, 0, entries.length));
+		List<Malformed> malformed = new ArrayList<>();
+		for(int i = 0; i < entries.length; ++i) {
+			if(isMalformed(entries[i], lines.get(i))) malformed.add(new Malformed(i + 1, lines.get(i)));
+		}
+		return new Result(Arrays.asList(entries), malformed);
+	}
+
+	private static boolean isMalformed(VocabEntry e, String line) {
+		return !e.isEntry() && !line.trim().isEmpty();
+	}
+
+	/* Parses a range of lines, splitting it in half while it is large. */
+	private class RangeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> _lines;
+		private final VocabEntry[] _entries;
+		private final int _start, _end;
+
+		RangeTask(List<String> lines, VocabEntry[] entries, int start, int end) {
+			_lines = lines;
+			_entries = entries;
+			_start = start;
+			_end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if(_end - _start <= RANGE_SIZE) {
+				for(int i = _start; i < _end; ++i) _entries[i] = parseLine(_lines.get(i));
+			}
+			else {
+				int middle = (_start + _end) >>> 1;
+				invokeAll(new RangeTask(_lines, _entries, _start, middle),
+					new RangeTask(_lines, _entries, middle, _end));
+			}
+		}
+	}
+
+}
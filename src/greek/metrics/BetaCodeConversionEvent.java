@@ -0,0 +1,15 @@
+package greek.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event around a conversion of beta code to precombined
+ * Unicode.
+ */
+@Name("greek.BetaCodeConversion")
+@Label("Beta Code Conversion")
+@Description("Conversion of beta code to Unicode; the input length is in characters")
+public final class BetaCodeConversionEvent extends OperationEvent {
+}
@@ -0,0 +1,105 @@
+package greek.metrics;
+
+import greek.grammar.GrammaticalTag;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * The way into the Flight Recorder events, which keeps them from being loaded
+ * until the recorder is in use. Loading any event class makes the JVM start
+ * the recorder, which costs a short-lived program far more than all of its
+ * own initialization. The events are therefore only made once the recorder
+ * has been started, by a command-line option or by attaching to the process,
+ * and until then each operation passes null tokens around.
+ *
+ * Callers hold on to the tokens as plain objects, so that no event class is
+ * named where the verifier would have to load it.
+ */
+public final class Flight {
+
+	/**
+	 * The outcome of an operation which succeeded.
+	 */
+	public static final String OK = "ok";
+
+	/** A BetaCodeConversionEvent. */
+	public static final int BETA_CODE_CONVERSION = 0;
+	/** A UnicodeRenderingEvent. */
+	public static final int UNICODE_RENDERING = 1;
+	/** A PhonoCodeParseEvent. */
+	public static final int PHONO_CODE_PARSE = 2;
+
+	private Flight() {
+	}
+
+	/**
+	 * Begin an operation event.
+	 * @param kind One of BETA_CODE_CONVERSION, UNICODE_RENDERING, and
+	 * PHONO_CODE_PARSE.
+	 * @return The token to pass to end, or null if the recorder is not
+	 * in use.
+	 */
+	public static Object begin(int kind) {
+		return FlightRecorder.isInitialized() ? Events.begin(kind) : null;
+	}
+
+	/**
+	 * End an operation event.
+	 * @param token The token from begin.
+	 * @param inputLength
+	 * @param outcome OK or a short description of the failure.
+	 */
+	public static void end(Object token, int inputLength, String outcome) {
+		if(token != null) Events.end(token, inputLength, outcome);
+	}
+
+	/**
+	 * Begin a verb form event.
+	 * @return The token to pass to endVerbForm, or null if the recorder is
+	 * not in use.
+	 */
+	public static Object beginVerbForm() {
+		return FlightRecorder.isInitialized() ? Events.beginVerbForm() : null;
+	}
+
+	/**
+	 * End a verb form event.
+	 * @param token The token from beginVerbForm.
+	 * @param verb The class of the verb.
+	 * @param tag The tag of the requested form.
+	 * @param found Whether the verb has the form.
+	 */
+	public static void endVerbForm(Object token, Class<?> verb, GrammaticalTag tag, boolean found) {
+		if(token != null) Events.endVerbForm(token, verb, tag, found);
+	}
+
+	/* Names the event classes. It is loaded only once the recorder is in
+	 use. */
+	private static final class Events {
+
+		static Object begin(int kind) {
+			OperationEvent event;
+			switch(kind) {
+				case BETA_CODE_CONVERSION: event = new BetaCodeConversionEvent(); break;
+				case UNICODE_RENDERING:    event = new UnicodeRenderingEvent(); break;
+				default:                   event = new PhonoCodeParseEvent(); break;
+			}
+			event.begin();
+			return event;
+		}
+
+		static void end(Object token, int inputLength, String outcome) {
+			((OperationEvent) token).end(inputLength, outcome);
+		}
+
+		static Object beginVerbForm() {
+			VerbFormEvent event = new VerbFormEvent();
+			event.begin();
+			return event;
+		}
+
+		static void endVerbForm(Object token, Class<?> verb, GrammaticalTag tag, boolean found) {
+			((VerbFormEvent) token).end(verb, tag, found);
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+package greek.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds with a bucket for each power of
+ * two. Recording takes a single striped increment, so any number of threads
+ * may record at once without contending; quantiles are accurate to within a
+ * factor of two.
+ */
+public final class LatencyHistogram {
+
+	private final LongAdder[] _buckets = new LongAdder[Long.SIZE];
+	private final LongAdder _total = new LongAdder();
+
+	/**
+	 * Initialize an empty histogram.
+	 */
+	public LatencyHistogram() {
+		for(int i = 0; i < _buckets.length; ++i) _buckets[i] = new LongAdder();
+	}
+
+	/**
+	 * Record a duration.
+	 * @param nanos The duration in nanoseconds. Negative durations, which
+	 * a clock running backwards might give, are counted as zero.
+	 */
+	public void record(long nanos) {
+		if(nanos < 0) nanos = 0;
+		_buckets[Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos | 1)].increment();
+		_total.add(nanos);
+	}
+
+	/**
+	 * Get the number of durations recorded.
+	 * @return
+	 */
+	public long getCount() {
+		long result = 0;
+		for(LongAdder b : _buckets) result += b.sum();
+		return result;
+	}
+
+	/**
+	 * Get the mean of the durations recorded.
+	 * @return The mean in nanoseconds, or 0 if none have been recorded.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0.0 : (double) _total.sum() / count;
+	}
+
+	/**
+	 * Get an upper bound on a quantile of the durations recorded.
+	 * @param q The quantile, between 0 and 1.
+	 * @return The upper bound in nanoseconds of the bucket in which the
+	 * quantile falls, or 0 if none have been recorded.
+	 */
+	public long getQuantile(double q) {
+		long[] counts = new long[_buckets.length];
+		long count = 0;
+		for(int i = 0; i < counts.length; ++i) count += counts[i] = _buckets[i].sum();
+		if(count == 0) return 0;
+		long rank = (long) Math.ceil(q * count);
+		long seen = 0;
+		for(int i = 0; i < counts.length; ++i) {
+			seen += counts[i];
+			if(seen >= rank && counts[i] > 0) return i == Long.SIZE - 1 ? Long.MAX_VALUE : (2L << i) - 1;
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Discard every duration recorded.
+	 */
+	public void reset() {
+		for(LongAdder b : _buckets) b.reset();
+		_total.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("n=%d mean=%.1fus p50<%.1fus p99<%.1fus", getCount(),
+			getMean() / 1000.0, getQuantile(0.5) / 1000.0, getQuantile(0.99) / 1000.0);
+	}
+
+}
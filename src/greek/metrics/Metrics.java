@@ -0,0 +1,317 @@
+package greek.metrics;
+
+import greek.morphology.RenderingCache;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counts of the work done by the converters and the form generators, for the
+ * whole program. The counts are striped, so that threads converting at once
+ * do not contend for them, and are always kept.
+ *
+ * Latencies are kept only while timing is enabled, since reading the clock
+ * costs about as much as assembling a short form. Timing is off by default;
+ * it may be turned on with the system property greek.metrics.timing, by
+ * calling setTimingEnabled, or over JMX once the metrics are registered.
+ */
+public final class Metrics implements MetricsMBean {
+
+	/**
+	 * The name under which the metrics are registered.
+	 */
+	public static final String OBJECT_NAME = "greek:type=Metrics";
+
+	/**
+	 * The ways in which a conversion or a form can fail.
+	 */
+	public enum Failure {
+		/** Beta code contained a character the converter would not take. */
+		NON_BETA_CODE,
+		/** A grapheme had no precombined code point and no placeholder. */
+		NO_CODE_POINT,
+		/** An assembled form contained a phoneme which cannot be written. */
+		UNWRITABLE_FORM
+	}
+
+	/* Returned by startTimer while timing is disabled. */
+	private static final long NOT_TIMED = Long.MIN_VALUE;
+
+	private static final Metrics _instance = new Metrics();
+
+	private static volatile boolean _timing = Boolean.getBoolean("greek.metrics.timing");
+
+	private static final LongAdder _conversions = new LongAdder();
+	private static final LongAdder _charsConverted = new LongAdder();
+	private static final LongAdder _graphemesEmitted = new LongAdder();
+	private static final LongAdder _fallbacks = new LongAdder();
+	private static final LongAdder[] _failures = new LongAdder[Failure.values().length];
+	private static final LongAdder _formsGenerated = new LongAdder();
+	private static final LongAdder _formCacheHits = new LongAdder();
+	private static final LongAdder _formCacheMisses = new LongAdder();
+
+	static {
+		for(int i = 0; i < _failures.length; ++i) _failures[i] = new LongAdder();
+	}
+
+	/* Holds the histograms, which are made only once something is timed or
+	 they are asked for. */
+	private static final class Latency {
+		static final LatencyHistogram CONVERSION = new LatencyHistogram();
+		static final LatencyHistogram GENERATION = new LatencyHistogram();
+	}
+
+	private Metrics() {
+	}
+
+	/**
+	 * Get the instance through which the metrics are managed.
+	 * @return
+	 */
+	public static Metrics get() {
+		return _instance;
+	}
+
+	/**
+	 * Register the metrics with the platform MBean server, unless they
+	 * have been already.
+	 * @return The name under which they are registered.
+	 * @throws JMException
+	 */
+	public static synchronized ObjectName register() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if(!server.isRegistered(name)) server.registerMBean(_instance, name);
+		return name;
+	}
+
+	/**
+	 * Note the start of an operation which is to be timed.
+	 * @return A token to be passed back when the operation ends.
+	 */
+	public static long startTimer() {
+		return _timing ? System.nanoTime() : NOT_TIMED;
+	}
+
+	/**
+	 * Count a conversion of beta code.
+	 * @param chars The length of the input.
+	 * @param graphemes The number of Greek graphemes produced.
+	 * @param start The token from startTimer.
+	 */
+	public static void converted(int chars, int graphemes, long start) {
+		_conversions.increment();
+		_charsConverted.add(chars);
+		_graphemesEmitted.add(graphemes);
+		if(start != NOT_TIMED) Latency.CONVERSION.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Count a conversion of beta code which failed.
+	 * @param chars The length of the input.
+	 * @param failure
+	 * @param start The token from startTimer.
+	 */
+	public static void conversionFailed(int chars, Failure failure, long start) {
+		_conversions.increment();
+		_charsConverted.add(chars);
+		_failures[failure.ordinal()].increment();
+		if(start != NOT_TIMED) Latency.CONVERSION.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Count a grapheme which was written with a placeholder because it has
+	 * no precombined code point.
+	 */
+	public static void fallback() {
+		_fallbacks.increment();
+	}
+
+	/**
+	 * Count a form which was generated rather than found in a cache.
+	 * @param start The token from startTimer.
+	 */
+	public static void formGenerated(long start) {
+		_formsGenerated.increment();
+		if(start != NOT_TIMED) Latency.GENERATION.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Count a form which could not be written.
+	 */
+	public static void formFailed() {
+		_failures[Failure.UNWRITABLE_FORM.ordinal()].increment();
+	}
+
+	/**
+	 * Count a lookup in the form cache of a lexeme.
+	 * @param hit Whether the form was found.
+	 */
+	public static void formCacheLookup(boolean hit) {
+		(hit ? _formCacheHits : _formCacheMisses).increment();
+	}
+
+	/**
+	 * Get the number of failures of a kind.
+	 * @param failure
+	 * @return
+	 */
+	public static long getFailures(Failure failure) {
+		return _failures[failure.ordinal()].sum();
+	}
+
+	@Override
+	public long getConversions() {
+		return _conversions.sum();
+	}
+
+	@Override
+	public long getCharsConverted() {
+		return _charsConverted.sum();
+	}
+
+	@Override
+	public long getGraphemesEmitted() {
+		return _graphemesEmitted.sum();
+	}
+
+	@Override
+	public long getFallbacks() {
+		return _fallbacks.sum();
+	}
+
+	@Override
+	public long getNonBetaCodeFailures() {
+		return getFailures(Failure.NON_BETA_CODE);
+	}
+
+	@Override
+	public long getNoCodePointFailures() {
+		return getFailures(Failure.NO_CODE_POINT);
+	}
+
+	@Override
+	public long getUnwritableFormFailures() {
+		return getFailures(Failure.UNWRITABLE_FORM);
+	}
+
+	@Override
+	public long getFormsGenerated() {
+		return _formsGenerated.sum();
+	}
+
+	@Override
+	public long getFormCacheHits() {
+		return _formCacheHits.sum();
+	}
+
+	@Override
+	public long getFormCacheMisses() {
+		return _formCacheMisses.sum();
+	}
+
+	@Override
+	public long getRenderingCacheHits() {
+		return RenderingCache.getShared().getHits();
+	}
+
+	@Override
+	public long getRenderingCacheMisses() {
+		return RenderingCache.getShared().getMisses();
+	}
+
+	@Override
+	public double getConversionLatencyMean() {
+		return Latency.CONVERSION.getMean();
+	}
+
+	@Override
+	public long getConversionLatencyP50() {
+		return Latency.CONVERSION.getQuantile(0.5);
+	}
+
+	@Override
+	public long getConversionLatencyP99() {
+		return Latency.CONVERSION.getQuantile(0.99);
+	}
+
+	@Override
+	public double getGenerationLatencyMean() {
+		return Latency.GENERATION.getMean();
+	}
+
+	@Override
+	public long getGenerationLatencyP50() {
+		return Latency.GENERATION.getQuantile(0.5);
+	}
+
+	@Override
+	public long getGenerationLatencyP99() {
+		return Latency.GENERATION.getQuantile(0.99);
+	}
+
+	@Override
+	public boolean isTimingEnabled() {
+		return _timing;
+	}
+
+	@Override
+	public void setTimingEnabled(boolean enabled) {
+		_timing = enabled;
+	}
+
+	/**
+	 * Reset every count and latency to zero. The counts of the shared
+	 * rendering cache are left alone, since they belong to the cache.
+	 */
+	@Override
+	public void reset() {
+		_conversions.reset();
+		_charsConverted.reset();
+		_graphemesEmitted.reset();
+		_fallbacks.reset();
+		for(LongAdder f : _failures) f.reset();
+		_formsGenerated.reset();
+		_formCacheHits.reset();
+		_formCacheMisses.reset();
+		Latency.CONVERSION.reset();
+		Latency.GENERATION.reset();
+	}
+
+	/**
+	 * Describe every count and, if timing is enabled, every latency, one
+	 * per line.
+	 * @return
+	 */
+	@Override
+	public String getSummary() {
+		StringBuilder result = new StringBuilder();
+		line(result, "conversions", getConversions());
+		line(result, "chars converted", getCharsConverted());
+		line(result, "graphemes emitted", getGraphemesEmitted());
+		line(result, "fallbacks", getFallbacks());
+		for(Failure f : Failure.values()) {
+			line(result, "failures (" + f.name().toLowerCase().replace('_', ' ') + ")", getFailures(f));
+		}
+		line(result, "forms generated", getFormsGenerated());
+		line(result, "form cache", _formCacheHits.sum() + " hits, " + _formCacheMisses.sum() + " misses");
+		line(result, "rendering cache", RenderingCache.getShared());
+		if(_timing) {
+			line(result, "conversion latency", Latency.CONVERSION);
+			line(result, "generation latency", Latency.GENERATION);
+		}
+		return result.toString();
+	}
+
+	private static void line(StringBuilder buffer, String label, Object value) {
+		buffer.append(String.format("%-28s %s%n", label + ":", value));
+	}
+
+	@Override
+	public String toString() {
+		return getSummary();
+	}
+
+}
@@ -0,0 +1,54 @@
+package greek.metrics;
+
+/**
+ * The management interface through which Metrics is exposed over JMX.
+ * Latencies are in nanoseconds, and quantiles are upper bounds accurate to
+ * within a factor of two.
+ */
+public interface MetricsMBean {
+
+	long getConversions();
+
+	long getCharsConverted();
+
+	long getGraphemesEmitted();
+
+	long getFallbacks();
+
+	long getNonBetaCodeFailures();
+
+	long getNoCodePointFailures();
+
+	long getUnwritableFormFailures();
+
+	long getFormsGenerated();
+
+	long getFormCacheHits();
+
+	long getFormCacheMisses();
+
+	long getRenderingCacheHits();
+
+	long getRenderingCacheMisses();
+
+	double getConversionLatencyMean();
+
+	long getConversionLatencyP50();
+
+	long getConversionLatencyP99();
+
+	double getGenerationLatencyMean();
+
+	long getGenerationLatencyP50();
+
+	long getGenerationLatencyP99();
+
+	boolean isTimingEnabled();
+
+	void setTimingEnabled(boolean enabled);
+
+	void reset();
+
+	String getSummary();
+
+}
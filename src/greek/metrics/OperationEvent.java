@@ -0,0 +1,45 @@
+package greek.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A Flight Recorder event around a single conversion of a string. By default
+ * only calls which take longer than the threshold are recorded; the
+ * threshold of each kind of event may be changed in the recording settings,
+ * for instance with
+ * <pre>
+ * -XX:StartFlightRecording:greek.BetaCodeConversion#threshold=0ms
+ * </pre>
+ * Events are made through Flight, which does not load them until the
+ * recorder is in use.
+ */
+@Category("Greek")
+@StackTrace(false)
+@Threshold("1 ms")
+public abstract class OperationEvent extends Event {
+
+	@Label("Input Length")
+	int inputLength;
+
+	@Label("Outcome")
+	String outcome;
+
+	/**
+	 * End the event and record it if it is enabled and took long enough.
+	 * @param length The length of the input.
+	 * @param result How the call turned out: Flight.OK or a short
+	 * description of the failure.
+	 */
+	public final void end(int length, String result) {
+		if(shouldCommit()) {
+			inputLength = length;
+			outcome = result;
+			commit();
+		}
+	}
+
+}
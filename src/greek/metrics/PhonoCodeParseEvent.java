@@ -0,0 +1,14 @@
+package greek.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event around a conversion of phono code to a morpheme.
+ */
+@Name("greek.PhonoCodeParse")
+@Label("Phono Code Parse")
+@Description("Conversion of phono code to a morpheme; the input length is in characters")
+public final class PhonoCodeParseEvent extends OperationEvent {
+}
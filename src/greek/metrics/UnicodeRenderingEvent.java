@@ -0,0 +1,15 @@
+package greek.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event around a rendering of graphemes as precombined
+ * Unicode.
+ */
+@Name("greek.UnicodeRendering")
+@Label("Unicode Rendering")
+@Description("Rendering of graphemes as Unicode; the input length is in graphemes")
+public final class UnicodeRenderingEvent extends OperationEvent {
+}
@@ -0,0 +1,48 @@
+package greek.metrics;
+
+import greek.grammar.GrammaticalTag;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A Flight Recorder event around a request for a form of a verb. Like an
+ * OperationEvent, it is recorded by default only when the call is slow.
+ */
+@Name("greek.VerbForm")
+@Label("Verb Form")
+@Description("Request for a form of a verb")
+@Category("Greek")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class VerbFormEvent extends Event {
+
+	@Label("Verb Class")
+	String verbClass;
+
+	@Label("Form")
+	String form;
+
+	@Label("Found")
+	boolean found;
+
+	/**
+	 * End the event and record it if it is enabled and took long enough.
+	 * @param verb The class of the verb.
+	 * @param tag The tag of the requested form.
+	 * @param result Whether the verb has the form.
+	 */
+	public void end(Class<?> verb, GrammaticalTag tag, boolean result) {
+		if(shouldCommit()) {
+			verbClass = verb.getSimpleName();
+			form = tag.toString();
+			found = result;
+			commit();
+		}
+	}
+
+}
@@ -1,5 +1,7 @@
 package greek.morphology;
 
+import greek.phonology.PitchedPhoneme;
+
 /**
  * Two morphemes contracting together.
  * @author Brian DuSell <bdusell@gmail.com>
@@ -25,7 +27,7 @@ public class ContractingMorpheme {
 	 * morpheme, as on a verb form.
 	 */
 	public void throwBackPitch() {
-		_morpheme.throwBackPitch();
+		_morpheme = _morpheme.withPitchThrownBack();
 	}
 
 	/**
@@ -35,8 +37,12 @@ public class ContractingMorpheme {
 	 */
 	public boolean contract() {
 		if(_sep >= 0 && _sep + 1 < _morpheme.size()) {
-			if(_morpheme.getPhoneme(_sep).tryContractWith(_morpheme.getPhoneme(_sep + 1))) {
-				_morpheme.removePhoneme(_sep + 1);
+			PitchedPhoneme contraction = _morpheme.getPhoneme(_sep);
+			if(contraction.tryContractWith(_morpheme.getPhoneme(_sep + 1))) {
+				_morpheme = new Morpheme.Builder(_morpheme)
+					.set(_sep, contraction)
+					.remove(_sep + 1)
+					.build();
 				return true;
 			}
 		}
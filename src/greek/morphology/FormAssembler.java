@@ -0,0 +1,313 @@
+package greek.morphology;
+
+import greek.code.Unicode;
+import greek.morphology.verb.VowelContraction;
+import greek.phonology.Phoneme;
+import greek.phonology.PitchedPhoneme;
+import greek.phonology.PitchedPhoneme.Pitch;
+import greek.spelling.Grapheme;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assembles word forms from a stem and an ending and writes them straight out
+ * as precombined Unicode, in a single pass and without making any morphemes,
+ * graphemes, or strings along the way.
+ *
+ * The phoneme codes of the stem and the ending are copied into a buffer which
+ * is reused from one form to the next, the accent is thrown back and the vowels
+ * at the join contracted in place, and each phoneme is then looked up in a
+ * table of its precombined characters. The table is made from the graphemes of
+ * every phoneme, pitch, and breathing, so the result is always the same as that
+ * of concatenating the morphemes, throwing back the accent, contracting, and
+ * converting the graphemes to Unicode one step at a time. It is made ahead of
+ * time and kept in GeneratedTables.
+ *
+ * Only the phonemes behind the table are checked when it is read. The
+ * graphemes of each phoneme and their conversion to Unicode are code, which
+ * cannot be compared with the table without doing all of the work the table
+ * saves, so a change to PitchedPhoneme, Grapheme, or Unicode is caught by
+ * GeneratedTablesTest alone, and the table must be made again by
+ * greek.devel.TableGenerator.
+ *
+ * An assembler keeps its buffer between calls, so each thread should have its
+ * own.
+ */
+public final class FormAssembler {
+
+	/**
+	 * Throw the accent back as far as it will go, as on a verb.
+	 */
+	public static final int THROW_BACK = 1;
+
+	/**
+	 * Contract the last vowel of the stem with the first of the ending.
+	 */
+	public static final int CONTRACT = 2;
+
+	private static final int NONE = 0;
+	private static final int SMOOTH = 1;
+	private static final int ROUGH = 2;
+
+	/* The number of codes a phoneme with its pitch may have. */
+	private static final int CODES = (Phoneme.values().size() + 1) << Morpheme.PITCH_BITS;
+
+	/* The characters of each code, by code, breathing, and whether it is
+	 the last in the word, or null if the phoneme cannot be written that
+	 way. */
+	private static final char[][] _renderings = readRenderings();
+
+	/* Stands for a code which cannot be written in the rendering table. */
+	private static final char NO_RENDERING = '\uffff';
+
+	private short[] _codes = new short[32];
+	private int _size = 0;
+	private long _failures = 0;
+
+	/**
+	 * Work out the precombined characters of every code from the graphemes
+	 * of its phoneme, as a table which GeneratedTables keeps ready-made so
+	 * that it need not be worked out each time the program starts. Each
+	 * entry is a character for the length followed by the characters
+	 * themselves, or a single NO_RENDERING.
+	 * @return
+	 */
+	public static String computeRenderingTable() {
+		StringBuilder result = new StringBuilder();
+		for(int code = 0; code < CODES; ++code) {
+			for(int breathing = NONE; breathing <= ROUGH; ++breathing) {
+				for(int terminal = 0; terminal < 2; ++terminal) {
+					char[] r = render((short) code, breathing, terminal == 1);
+					if(r == null) result.append(NO_RENDERING);
+					else result.append((char) r.length).append(r);
+				}
+			}
+		}
+		return result.toString();
+	}
+
+	/* Read the table in GeneratedTables, or make it afresh if it was made
+	 from other phonemes. Changes to how the phonemes are written are not
+	 noticed here; see the class comment. */
+	private static char[][] readRenderings() {
+		char[][] result = Morpheme.isGeneratedTableCurrent() ? readRenderingTable(GeneratedTables.RENDERINGS) : null;
+		return result != null ? result : readRenderingTable(computeRenderingTable());
+	}
+
+	private static char[][] readRenderingTable(String table) {
+		char[][] result = new char[CODES * 3 * 2][];
+		int k = 0;
+		for(int i = 0; i < result.length; ++i) {
+			if(k >= table.length()) return null;
+			char length = table.charAt(k++);
+			if(length == NO_RENDERING) continue;
+			if(k + length > table.length()) return null;
+			result[i] = table.substring(k, k + length).toCharArray();
+			k += length;
+		}
+		return k == table.length() ? result : null;
+	}
+
+	/* Make the characters of a single code by way of its graphemes. */
+	private static char[] render(short code, int breathing, boolean terminal) {
+		Phoneme p = Morpheme.phonemeOf(code);
+		if(p == null) return null;
+		PitchedPhoneme pp = new PitchedPhoneme(p, Morpheme.pitchOf(code));
+		List<Grapheme> graphemes;
+		if(breathing == NONE) graphemes = pp.toGraphemes();
+		else graphemes = pp.toBreathingGraphemes(breathing == ROUGH ?
+			PitchedPhoneme.Breathing.ROUGH : PitchedPhoneme.Breathing.SMOOTH);
+		if(graphemes == null || graphemes.isEmpty()) return null;
+		if(terminal) graphemes.get(graphemes.size() - 1).tryMakeTerminal();
+		String s = Unicode.toPrecombinedUnicode(graphemes);
+		return s == null ? null : s.toCharArray();
+	}
+
+	private static int renderingIndex(int code, int breathing, boolean terminal) {
+		return (code * 3 + breathing) * 2 + (terminal ? 1 : 0);
+	}
+
+	/**
+	 * Assemble a form from a stem and an ending and append it to a string
+	 * builder.
+	 * @param stem
+	 * @param ending
+	 * @param flags Any of THROW_BACK and CONTRACT. The accent is thrown
+	 * back before the vowels are contracted.
+	 * @param out
+	 * @return Whether the form could be written. If not, nothing is
+	 * appended.
+	 */
+	public boolean append(Morpheme stem, Morpheme ending, int flags, StringBuilder out) {
+		int sep = stem.size() - 1;
+		_size = 0;
+		write(stem);
+		write(ending);
+		if((flags & THROW_BACK) != 0) throwBack();
+		if((flags & CONTRACT) != 0 && sep >= 0 && sep + 1 < _size) contract(sep);
+		return render(true, out);
+	}
+
+	/**
+	 * Append a morpheme to a string builder as precombined Unicode.
+	 * @param m
+	 * @param terminate Whether the last letter is final in its word.
+	 * @param out
+	 * @return Whether the morpheme could be written. If not, nothing is
+	 * appended.
+	 */
+	public boolean append(Morpheme m, boolean terminate, StringBuilder out) {
+		_size = 0;
+		write(m);
+		return render(terminate, out);
+	}
+
+	/**
+	 * Get the number of forms and morphemes this assembler has been given
+	 * which could not be written, so that a caller can tell a form which
+	 * cannot be written from one which does not exist.
+	 * @return
+	 */
+	public long getFailureCount() {
+		return _failures;
+	}
+
+	/**
+	 * Assemble a form from a stem and an ending.
+	 * @param stem
+	 * @param ending
+	 * @param flags Any of THROW_BACK and CONTRACT.
+	 * @return The form as precombined Unicode, or null if it cannot be
+	 * written.
+	 */
+	public String toUnicode(Morpheme stem, Morpheme ending, int flags) {
+		StringBuilder result = new StringBuilder(stem.size() + ending.size() + 4);
+		return append(stem, ending, flags, result) ? result.toString() : null;
+	}
+
+	private void write(Morpheme m) {
+		int size = m.size();
+		if(_size + size > _codes.length) {
+			_codes = Arrays.copyOf(_codes, Math.max(_codes.length * 2, _size + size));
+		}
+		m.copyCodes(_codes, _size);
+		_size += size;
+	}
+
+	/*
+	 * Throw the accent back as Morpheme.withPitchThrownBack does, working
+	 * over the vowels only, since every vowel is the nucleus of a
+	 * syllable.
+	 */
+	private void throwBack() {
+		int count = 0;
+		int last = -1, penult = -1;
+		for(int i = 0; i < _size; ++i) {
+			if(isVowel(i)) {
+				++count;
+				penult = last;
+				last = i;
+			}
+		}
+		if(count == 0) return;
+		boolean longUltima = isLong(last);
+		// The syllable to accent is the first of the last three which
+		// can be, counting the first syllable's circumflex.
+		int first = Math.max(0, count - 3);
+		int syllable = 0;
+		for(int i = 0; i < _size; ++i) {
+			if(!isVowel(i)) continue;
+			if(syllable >= first) {
+				int fromEnd = count - syllable;
+				Pitch pitch = null;
+				if(syllable == 0 && canHaveCircumflex(fromEnd, isLong(i), longUltima)) pitch = Pitch.CIRCUMFLEX;
+				else if(fromEnd <= 2 || !longUltima) pitch = Pitch.ACUTE;
+				if(pitch != null) {
+					setPitch(i, pitch);
+					return;
+				}
+			}
+			++syllable;
+		}
+	}
+
+	private static boolean canHaveCircumflex(int fromEnd, boolean longVowel, boolean longUltima) {
+		switch(fromEnd) {
+			case 1:  return longVowel;
+			case 2:  return longVowel && !longUltima;
+			default: return false;
+		}
+	}
+
+	/* Contract the vowels at sep and sep + 1 as
+	 PitchedPhoneme.tryContractWith does. */
+	private void contract(int sep) {
+		Phoneme first = Morpheme.phonemeOf(_codes[sep]);
+		Phoneme second = Morpheme.phonemeOf(_codes[sep + 1]);
+		if(first == null || second == null) return;
+		Phoneme contraction = VowelContraction.contractedVowel(first, second);
+		if(contraction == null) return;
+		Pitch pitch = Morpheme.pitchOf(_codes[sep]);
+		if(pitch == Pitch.ACUTE && first.isShort() && contraction.isLong()) pitch = Pitch.CIRCUMFLEX;
+		_codes[sep] = Morpheme.encode(contraction, pitch);
+		System.arraycopy(_codes, sep + 2, _codes, sep + 1, _size - sep - 2);
+		--_size;
+	}
+
+	/* Write out the buffer as Morpheme.getGraphemes and
+	 Unicode.toPrecombinedUnicode would. */
+	private boolean render(boolean terminate, StringBuilder out) {
+		int start = out.length();
+		int lastStart = -1;
+		int lastKey = -1;
+		boolean rough = false;
+		for(int i = 0; i < _size; ++i) {
+			short code = _codes[i];
+			Phoneme p = Morpheme.phonemeOf(code);
+			if(p == null) return fail(out, start);
+			int breathing = NONE;
+			if(i == 0 && p == Phoneme.H) {
+				rough = true;
+				continue;
+			}
+			if((i == 0 || rough) && p.canHaveBreathing()) {
+				breathing = rough ? ROUGH : SMOOTH;
+				rough = false;
+			}
+			else if(rough) return fail(out, start);
+			int key = renderingIndex(code, breathing, false);
+			char[] chars = _renderings[key];
+			if(chars == null) return fail(out, start);
+			lastStart = out.length();
+			lastKey = key;
+			out.append(chars);
+		}
+		if(terminate && lastKey >= 0) {
+			char[] chars = _renderings[lastKey + 1];
+			if(chars == null) return fail(out, start);
+			out.setLength(lastStart);
+			out.append(chars);
+		}
+		return true;
+	}
+
+	private boolean fail(StringBuilder out, int start) {
+		out.setLength(start);
+		++_failures;
+		return false;
+	}
+
+	private boolean isVowel(int i) {
+		Phoneme p = Morpheme.phonemeOf(_codes[i]);
+		return p != null && p.isVowel();
+	}
+
+	private boolean isLong(int i) {
+		return Morpheme.phonemeOf(_codes[i]).isLong();
+	}
+
+	private void setPitch(int i, Pitch pitch) {
+		_codes[i] = (short) ((_codes[i] & ~Morpheme.PITCH_MASK) | Morpheme.encodePitch(pitch));
+	}
+
+}
@@ -0,0 +1,231 @@
+/* Generated by greek.devel.TableGenerator; do not edit. */
+package greek.morphology;
+
+/**
+ * Tables worked out ahead of time from the phono code and beta code
+ * definitions, so that they need not be worked out each time the program
+ * starts. Each is read back by the class which made it. PHONEMES keeps
+ * the phonemes the tables were made from, and each entry of VERB_ENDINGS,
+ * DEFINITE_ARTICLES, and VOWEL_CONTRACTIONS the phono code it was made
+ * from, so that an entry which no longer fits is worked out afresh rather
+ * than read. RENDERINGS also depends on how graphemes are converted to
+ * Unicode, which is not checked when it is read; GeneratedTablesTest is
+ * the only guard against it going stale.
+ */
+public final class GeneratedTables {
+
+	private GeneratedTables() {
+	}
+
+	/** From Phoneme.definitions. */
+	public static final String PHONEMES =
+		"a - - -\ne - - -\n" +
+		"i - - -\no - - -\n" +
+		"u - - -\na 0 - LO" +
+		"NG\nh 1 - LONG\ni " +
+		"2 - LONG\nw 3 - L" +
+		"ONG\nu 4 - LONG\na" +
+		"i 0 - J\nai 0 2 -" +
+		"\na| 5 2 -\nau 0 4" +
+		" -\nei 1 2 -\nh| 6" +
+		" 2 -\neu 1 4 -\nhu" +
+		" 6 4 -\noi 3 - J\n" +
+		"oi 3 2 -\nw| 8 2 " +
+		"-\nou 3 4 -\nui 4 " +
+		"2 -\nui 9 2 -\nl -" +
+		" - -\nm - - -\nn -" +
+		" - -\nr - - -\ns -" +
+		" - -\n- - - -\nb -" +
+		" - -\ng - - -\nd -" +
+		" - -\np - - -\nk -" +
+		" - -\nt - - -\nf 3" +
+		"3 29 -\nx 34 29 -" +
+		"\nq 35 29 -\nz 28 " +
+		"32 -\nc 34 28 -\ny" +
+		" 33 28 -\nn 26 - " +
+		"MOVABLE\ng 26 31 " +
+		"-\n";
+
+	/** From FormAssembler.computeRenderingTable. */
+	public static final String RENDERINGS =
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\u0001\u03b1\u0001\u03b1\u0001\u1f00\u0001\u1f00" +
+		"\u0001\u1f01\u0001\u1f01\u0001\u1f71\u0001\u1f71\u0001\u1f04\u0001\u1f04\u0001\u1f05\u0001\u1f05" +
+		"\u0001\u1f70\u0001\u1f70\u0001\u1f02\u0001\u1f02\u0001\u1f03\u0001\u1f03\u0001\u1fb6\u0001\u1fb6" +
+		"\u0001\u1f06\u0001\u1f06\u0001\u1f07\u0001\u1f07\u0001\u03b5\u0001\u03b5\u0001\u1f10\u0001\u1f10" +
+		"\u0001\u1f11\u0001\u1f11\u0001\u1f73\u0001\u1f73\u0001\u1f14\u0001\u1f14\u0001\u1f15\u0001\u1f15" +
+		"\u0001\u1f72\u0001\u1f72\u0001\u1f12\u0001\u1f12\u0001\u1f13\u0001\u1f13\u0001\u03b5\u0001\u03b5" +
+		"\u0001\u1f10\u0001\u1f10\u0001\u1f11\u0001\u1f11\u0001\u03b9\u0001\u03b9\u0001\u1f30\u0001\u1f30" +
+		"\u0001\u1f31\u0001\u1f31\u0001\u1f77\u0001\u1f77\u0001\u1f34\u0001\u1f34\u0001\u1f35\u0001\u1f35" +
+		"\u0001\u1f76\u0001\u1f76\u0001\u1f32\u0001\u1f32\u0001\u1f33\u0001\u1f33\u0001\u1fd6\u0001\u1fd6" +
+		"\u0001\u1f36\u0001\u1f36\u0001\u1f37\u0001\u1f37\u0001\u03bf\u0001\u03bf\u0001\u1f40\u0001\u1f40" +
+		"\u0001\u1f41\u0001\u1f41\u0001\u1f79\u0001\u1f79\u0001\u1f44\u0001\u1f44\u0001\u1f45\u0001\u1f45" +
+		"\u0001\u1f78\u0001\u1f78\u0001\u1f42\u0001\u1f42\u0001\u1f43\u0001\u1f43\u0001\u03bf\u0001\u03bf" +
+		"\u0001\u1f40\u0001\u1f40\u0001\u1f41\u0001\u1f41\u0001\u03c5\u0001\u03c5\u0001\u1f50\u0001\u1f50" +
+		"\u0001\u1f51\u0001\u1f51\u0001\u1f7b\u0001\u1f7b\u0001\u1f54\u0001\u1f54\u0001\u1f55\u0001\u1f55" +
+		"\u0001\u1f7a\u0001\u1f7a\u0001\u1f52\u0001\u1f52\u0001\u1f53\u0001\u1f53\u0001\u1fe6\u0001\u1fe6" +
+		"\u0001\u1f56\u0001\u1f56\u0001\u1f57\u0001\u1f57\u0001\u03b1\u0001\u03b1\u0001\u1f00\u0001\u1f00" +
+		"\u0001\u1f01\u0001\u1f01\u0001\u1f71\u0001\u1f71\u0001\u1f04\u0001\u1f04\u0001\u1f05\u0001\u1f05" +
+		"\u0001\u1f70\u0001\u1f70\u0001\u1f02\u0001\u1f02\u0001\u1f03\u0001\u1f03\u0001\u1fb6\u0001\u1fb6" +
+		"\u0001\u1f06\u0001\u1f06\u0001\u1f07\u0001\u1f07\u0001\u03b7\u0001\u03b7\u0001\u1f20\u0001\u1f20" +
+		"\u0001\u1f21\u0001\u1f21\u0001\u1f75\u0001\u1f75\u0001\u1f24\u0001\u1f24\u0001\u1f25\u0001\u1f25" +
+		"\u0001\u1f74\u0001\u1f74\u0001\u1f22\u0001\u1f22\u0001\u1f23\u0001\u1f23\u0001\u1fc6\u0001\u1fc6" +
+		"\u0001\u1f26\u0001\u1f26\u0001\u1f27\u0001\u1f27\u0001\u03b9\u0001\u03b9\u0001\u1f30\u0001\u1f30" +
+		"\u0001\u1f31\u0001\u1f31\u0001\u1f77\u0001\u1f77\u0001\u1f34\u0001\u1f34\u0001\u1f35\u0001\u1f35" +
+		"\u0001\u1f76\u0001\u1f76\u0001\u1f32\u0001\u1f32\u0001\u1f33\u0001\u1f33\u0001\u1fd6\u0001\u1fd6" +
+		"\u0001\u1f36\u0001\u1f36\u0001\u1f37\u0001\u1f37\u0001\u03c9\u0001\u03c9\u0001\u1f60\u0001\u1f60" +
+		"\u0001\u1f61\u0001\u1f61\u0001\u1f7d\u0001\u1f7d\u0001\u1f64\u0001\u1f64\u0001\u1f65\u0001\u1f65" +
+		"\u0001\u1f7c\u0001\u1f7c\u0001\u1f62\u0001\u1f62\u0001\u1f63\u0001\u1f63\u0001\u1ff6\u0001\u1ff6" +
+		"\u0001\u1f66\u0001\u1f66\u0001\u1f67\u0001\u1f67\u0001\u03c5\u0001\u03c5\u0001\u1f50\u0001\u1f50" +
+		"\u0001\u1f51\u0001\u1f51\u0001\u1f7b\u0001\u1f7b\u0001\u1f54\u0001\u1f54\u0001\u1f55\u0001\u1f55" +
+		"\u0001\u1f7a\u0001\u1f7a\u0001\u1f52\u0001\u1f52\u0001\u1f53\u0001\u1f53\u0001\u1fe6\u0001\u1fe6" +
+		"\u0001\u1f56\u0001\u1f56\u0001\u1f57\u0001\u1f57\u0002\u03b1\u03b9\u0002\u03b1\u03b9\u0002\u03b1" +
+		"\u1f30\u0002\u03b1\u1f30\u0002\u03b1\u1f31\u0002\u03b1\u1f31\u0002\u03b1\u1f77\u0002\u03b1\u1f77" +
+		"\u0002\u03b1\u1f34\u0002\u03b1\u1f34\u0002\u03b1\u1f35\u0002\u03b1\u1f35\u0002\u03b1\u1f76\u0002" +
+		"\u03b1\u1f76\u0002\u03b1\u1f32\u0002\u03b1\u1f32\u0002\u03b1\u1f33\u0002\u03b1\u1f33\u0002\u03b1" +
+		"\u1fd6\u0002\u03b1\u1fd6\u0002\u03b1\u1f36\u0002\u03b1\u1f36\u0002\u03b1\u1f37\u0002\u03b1\u1f37" +
+		"\u0002\u03b1\u03b9\u0002\u03b1\u03b9\u0002\u03b1\u1f30\u0002\u03b1\u1f30\u0002\u03b1\u1f31\u0002" +
+		"\u03b1\u1f31\u0002\u03b1\u1f77\u0002\u03b1\u1f77\u0002\u03b1\u1f34\u0002\u03b1\u1f34\u0002\u03b1" +
+		"\u1f35\u0002\u03b1\u1f35\u0002\u03b1\u1f76\u0002\u03b1\u1f76\u0002\u03b1\u1f32\u0002\u03b1\u1f32" +
+		"\u0002\u03b1\u1f33\u0002\u03b1\u1f33\u0002\u03b1\u1fd6\u0002\u03b1\u1fd6\u0002\u03b1\u1f36\u0002" +
+		"\u03b1\u1f36\u0002\u03b1\u1f37\u0002\u03b1\u1f37\u0001\u1fb3\u0001\u1fb3\u0001\u1f80\u0001\u1f80" +
+		"\u0001\u1f81\u0001\u1f81\u0001\u1fb4\u0001\u1fb4\u0001\u1f84\u0001\u1f84\u0001\u1f85\u0001\u1f85" +
+		"\u0001\u1fb2\u0001\u1fb2\u0001\u1f82\u0001\u1f82\u0001\u1f83\u0001\u1f83\u0001\u1fb7\u0001\u1fb7" +
+		"\u0001\u1f86\u0001\u1f86\u0001\u1f87\u0001\u1f87\u0002\u03b1\u03c5\u0002\u03b1\u03c5\u0002\u03b1" +
+		"\u1f50\u0002\u03b1\u1f50\u0002\u03b1\u1f51\u0002\u03b1\u1f51\u0002\u03b1\u1f7b\u0002\u03b1\u1f7b" +
+		"\u0002\u03b1\u1f54\u0002\u03b1\u1f54\u0002\u03b1\u1f55\u0002\u03b1\u1f55\u0002\u03b1\u1f7a\u0002" +
+		"\u03b1\u1f7a\u0002\u03b1\u1f52\u0002\u03b1\u1f52\u0002\u03b1\u1f53\u0002\u03b1\u1f53\u0002\u03b1" +
+		"\u1fe6\u0002\u03b1\u1fe6\u0002\u03b1\u1f56\u0002\u03b1\u1f56\u0002\u03b1\u1f57\u0002\u03b1\u1f57" +
+		"\u0002\u03b5\u03b9\u0002\u03b5\u03b9\u0002\u03b5\u1f30\u0002\u03b5\u1f30\u0002\u03b5\u1f31\u0002" +
+		"\u03b5\u1f31\u0002\u03b5\u1f77\u0002\u03b5\u1f77\u0002\u03b5\u1f34\u0002\u03b5\u1f34\u0002\u03b5" +
+		"\u1f35\u0002\u03b5\u1f35\u0002\u03b5\u1f76\u0002\u03b5\u1f76\u0002\u03b5\u1f32\u0002\u03b5\u1f32" +
+		"\u0002\u03b5\u1f33\u0002\u03b5\u1f33\u0002\u03b5\u1fd6\u0002\u03b5\u1fd6\u0002\u03b5\u1f36\u0002" +
+		"\u03b5\u1f36\u0002\u03b5\u1f37\u0002\u03b5\u1f37\u0001\u1fc3\u0001\u1fc3\u0001\u1f90\u0001\u1f90" +
+		"\u0001\u1f91\u0001\u1f91\u0001\u1fc4\u0001\u1fc4\u0001\u1f94\u0001\u1f94\u0001\u1f95\u0001\u1f95" +
+		"\u0001\u1fc2\u0001\u1fc2\u0001\u1f92\u0001\u1f92\u0001\u1f93\u0001\u1f93\u0001\u1fc7\u0001\u1fc7" +
+		"\u0001\u1f96\u0001\u1f96\u0001\u1f97\u0001\u1f97\u0002\u03b5\u03c5\u0002\u03b5\u03c5\u0002\u03b5" +
+		"\u1f50\u0002\u03b5\u1f50\u0002\u03b5\u1f51\u0002\u03b5\u1f51\u0002\u03b5\u1f7b\u0002\u03b5\u1f7b" +
+		"\u0002\u03b5\u1f54\u0002\u03b5\u1f54\u0002\u03b5\u1f55\u0002\u03b5\u1f55\u0002\u03b5\u1f7a\u0002" +
+		"\u03b5\u1f7a\u0002\u03b5\u1f52\u0002\u03b5\u1f52\u0002\u03b5\u1f53\u0002\u03b5\u1f53\u0002\u03b5" +
+		"\u1fe6\u0002\u03b5\u1fe6\u0002\u03b5\u1f56\u0002\u03b5\u1f56\u0002\u03b5\u1f57\u0002\u03b5\u1f57" +
+		"\u0002\u03b7\u03c5\u0002\u03b7\u03c5\u0002\u03b7\u1f50\u0002\u03b7\u1f50\u0002\u03b7\u1f51\u0002" +
+		"\u03b7\u1f51\u0002\u03b7\u1f7b\u0002\u03b7\u1f7b\u0002\u03b7\u1f54\u0002\u03b7\u1f54\u0002\u03b7" +
+		"\u1f55\u0002\u03b7\u1f55\u0002\u03b7\u1f7a\u0002\u03b7\u1f7a\u0002\u03b7\u1f52\u0002\u03b7\u1f52" +
+		"\u0002\u03b7\u1f53\u0002\u03b7\u1f53\u0002\u03b7\u1fe6\u0002\u03b7\u1fe6\u0002\u03b7\u1f56\u0002" +
+		"\u03b7\u1f56\u0002\u03b7\u1f57\u0002\u03b7\u1f57\u0002\u03bf\u03b9\u0002\u03bf\u03b9\u0002\u03bf" +
+		"\u1f30\u0002\u03bf\u1f30\u0002\u03bf\u1f31\u0002\u03bf\u1f31\u0002\u03bf\u1f77\u0002\u03bf\u1f77" +
+		"\u0002\u03bf\u1f34\u0002\u03bf\u1f34\u0002\u03bf\u1f35\u0002\u03bf\u1f35\u0002\u03bf\u1f76\u0002" +
+		"\u03bf\u1f76\u0002\u03bf\u1f32\u0002\u03bf\u1f32\u0002\u03bf\u1f33\u0002\u03bf\u1f33\u0002\u03bf" +
+		"\u1fd6\u0002\u03bf\u1fd6\u0002\u03bf\u1f36\u0002\u03bf\u1f36\u0002\u03bf\u1f37\u0002\u03bf\u1f37" +
+		"\u0002\u03bf\u03b9\u0002\u03bf\u03b9\u0002\u03bf\u1f30\u0002\u03bf\u1f30\u0002\u03bf\u1f31\u0002" +
+		"\u03bf\u1f31\u0002\u03bf\u1f77\u0002\u03bf\u1f77\u0002\u03bf\u1f34\u0002\u03bf\u1f34\u0002\u03bf" +
+		"\u1f35\u0002\u03bf\u1f35\u0002\u03bf\u1f76\u0002\u03bf\u1f76\u0002\u03bf\u1f32\u0002\u03bf\u1f32" +
+		"\u0002\u03bf\u1f33\u0002\u03bf\u1f33\u0002\u03bf\u1fd6\u0002\u03bf\u1fd6\u0002\u03bf\u1f36\u0002" +
+		"\u03bf\u1f36\u0002\u03bf\u1f37\u0002\u03bf\u1f37\u0001\u1ff3\u0001\u1ff3\u0001\u1fa0\u0001\u1fa0" +
+		"\u0001\u1fa1\u0001\u1fa1\u0001\u1ff4\u0001\u1ff4\u0001\u1fa4\u0001\u1fa4\u0001\u1fa5\u0001\u1fa5" +
+		"\u0001\u1ff2\u0001\u1ff2\u0001\u1fa2\u0001\u1fa2\u0001\u1fa3\u0001\u1fa3\u0001\u1ff7\u0001\u1ff7" +
+		"\u0001\u1fa6\u0001\u1fa6\u0001\u1fa7\u0001\u1fa7\u0002\u03bf\u03c5\u0002\u03bf\u03c5\u0002\u03bf" +
+		"\u1f50\u0002\u03bf\u1f50\u0002\u03bf\u1f51\u0002\u03bf\u1f51\u0002\u03bf\u1f7b\u0002\u03bf\u1f7b" +
+		"\u0002\u03bf\u1f54\u0002\u03bf\u1f54\u0002\u03bf\u1f55\u0002\u03bf\u1f55\u0002\u03bf\u1f7a\u0002" +
+		"\u03bf\u1f7a\u0002\u03bf\u1f52\u0002\u03bf\u1f52\u0002\u03bf\u1f53\u0002\u03bf\u1f53\u0002\u03bf" +
+		"\u1fe6\u0002\u03bf\u1fe6\u0002\u03bf\u1f56\u0002\u03bf\u1f56\u0002\u03bf\u1f57\u0002\u03bf\u1f57" +
+		"\u0002\u03c5\u03b9\u0002\u03c5\u03b9\u0002\u03c5\u1f30\u0002\u03c5\u1f30\u0002\u03c5\u1f31\u0002" +
+		"\u03c5\u1f31\u0002\u03c5\u1f77\u0002\u03c5\u1f77\u0002\u03c5\u1f34\u0002\u03c5\u1f34\u0002\u03c5" +
+		"\u1f35\u0002\u03c5\u1f35\u0002\u03c5\u1f76\u0002\u03c5\u1f76\u0002\u03c5\u1f32\u0002\u03c5\u1f32" +
+		"\u0002\u03c5\u1f33\u0002\u03c5\u1f33\u0002\u03c5\u1fd6\u0002\u03c5\u1fd6\u0002\u03c5\u1f36\u0002" +
+		"\u03c5\u1f36\u0002\u03c5\u1f37\u0002\u03c5\u1f37\u0002\u03c5\u03b9\u0002\u03c5\u03b9\u0002\u03c5" +
+		"\u1f30\u0002\u03c5\u1f30\u0002\u03c5\u1f31\u0002\u03c5\u1f31\u0002\u03c5\u1f77\u0002\u03c5\u1f77" +
+		"\u0002\u03c5\u1f34\u0002\u03c5\u1f34\u0002\u03c5\u1f35\u0002\u03c5\u1f35\u0002\u03c5\u1f76\u0002" +
+		"\u03c5\u1f76\u0002\u03c5\u1f32\u0002\u03c5\u1f32\u0002\u03c5\u1f33\u0002\u03c5\u1f33\u0002\u03c5" +
+		"\u1fd6\u0002\u03c5\u1fd6\u0002\u03c5\u1f36\u0002\u03c5\u1f36\u0002\u03c5\u1f37\u0002\u03c5\u1f37" +
+		"\u0001\u03bb\u0001\u03bb\uffff\uffff\uffff\uffff\u0001\u03bb\u0001\u03bb\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bb\u0001\u03bb\uffff\uffff\uffff\uffff\u0001\u03bb\u0001\u03bb\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bc\u0001\u03bc\uffff\uffff\uffff\uffff\u0001\u03bc\u0001\u03bc\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bc\u0001\u03bc\uffff\uffff\uffff\uffff\u0001\u03bc\u0001\u03bc\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c1\u0001\u03c1\u0001\u1fe4\u0001\u1fe4\u0001\u1fe5\u0001\u1fe5\u0001\u03c1\u0001\u03c1" +
+		"\u0001\u1fe4\u0001\u1fe4\u0001\u1fe5\u0001\u1fe5\u0001\u03c1\u0001\u03c1\u0001\u1fe4\u0001\u1fe4" +
+		"\u0001\u1fe5\u0001\u1fe5\u0001\u03c1\u0001\u03c1\u0001\u1fe4\u0001\u1fe4\u0001\u1fe5\u0001\u1fe5" +
+		"\u0001\u03c3\u0001\u03c2\uffff\uffff\uffff\uffff\u0001\u03c3\u0001\u03c2\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c3\u0001\u03c2\uffff\uffff\uffff\uffff\u0001\u03c3\u0001\u03c2\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\u0001\u03b2\u0001\u03b2\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b2\u0001\u03b2\uffff\uffff\uffff\uffff\u0001\u03b2\u0001\u03b2\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b2\u0001\u03b2\uffff\uffff\uffff\uffff\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff\u0001\u03b4\u0001\u03b4\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b4\u0001\u03b4\uffff\uffff\uffff\uffff\u0001\u03b4\u0001\u03b4\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b4\u0001\u03b4\uffff\uffff\uffff\uffff\u0001\u03c0\u0001\u03c0\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c0\u0001\u03c0\uffff\uffff\uffff\uffff\u0001\u03c0\u0001\u03c0\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c0\u0001\u03c0\uffff\uffff\uffff\uffff\u0001\u03ba\u0001\u03ba\uffff\uffff\uffff\uffff" +
+		"\u0001\u03ba\u0001\u03ba\uffff\uffff\uffff\uffff\u0001\u03ba\u0001\u03ba\uffff\uffff\uffff\uffff" +
+		"\u0001\u03ba\u0001\u03ba\uffff\uffff\uffff\uffff\u0001\u03c4\u0001\u03c4\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c4\u0001\u03c4\uffff\uffff\uffff\uffff\u0001\u03c4\u0001\u03c4\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c4\u0001\u03c4\uffff\uffff\uffff\uffff\u0001\u03c6\u0001\u03c6\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c6\u0001\u03c6\uffff\uffff\uffff\uffff\u0001\u03c6\u0001\u03c6\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c6\u0001\u03c6\uffff\uffff\uffff\uffff\u0001\u03c7\u0001\u03c7\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c7\u0001\u03c7\uffff\uffff\uffff\uffff\u0001\u03c7\u0001\u03c7\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c7\u0001\u03c7\uffff\uffff\uffff\uffff\u0001\u03b8\u0001\u03b8\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b8\u0001\u03b8\uffff\uffff\uffff\uffff\u0001\u03b8\u0001\u03b8\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b8\u0001\u03b8\uffff\uffff\uffff\uffff\u0001\u03b6\u0001\u03b6\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b6\u0001\u03b6\uffff\uffff\uffff\uffff\u0001\u03b6\u0001\u03b6\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b6\u0001\u03b6\uffff\uffff\uffff\uffff\u0001\u03be\u0001\u03be\uffff\uffff\uffff\uffff" +
+		"\u0001\u03be\u0001\u03be\uffff\uffff\uffff\uffff\u0001\u03be\u0001\u03be\uffff\uffff\uffff\uffff" +
+		"\u0001\u03be\u0001\u03be\uffff\uffff\uffff\uffff\u0001\u03c8\u0001\u03c8\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c8\u0001\u03c8\uffff\uffff\uffff\uffff\u0001\u03c8\u0001\u03c8\uffff\uffff\uffff\uffff" +
+		"\u0001\u03c8\u0001\u03c8\uffff\uffff\uffff\uffff\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff" +
+		"\u0001\u03bd\u0001\u03bd\uffff\uffff\uffff\uffff\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff" +
+		"\u0001\u03b3\u0001\u03b3\uffff\uffff\uffff\uffff";
+
+	/** From Ending.computeCodeTable. */
+	public static final String VERB_ENDINGS =
+		"\u0002o:\u0000\u0001$\u0003eis\u0000\u0002<t\u0002e" +
+		"i\u0000\u0001<\u0004omen\u0000\u0004\u0010h\u0008l\u0003" +
+		"ete\u0000\u0003\u0008\u0090\u0008\u0006ousin?\u0000" +
+		"\u0004Xt\u000c\u00ac\u0001e\u0000\u0001\u0008\u0003ete\u0000\u0003" +
+		"\u0008\u0090\u0008";
+
+	/** From DefiniteArticle.computeCodeTable. */
+	public static final String DEFINITE_ARTICLES =
+		"\u0002ho\u0002\u0002x\u0010\u0004to/n\u0000\u0003\u0090\u0011" +
+		"l\u0004to/u\u0000\u0002\u0090[\u0005to/:i" +
+		"\u0000\u0002\u0090W\u0003hoi\u0002\u0002xP\u0005tou" +
+		"/s\u0000\u0003\u0090Yt\u0005to/:n\u0000\u0003\u0090" +
+		"'l\u0005to/is\u0000\u0003\u0090St\u0003he" +
+		":\u0002\u0002x\u001c\u0005te:/n\u0000\u0003\u0090\u001dl" +
+		"\u0005te/:s\u0000\u0003\u0090\u001ft\u0005te/:" +
+		"i\u0000\u0002\u0090C\u0003hai\u0002\u0002x0\u0005ta" +
+		":/s\u0000\u0003\u0090\u0019t\uffff\u0005ta/is\u0000" +
+		"\u0003\u00903t\u0003to/\u0000\u0002\u0090\u0011\uffff\uffff\uffff\u0003" +
+		"ta/\u0000\u0002\u0090\u0005\uffff\uffff\uffff";
+
+	/** From VowelContraction.computeTable. */
+	public static final String VOWEL_CONTRACTIONS =
+		"\u0006a a a:\u0000\u0000\u0005\u0006a e a" +
+		":\u0000\u0001\u0005\u0008a ei a:i\u0000\u000e\u000c" +
+		"\u0006a i ai\u0000\u0002\u000b\u0007a e: " +
+		"a:\u0000\u0006\u0005\u0009a e:i a:i\u0000" +
+		"\u000f\u000c\u0006a o o:\u0000\u0003\u0008\u0007a o" +
+		"u o:\u0000\u0015\u0008\u0008a oi o:i" +
+		"\u0000\u0013\u0014\u0007a o: o:\u0000\u0008\u0008\u0009a" +
+		" o:i o:i\u0000\u0014\u0014\u0006e a " +
+		"e:\u0001\u0000\u0006\u0006e e ei\u0001\u0001\u000e\u0007" +
+		"e ei ei\u0001\u000e\u000e\u0006e i e" +
+		"i\u0001\u0002\u000e\u0007e e: e:\u0001\u0006\u0006\u0009" +
+		"e e:i e:i\u0001\u000f\u000f\u0006e o" +
+		" ou\u0001\u0003\u0015\u0007e ou ou\u0001\u0015" +
+		"\u0015\u0007e oi oi\u0001\u0013\u0013\u0007e o" +
+		": o:\u0001\u0008\u0008\u0009e o:i o:" +
+		"i\u0001\u0014\u0014\u0006o a o:\u0003\u0000\u0008\u0006o" +
+		" e ou\u0003\u0001\u0015\u0007o ei oi" +
+		"\u0003\u000e\u0013\u0006o i oi\u0003\u0002\u0013\u0007o " +
+		"e: o:\u0003\u0006\u0008\u0008o e:i o" +
+		"i\u0003\u000f\u0013\u0006o o ou\u0003\u0003\u0015\u0007o" +
+		" ou ou\u0003\u0015\u0015\u0007o oi o" +
+		"i\u0003\u0013\u0013\u0007o o: o:\u0003\u0008\u0008\u0009" +
+		"o o:i o:i\u0003\u0014\u0014";
+
+}
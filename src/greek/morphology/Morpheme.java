@@ -5,13 +5,21 @@ import greek.phonology.PitchedPhoneme;
 import greek.phonology.PitchedPhoneme.Pitch;
 import greek.spelling.Grapheme;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * A sequence of phonemes, including pitch accents.
+ * An immutable sequence of phonemes, including pitch accents.
+ *
+ * Each pitched phoneme is packed into a short holding the phoneme's ordinal
+ * and its pitch. The concatenation of two morphemes refers to both of them
+ * rather than copying them, so stems and endings are shared by all of the
+ * forms built from them. Since nothing can change a morpheme once it is
+ * built, morphemes may be shared freely, including between threads. To
+ * build a morpheme a phoneme at a time, or to change one, use a Builder.
  * @author Brian DuSell <bdusell@gmail.com>
  */
-public class Morpheme implements Cloneable {
+public final class Morpheme {
 
 	/**
 	 * A clitic type, either enclitic (throwing pitch backwards) or
@@ -19,33 +27,63 @@ public class Morpheme implements Cloneable {
 	 */
 	public enum CliticType { ENCLITIC, PROCLITIC };
 
-	private List<PitchedPhoneme> _phonemes;
-	private List<PitchedPhoneme> _vowels;
-	CliticType _cliticType;
+	private static final Pitch[] _pitches = Pitch.values();
 
-	private Morpheme() {
-		_phonemes = new ArrayList<>();
-		_vowels = null;
-		_cliticType = null;
+	/* The low bits of each code hold the pitch ordinal plus one, or zero
+	 for no pitch. The rest hold the phoneme ordinal plus one, or zero for
+	 no phoneme. */
+	static final int PITCH_BITS = 2;
+	static final int PITCH_MASK = (1 << PITCH_BITS) - 1;
+
+	private static final short[] NO_CODES = new short[0];
+
+	/* Stands for a null entry in a table of codes. */
+	private static final char NO_ENTRY = '\uffff';
+
+	/* Whether GeneratedTables fits the phonemes, or null until asked. */
+	private static volatile Boolean _generatedTableCurrent;
+
+	/* Either _codes is set, or the morpheme is the concatenation of _left
+	 and _right. */
+	private final short[] _codes;
+	private final Morpheme _left;
+	private final Morpheme _right;
+	private final int _size;
+	private final CliticType _cliticType;
+
+	/* Made the first time it is needed. Since a syllabification never
+	 changes, threads racing to make it arrive at the same answer. */
+	private Syllabification _syllables;
+
+	/* The codes of a concatenation as a single array, made the first time
+	 they are needed so that the tree is only walked once. */
+	private volatile short[] _flatCodes;
+
+	/* The hash code, or 0 until it is worked out. */
+	private int _hash;
+
+	private Morpheme(short[] codes, CliticType cliticType) {
+		_codes = codes;
+		_left = null;
+		_right = null;
+		_size = codes.length;
+		_cliticType = cliticType;
 	}
 
-	/**
-	 * Initialize the morpheme as a copy of another.
-	 * @param copy 
-	 */
-	public Morpheme(Morpheme copy) {
-		this(copy.getPhonemes());
+	private Morpheme(Morpheme left, Morpheme right) {
+		_codes = null;
+		_left = left;
+		_right = right;
+		_size = left._size + right._size;
+		_cliticType = null;
 	}
 
 	/**
 	 * Initialize the morpheme from a sequence of phonemes.
-	 * @param phonemes 
+	 * @param phonemes
 	 */
 	public Morpheme(Iterable<PitchedPhoneme> phonemes) {
-		this();
-		for(PitchedPhoneme p : phonemes) {
-			addPhonemeClone(p);
-		}
+		this(phonemes, null);
 	}
 
 	/**
@@ -55,38 +93,387 @@ public class Morpheme implements Cloneable {
 	 * @param cliticType A clitic type or null for not a clitic.
 	 */
 	public Morpheme(Iterable<PitchedPhoneme> phonemes, CliticType cliticType) {
-		this(phonemes);
-		_cliticType = cliticType;
+		this(toCodes(phonemes), cliticType);
 	}
 
-	private void findVowels() {
-		if(_vowels == null) {
-			_vowels = new ArrayList<>();
-			for(PitchedPhoneme p : getPhonemes()) {
-				if(p.hasPhoneme() && p.getPhoneme().isVowel()) {
-					_vowels.add(p);
-				}
+	private static short[] toCodes(Iterable<PitchedPhoneme> phonemes) {
+		Builder b = new Builder();
+		for(PitchedPhoneme p : phonemes) b.add(p);
+		return b.toCodes();
+	}
+
+	/**
+	 * A mutable sequence of pitched phonemes from which morphemes can be
+	 * built.
+	 */
+	public static final class Builder {
+
+		private short[] _codes;
+		private int _size;
+		private CliticType _cliticType;
+
+		/**
+		 * Initialize an empty builder.
+		 */
+		public Builder() {
+			_codes = new short[8];
+			_size = 0;
+			_cliticType = null;
+		}
+
+		/**
+		 * Initialize a builder with the phonemes and clitic type of a
+		 * morpheme.
+		 * @param m
+		 */
+		public Builder(Morpheme m) {
+			_codes = new short[Math.max(8, m._size)];
+			m.copyCodes(_codes, 0);
+			_size = m._size;
+			_cliticType = m._cliticType;
+		}
+
+		/**
+		 * Add a pitched phoneme to the end.
+		 * @param p
+		 * @return This builder.
+		 */
+		public Builder add(PitchedPhoneme p) {
+			return add(p.getPhoneme(), p.getPitch());
+		}
+
+		/**
+		 * Add a phoneme with a pitch accent to the end.
+		 * @param p
+		 * @param pitch A pitch accent or null for no accent.
+		 * @return This builder.
+		 */
+		public Builder add(Phoneme p, Pitch pitch) {
+			if(_size == _codes.length) _codes = Arrays.copyOf(_codes, _size * 2);
+			_codes[_size++] = encode(p, pitch);
+			return this;
+		}
+
+		/**
+		 * Add all of the phonemes of a morpheme to the end.
+		 * @param m
+		 * @return This builder.
+		 */
+		public Builder add(Morpheme m) {
+			if(_size + m._size > _codes.length) {
+				_codes = Arrays.copyOf(_codes, Math.max(_codes.length * 2, _size + m._size));
+			}
+			m.copyCodes(_codes, _size);
+			_size += m._size;
+			return this;
+		}
+
+		/**
+		 * Replace the phoneme at position i.
+		 * @param i
+		 * @param p
+		 * @return This builder.
+		 */
+		public Builder set(int i, PitchedPhoneme p) {
+			checkIndex(i);
+			_codes[i] = encode(p.getPhoneme(), p.getPitch());
+			return this;
+		}
+
+		/**
+		 * Set the pitch accent of the phoneme at position i.
+		 * @param i
+		 * @param pitch A pitch accent or null for no accent.
+		 * @return This builder.
+		 */
+		public Builder setPitch(int i, Pitch pitch) {
+			checkIndex(i);
+			_codes[i] = (short) ((_codes[i] & ~PITCH_MASK) | encodePitch(pitch));
+			return this;
+		}
+
+		/**
+		 * Remove the phoneme at position i.
+		 * @param i
+		 * @return This builder.
+		 */
+		public Builder remove(int i) {
+			checkIndex(i);
+			System.arraycopy(_codes, i + 1, _codes, i, _size - i - 1);
+			--_size;
+			return this;
+		}
+
+		/**
+		 * Remove every phoneme from position size onwards, keeping the
+		 * space for reuse.
+		 * @param size
+		 * @return This builder.
+		 */
+		public Builder truncate(int size) {
+			if(size < 0 || size > _size) throw new IndexOutOfBoundsException("size " + size + " of " + _size);
+			_size = size;
+			return this;
+		}
+
+		/**
+		 * Set the clitic type of the morpheme to be built.
+		 * @param t A clitic type or null for not a clitic.
+		 * @return This builder.
+		 */
+		public Builder setCliticType(CliticType t) {
+			_cliticType = t;
+			return this;
+		}
+
+		/**
+		 * Get the number of phonemes added so far.
+		 * @return 
+		 */
+		public int size() {
+			return _size;
+		}
+
+		/**
+		 * Get the phoneme at position i.
+		 * @param i
+		 * @return A new pitched phoneme, which may be changed without
+		 * affecting the builder.
+		 */
+		public PitchedPhoneme getPhoneme(int i) {
+			checkIndex(i);
+			return decode(_codes[i]);
+		}
+
+		/**
+		 * Get the unpitched phoneme at position i, without allocating.
+		 * @param i
+		 * @return The phoneme, or null if there is none.
+		 */
+		public Phoneme getUnpitchedPhoneme(int i) {
+			checkIndex(i);
+			return phonemeOf(_codes[i]);
+		}
+
+		/**
+		 * Build a morpheme from the phonemes added so far.
+		 * @return 
+		 */
+		public Morpheme build() {
+			return new Morpheme(toCodes(), _cliticType);
+		}
+
+		private short[] toCodes() {
+			return _size == 0 ? NO_CODES : Arrays.copyOf(_codes, _size);
+		}
+
+		private void checkIndex(int i) {
+			if(i < 0 || i >= _size) throw new IndexOutOfBoundsException("phoneme " + i + " of " + _size);
+		}
+	}
+
+	static short encode(Phoneme p, Pitch pitch) {
+		int phoneme = p == null ? 0 : p.getOrdinal() + 1;
+		return (short) (phoneme << PITCH_BITS | encodePitch(pitch));
+	}
+
+	static int encodePitch(Pitch pitch) {
+		return pitch == null ? 0 : pitch.ordinal() + 1;
+	}
+
+	static Phoneme phonemeOf(short code) {
+		int i = (code >>> PITCH_BITS) - 1;
+		return i < 0 ? null : Phoneme.fromOrdinal(i);
+	}
+
+	static Pitch pitchOf(short code) {
+		int i = (code & PITCH_MASK) - 1;
+		return i < 0 ? null : _pitches[i];
+	}
+
+	private static PitchedPhoneme decode(short code) {
+		return new PitchedPhoneme(phonemeOf(code), pitchOf(code));
+	}
+
+	/* Copy the codes of this morpheme into an array. */
+	void copyCodes(short[] dest, int offset) {
+		short[] flat = _codes != null ? _codes : _flatCodes;
+		if(flat != null) System.arraycopy(flat, 0, dest, offset, flat.length);
+		else {
+			_left.copyCodes(dest, offset);
+			_right.copyCodes(dest, offset + _left._size);
+		}
+	}
+
+	/* Get the codes of this morpheme as a single array, which must not be
+	 changed. A concatenation is flattened the first time and keeps the
+	 result. */
+	private short[] codes() {
+		if(_codes != null) return _codes;
+		short[] result = _flatCodes;
+		if(result == null) {
+			result = new short[_size];
+			copyCodes(result, 0);
+			_flatCodes = result;
+		}
+		return result;
+	}
+
+	private short codeAt(int i) {
+		if(i < 0 || i >= _size) throw new IndexOutOfBoundsException("phoneme " + i + " of " + _size);
+		short[] flat = _flatCodes;
+		if(flat != null) return flat[i];
+		Morpheme m = this;
+		while(m._codes == null) {
+			if(i < m._left._size) m = m._left;
+			else {
+				i -= m._left._size;
+				m = m._right;
+			}
+		}
+		return m._codes[i];
+	}
+
+	/**
+	 * Write a list of morphemes as a table of codes, from which
+	 * fromCodeTable reads them back without parsing any phono code. Each
+	 * entry is the phono code it was made from, after a character for its
+	 * length, then a character for the clitic type, one for the length,
+	 * and one per phoneme.
+	 * @param sources The phono code of each morpheme.
+	 * @param morphemes The morphemes, any of which may be null.
+	 * @return
+	 */
+	public static String toCodeTable(List<String> sources, List<Morpheme> morphemes) {
+		StringBuilder result = new StringBuilder();
+		for(int i = 0; i < morphemes.size(); ++i) {
+			Morpheme m = morphemes.get(i);
+			if(m == null) {
+				result.append(NO_ENTRY);
+				continue;
 			}
+			String source = sources.get(i);
+			result.append((char) source.length()).append(source);
+			result.append((char) (m._cliticType == null ? 0 : m._cliticType.ordinal() + 1));
+			result.append((char) m._size);
+			for(short code : m.codes()) result.append((char) code);
 		}
+		return result.toString();
 	}
 
 	/**
-	 * Throw a pitch accent as far back as possible on the morpheme, as on
-	 * a verb. If the accent falls as far back as the first syllable and
-	 * the first syllable can have a circumflex, then give it one.
+	 * Read an entry of a table made by toCodeTable. The codes depend on
+	 * the phoneme definitions, so nothing is read unless they are still
+	 * those the generated tables were made from.
+	 * @param table
+	 * @param i The position of the entry.
+	 * @param source The phono code the entry should have been made from.
+	 * @return The morpheme, or null if the entry is null, the table does
+	 * not have it, or it was made from something else.
 	 */
-	public void throwBackPitch() {
-		findVowels();
-		for(int i = 0, n = _vowels.size(); i < n; ++i) {
-			if(i == 0 && canHaveCircumflex(i)) {
-				_vowels.get(i).setPitch(Pitch.CIRCUMFLEX);
-				break;
+	public static Morpheme fromCodeTable(String table, int i, String source) {
+		if(!isGeneratedTableCurrent()) return null;
+		int k = 0, n = table.length();
+		for(; k < n; --i) {
+			int start = k;
+			if(table.charAt(k) != NO_ENTRY) {
+				k += 1 + table.charAt(k);
+				if(k + 1 >= n) return null;
+				k += 2 + table.charAt(k + 1);
+				if(k > n) return null;
+			}
+			else ++k;
+			if(i == 0) {
+				if(table.charAt(start) == NO_ENTRY) return null;
+				int length = table.charAt(start);
+				if(!table.regionMatches(start + 1, source, 0, length) || length != source.length()) return null;
+				int c = start + 1 + length;
+				char clitic = table.charAt(c);
+				short[] codes = new short[table.charAt(c + 1)];
+				for(int j = 0; j < codes.length; ++j) codes[j] = (short) table.charAt(c + 2 + j);
+				return new Morpheme(codes, clitic == 0 ? null : CliticType.values()[clitic - 1]);
 			}
-			else if(canHaveAcute(i)) {
-				_vowels.get(i).setPitch(Pitch.ACUTE);
-				break;
+		}
+		return null;
+	}
+
+	/**
+	 * Tell whether the phonemes are still those from which the tables in
+	 * GeneratedTables were made. If not, the tables must not be read.
+	 * @return
+	 */
+	public static boolean isGeneratedTableCurrent() {
+		Boolean result = _generatedTableCurrent;
+		if(result == null) {
+			_generatedTableCurrent = result = GeneratedTables.PHONEMES.equals(Phoneme.definitions());
+		}
+		return result;
+	}
+
+	/* Pack count codes starting at position start eight bits apiece into
+	 a long, the first in the lowest bits. */
+	long pack(int start, int count) {
+		long result = 0;
+		for(int i = count - 1; i >= 0; --i) result = result << 8 | (codeAt(start + i) & 0xFF);
+		return result;
+	}
+
+	/**
+	 * Get this morpheme as precombined Unicode, by way of the shared
+	 * RenderingCache. Mark the last letter as terminal.
+	 * @return The rendering, or null if it cannot be made.
+	 */
+	public String toUnicode() {
+		return RenderingCache.getShared().toUnicode(this, true);
+	}
+
+	/**
+	 * Get this morpheme as precombined Unicode, by way of the shared
+	 * RenderingCache.
+	 * @param terminate Whether or not to mark the last letter as terminal.
+	 * @return The rendering, or null if it cannot be made.
+	 */
+	public String toUnicode(boolean terminate) {
+		return RenderingCache.getShared().toUnicode(this, terminate);
+	}
+
+	/**
+	 * Get the division of this morpheme into syllables.
+	 * @return 
+	 */
+	public Syllabification getSyllables() {
+		Syllabification result = _syllables;
+		if(result == null) {
+			short[] codes = codes();
+			Phoneme[] phonemes = new Phoneme[codes.length];
+			for(int i = 0; i < codes.length; ++i) phonemes[i] = phonemeOf(codes[i]);
+			_syllables = result = Syllabification.syllabify(phonemes);
+		}
+		return result;
+	}
+
+	/**
+	 * Return this morpheme with a pitch accent thrown as far back as
+	 * possible, as on a verb. If the accent falls as far back as the first
+	 * syllable and the first syllable can have a circumflex, then give it
+	 * one.
+	 * @return 
+	 */
+	public Morpheme withPitchThrownBack() {
+		Syllabification syllables = getSyllables();
+		for(int i = 0, n = syllables.size(); i < n; ++i) {
+			Pitch pitch = null;
+			if(i == 0 && canHaveCircumflex(syllables, i)) pitch = Pitch.CIRCUMFLEX;
+			else if(canHaveAcute(syllables, i)) pitch = Pitch.ACUTE;
+			if(pitch != null) {
+				short[] codes = new short[_size];
+				copyCodes(codes, 0);
+				int j = syllables.getNucleus(i);
+				codes[j] = (short) ((codes[j] & ~PITCH_MASK) | encodePitch(pitch));
+				return new Morpheme(codes, _cliticType);
 			}
 		}
+		return this;
 	}
 
 	/**
@@ -94,73 +481,65 @@ public class Morpheme implements Cloneable {
 	 * @return 
 	 */
 	public boolean hasPitch() {
-		for(PitchedPhoneme p : this.getPhonemes()) {
-			if(p.hasPitch()) return true;
+		for(short code : codes()) {
+			if((code & PITCH_MASK) != 0) return true;
 		}
 		return false;
 	}
 
 	/**
-	 * Attempt to set the clitic type of the morpheme. The clitic type can
+	 * Return this morpheme marked with a clitic type. The clitic type can
 	 * only be set if the morpheme has no pitch accent and is currently
 	 * unset.
 	 * @param t
-	 * @return Whether the clitic type was changed.
+	 * @return The marked morpheme, or null if the clitic type cannot be
+	 * set.
 	 */
-	public boolean trySetCliticType(CliticType t) {
-		if(hasPitch() || t != null) return false;
-		else {
-			this._cliticType = t;
-			return true;
-		}
+	public Morpheme withCliticType(CliticType t) {
+		if(hasPitch() || _cliticType != null) return null;
+		else return new Morpheme(codes(), t);
 	}
-	
-	private boolean canHaveCircumflex(int i) {
-		findVowels();
-		PitchedPhoneme vowel = _vowels.get(i);
-		switch(_vowels.size() - i) {
+
+	/* Tell whether syllable i, counted from the start, can have a
+	 circumflex, which requires a long vowel followed by at most one short
+	 syllable. */
+	private static boolean canHaveCircumflex(Syllabification s, int i) {
+		int n = s.size();
+		switch(n - i) {
 			case 1:
-				return vowel.getPhoneme().isLong();
+				return s.getMorae(i) == 2;
 			case 2:
-				return vowel.getPhoneme().isLong() &&
-					!_vowels.get(_vowels.size() - 1).getPhoneme().isLong();
+				return s.getMorae(i) == 2 && s.getMorae(n - 1) == 1;
 			default:
 				return false;
 		}
 	}
 
-	private boolean canHaveAcute(int i) {
-		findVowels();
-		switch(_vowels.size() - i) {
+	/* Tell whether syllable i can have an acute, which may fall no further
+	 back than the antepenult, and only there if the ultima is short. */
+	private static boolean canHaveAcute(Syllabification s, int i) {
+		int n = s.size();
+		switch(n - i) {
 			case 1:
 			case 2:
 				return true;
 			case 3:
-				return !_vowels.get(_vowels.size() - 1).getPhoneme().isLong();
+				return s.getMorae(n - 1) == 1;
 			default:
 				return false;
 		}
 	}
 
 	/**
-	 * Return the concatenation of this morpheme and another.
+	 * Return the concatenation of this morpheme and another. The result
+	 * shares the phonemes of both rather than copying them.
 	 * @param that
 	 * @return 
 	 */
 	public Morpheme plus(Morpheme that) {
-		Morpheme result = new Morpheme(this);
-		result.addMorpheme(that);
-		return result;
-	}
-
-	/**
-	 * Concatenate a morpheme to this one.
-	 * @param that 
-	 */
-	public void addMorpheme(Morpheme that) {
-		for(PitchedPhoneme p : that.getPhonemes()) {
-			addPhonemeClone(p);
-		}
+		if(that.isEmpty()) return _cliticType == null ? this : new Morpheme(codes(), null);
+		if(this.isEmpty()) return that._cliticType == null ? that : new Morpheme(that.codes(), null);
+		return new Morpheme(this, that);
 	}
 
 	/**
@@ -170,28 +549,17 @@ public class Morpheme implements Cloneable {
 	 * @return 
 	 */
 	public Morpheme plusContract(Morpheme that) {
-		Morpheme result = new Morpheme();
-		PitchedPhoneme first = this.isEmpty() ? null : this.getLastPhoneme();
-		PitchedPhoneme second = that.isEmpty() ? null : that.getFirstPhoneme();
-		for(int i = 0, n = this.size() - 1; i < n; ++i) {
-			result.addPhonemeClone(this.getPhoneme(i));
-		}
-		PitchedPhoneme contraction = null;
-		if(first != null && second != null && first.hasPhoneme() && second.hasPhoneme()) {
-			contraction = (PitchedPhoneme) first.clone();
-			if(!contraction.tryContractWith(second)) contraction = null;
-		}
-		if(contraction == null) {
-			if(first != null) result.addPhonemeClone(first);
-			if(second != null) result.addPhonemeClone(second);
-		}
-		else {
-			result.addPhoneme(contraction);
+		if(this.isEmpty() || that.isEmpty()) return plus(that);
+		PitchedPhoneme contraction = this.getLastPhoneme();
+		if(!contraction.hasPhoneme() || !contraction.tryContractWith(that.getFirstPhoneme())) {
+			return plus(that);
 		}
-		for(int i = 1, n = that.size(); i < n; ++i) {
-			result.addPhonemeClone(that.getPhoneme(i));
-		}
-		return result;
+		Builder b = new Builder(this);
+		b.setCliticType(null);
+		b.set(b.size() - 1, contraction);
+		b.add(that);
+		b.remove(_size);
+		return b.build();
 	}
 
 	/**
@@ -210,12 +578,13 @@ public class Morpheme implements Cloneable {
 	 * @return 
 	 */
 	public List<Grapheme> getGraphemes(boolean terminate) {
-		List<Grapheme> result = new ArrayList<>();
+		short[] codes = codes();
+		List<Grapheme> result = new ArrayList<>(codes.length + 1);
 		boolean roughBreathing = false;
 		PitchedPhoneme curr;
 		List<Grapheme> graphemes;
-		for(int i = 0, n = _phonemes.size(); i < n; ++i) {
-			curr = this.getPhoneme(i);
+		for(int i = 0, n = codes.length; i < n; ++i) {
+			curr = decode(codes[i]);
 			if(i == 0 && curr.getPhoneme() == Phoneme.H) {
 				roughBreathing = true;
 			}
@@ -241,34 +610,12 @@ public class Morpheme implements Cloneable {
 		return result;
 	}
 
-	private List<PitchedPhoneme> getPhonemes() {
-		return _phonemes;
-	}
-
-	private void addPhoneme(PitchedPhoneme p) {
-		_phonemes.add(p);
-	}
-
-	private PitchedPhoneme addPhonemeClone(PitchedPhoneme p) {
-		PitchedPhoneme result = (PitchedPhoneme) p.clone();
-		addPhoneme(result);
-		return result;
-	}
-
-	/**
-	 * Remove the phoneme at position i from this morpheme.
-	 * @param i 
-	 */
-	public void removePhoneme(int i) {
-		_phonemes.remove(i);
-	}
-
 	/**
 	 * Tell whether this morpheme is empty.
 	 * @return 
 	 */
 	public boolean isEmpty() {
-		return _phonemes.isEmpty();
+		return _size == 0;
 	}
 
 	/**
@@ -276,16 +623,35 @@ public class Morpheme implements Cloneable {
 	 * @return 
 	 */
 	public int size() {
-		return _phonemes.size();
+		return _size;
 	}
 
 	/**
 	 * Get the phoneme at position i.
 	 * @param i
-	 * @return 
+	 * @return A new pitched phoneme, which may be changed without
+	 * affecting the morpheme.
 	 */
 	public PitchedPhoneme getPhoneme(int i) {
-		return _phonemes.get(i);
+		return decode(codeAt(i));
+	}
+
+	/**
+	 * Get the unpitched phoneme at position i, without allocating.
+	 * @param i
+	 * @return The phoneme, or null if there is none.
+	 */
+	public Phoneme getUnpitchedPhoneme(int i) {
+		return phonemeOf(codeAt(i));
+	}
+
+	/**
+	 * Get the pitch accent at position i.
+	 * @param i
+	 * @return The pitch accent or null if there is none.
+	 */
+	public Pitch getPitch(int i) {
+		return pitchOf(codeAt(i));
 	}
 
 	/**
@@ -293,7 +659,7 @@ public class Morpheme implements Cloneable {
 	 * @return 
 	 */
 	public PitchedPhoneme getFirstPhoneme() {
-		return _phonemes.isEmpty() ? null : _phonemes.get(0);
+		return isEmpty() ? null : getPhoneme(0);
 	}
 
 	/**
@@ -301,7 +667,7 @@ public class Morpheme implements Cloneable {
 	 * @return 
 	 */
 	public PitchedPhoneme getLastPhoneme() {
-		return _phonemes.isEmpty() ? null : _phonemes.get(_phonemes.size() - 1);
+		return isEmpty() ? null : getPhoneme(_size - 1);
 	}
 
 	/**
@@ -329,8 +695,20 @@ public class Morpheme implements Cloneable {
 	}
 
 	@Override
-	public Object clone() {
-		return new Morpheme(this);
+	public boolean equals(Object o) {
+		if(this == o) return true;
+		if(!(o instanceof Morpheme)) return false;
+		Morpheme m = (Morpheme) o;
+		if(m._size != _size || m._cliticType != _cliticType) return false;
+		if(_hash != 0 && m._hash != 0 && _hash != m._hash) return false;
+		return Arrays.equals(m.codes(), codes());
+	}
+
+	@Override
+	public int hashCode() {
+		int result = _hash;
+		if(result == 0) _hash = result = Arrays.hashCode(codes());
+		return result;
 	}
 
 }
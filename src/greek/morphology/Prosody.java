@@ -0,0 +1,166 @@
+package greek.morphology;
+
+import greek.phonology.Phoneme;
+import greek.phonology.PitchedPhoneme.Pitch;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adjusts the accents and movable nu of a stream of words for the words which
+ * follow them. Words are given one at a time, with pauses (punctuation or the
+ * end of the text) marked in between. Since no adjustment depends on more
+ * than the next word, each word is handed back as soon as the word after it,
+ * or a pause, has been seen; the pass holds only one word at a time and can run
+ * over text of any length.
+ *
+ * The adjustments are these:
+ * <ul>
+ * <li>An acute on the last syllable becomes grave when another word follows
+ * without a pause, unless that word is an enclitic.</li>
+ * <li>An enclitic gives up its accent to the word before it. A word accented
+ * on the antepenult or with a circumflex on the penult, and an unaccented word
+ * such as a proclitic or another enclitic, takes an acute on its last
+ * syllable. After a word accented with an acute on the penult, an enclitic of
+ * two or more syllables keeps an acute on its last syllable.</li>
+ * <li>A movable nu is kept before a vowel or a pause and dropped before a
+ * consonant.</li>
+ * </ul>
+ * Enclitics and proclitics are recognized by their clitic type and are
+ * expected to be unaccented.
+ */
+public class Prosody {
+
+	private Morpheme _pending = null;
+
+	/**
+	 * Give the next word.
+	 * @param word
+	 * @return The word before this one with its accents and movable nu
+	 * resolved, or null if there was none.
+	 */
+	public Morpheme next(Morpheme word) {
+		Morpheme previous = _pending;
+		if(word.isEnclitic()) {
+			word = stripPitch(word);
+			if(previous != null) {
+				Morpheme host = previous;
+				previous = hostEnclitic(host);
+				if(previous == host) word = keepEncliticAccent(host, word);
+			}
+		}
+		else if(previous != null) {
+			previous = graveOnUltima(previous);
+		}
+		if(previous != null) previous = resolveMovableNu(previous, startsWithVowel(word));
+		_pending = word;
+		return previous;
+	}
+
+	/**
+	 * Mark a pause, such as punctuation or the end of the text.
+	 * @return The last word given, with its accents and movable nu
+	 * resolved, or null if there was none since the last pause.
+	 */
+	public Morpheme pause() {
+		Morpheme previous = _pending;
+		_pending = null;
+		return previous == null ? null : resolveMovableNu(previous, true);
+	}
+
+	/**
+	 * Resolve the accents and movable nu of a sequence of words ending in a
+	 * pause.
+	 * @param words The words, with null marking a pause.
+	 * @return The resolved words, with null marking each pause.
+	 */
+	public static List<Morpheme> resolve(List<Morpheme> words) {
+		Prosody prosody = new Prosody();
+		List<Morpheme> result = new ArrayList<>(words.size());
+		Morpheme out;
+		for(Morpheme w : words) {
+			if(w == null) {
+				out = prosody.pause();
+				if(out != null) result.add(out);
+				result.add(null);
+			}
+			else {
+				out = prosody.next(w);
+				if(out != null) result.add(out);
+			}
+		}
+		out = prosody.pause();
+		if(out != null) result.add(out);
+		return result;
+	}
+
+	/* Find the last accented syllable, or -1 if there is none. */
+	private static int accentedSyllable(Morpheme m, Syllabification s) {
+		for(int i = s.size() - 1; i >= 0; --i) {
+			if(m.getPitch(s.getNucleus(i)) != null) return i;
+		}
+		return -1;
+	}
+
+	/* Give a word followed by an enclitic an acute on its last syllable if
+	 it needs one; otherwise return it unchanged. */
+	private static Morpheme hostEnclitic(Morpheme host) {
+		Syllabification s = host.getSyllables();
+		int n = s.size();
+		if(n == 0) return host;
+		int accented = accentedSyllable(host, s);
+		boolean addAcute;
+		if(accented < 0) addAcute = true;
+		else {
+			Pitch pitch = host.getPitch(s.getNucleus(accented));
+			addAcute = (pitch == Pitch.ACUTE && accented == n - 3) ||
+				(pitch == Pitch.CIRCUMFLEX && accented == n - 2);
+		}
+		if(!addAcute) return host;
+		return new Morpheme.Builder(host).setPitch(s.getNucleus(n - 1), Pitch.ACUTE).build();
+	}
+
+	/* An enclitic of two or more syllables after a word with an acute on
+	 its penult keeps an acute on its last syllable. */
+	private static Morpheme keepEncliticAccent(Morpheme host, Morpheme enclitic) {
+		Syllabification h = host.getSyllables();
+		int accented = accentedSyllable(host, h);
+		if(accented < 0 || accented != h.size() - 2 ||
+			host.getPitch(h.getNucleus(accented)) != Pitch.ACUTE) return enclitic;
+		Syllabification e = enclitic.getSyllables();
+		if(e.size() < 2) return enclitic;
+		return new Morpheme.Builder(enclitic).setPitch(e.getNucleus(e.size() - 1), Pitch.ACUTE).build();
+	}
+
+	/* Turn an acute on the last syllable to a grave. */
+	private static Morpheme graveOnUltima(Morpheme m) {
+		Syllabification s = m.getSyllables();
+		if(s.size() == 0) return m;
+		int nucleus = s.getNucleus(s.size() - 1);
+		if(m.getPitch(nucleus) != Pitch.ACUTE) return m;
+		return new Morpheme.Builder(m).setPitch(nucleus, Pitch.GRAVE).build();
+	}
+
+	private static Morpheme stripPitch(Morpheme m) {
+		if(!m.hasPitch()) return m;
+		Morpheme.Builder b = new Morpheme.Builder(m);
+		for(int i = 0; i < b.size(); ++i) b.setPitch(i, null);
+		return b.build();
+	}
+
+	/* Drop a final movable nu unless a vowel or pause follows. */
+	private static Morpheme resolveMovableNu(Morpheme m, boolean keep) {
+		int last = m.size() - 1;
+		if(keep || last < 0 || m.getUnpitchedPhoneme(last) != Phoneme.MOVABLE_NU) return m;
+		return new Morpheme.Builder(m).remove(last).build();
+	}
+
+	/* Tell whether a word begins with a vowel, with or without a rough
+	 breathing. */
+	private static boolean startsWithVowel(Morpheme m) {
+		if(m.isEmpty()) return false;
+		Phoneme first = m.getUnpitchedPhoneme(0);
+		if(first == Phoneme.H && m.size() > 1) first = m.getUnpitchedPhoneme(1);
+		return first != null && first.isVowel();
+	}
+
+}
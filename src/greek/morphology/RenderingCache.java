@@ -0,0 +1,170 @@
+package greek.morphology;
+
+import greek.code.Unicode;
+import greek.phonology.Phoneme;
+import greek.spelling.Grapheme;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of the precombined Unicode renderings of morphemes.
+ *
+ * Each morpheme is keyed by its phoneme codes, packed eight bits apiece into
+ * two longs along with its length, its clitic type, and whether its last
+ * letter is final. The key is exact, so no morpheme need be kept to check a
+ * hit, and is computed without allocating. Morphemes too long to pack are
+ * rendered without the cache.
+ *
+ * The cache holds a fixed number of entries, each key having a single slot
+ * which a new entry simply replaces. Any number of threads may use the cache
+ * at once.
+ */
+public final class RenderingCache {
+
+	/* The longest morpheme whose codes fit in a key. */
+	private static final int MAX_LENGTH = 15;
+
+	private static final int CODE_BITS = 8;
+	private static final int CODES_PER_LONG = Long.SIZE / CODE_BITS;
+
+	static {
+		if((Phoneme.values().size() + 1) << Morpheme.PITCH_BITS > 1 << CODE_BITS) {
+			throw new AssertionError("phoneme codes do not fit in a key");
+		}
+	}
+
+	/* Stands in for a morpheme which cannot be rendered. */
+	private static final String NO_RENDERING = new String();
+
+	private static final RenderingCache _shared = new RenderingCache(4096);
+
+	private static final class Entry {
+		final long low;
+		final long high;
+		final String text;
+
+		Entry(long low, long high, String text) {
+			this.low = low;
+			this.high = high;
+			this.text = text;
+		}
+	}
+
+	private final AtomicReferenceArray<Entry> _entries;
+	private final int _mask;
+	private final LongAdder _hits = new LongAdder();
+	private final LongAdder _misses = new LongAdder();
+
+	/**
+	 * Initialize an empty cache.
+	 * @param capacity The number of entries, which is rounded up to a
+	 * power of two.
+	 */
+	public RenderingCache(int capacity) {
+		if(capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("capacity " + capacity);
+		int size = Integer.highestOneBit(capacity);
+		if(size < capacity) size <<= 1;
+		_entries = new AtomicReferenceArray<>(size);
+		_mask = size - 1;
+	}
+
+	/**
+	 * Get the cache shared by the whole program.
+	 * @return 
+	 */
+	public static RenderingCache getShared() {
+		return _shared;
+	}
+
+	/**
+	 * Render a morpheme as precombined Unicode.
+	 * @param m
+	 * @param terminate Whether the last letter is final in its word.
+	 * @return The rendering, or null if the morpheme cannot be rendered.
+	 */
+	public String toUnicode(Morpheme m, boolean terminate) {
+		int size = m.size();
+		if(size > MAX_LENGTH) {
+			_misses.increment();
+			return render(m, terminate);
+		}
+		long low = m.pack(0, Math.min(size, CODES_PER_LONG));
+		long high = size > CODES_PER_LONG ? m.pack(CODES_PER_LONG, size - CODES_PER_LONG) : 0;
+		high |= (long) size << 56;
+		high |= (long) cliticBits(m) << 60;
+		if(terminate) high |= 1L << 62;
+		int slot = slotOf(low, high);
+		Entry e = _entries.get(slot);
+		if(e != null && e.low == low && e.high == high) {
+			_hits.increment();
+			return e.text == NO_RENDERING ? null : e.text;
+		}
+		_misses.increment();
+		String text = render(m, terminate);
+		_entries.set(slot, new Entry(low, high, text == null ? NO_RENDERING : text));
+		return text;
+	}
+
+	private static int cliticBits(Morpheme m) {
+		if(m.isEnclitic()) return 1;
+		if(m.isProclitic()) return 2;
+		return 0;
+	}
+
+	private int slotOf(long low, long high) {
+		long h = low * 0x9E3779B97F4A7C15L ^ high;
+		h ^= h >>> 29;
+		h *= 0xBF58476D1CE4E5B9L;
+		h ^= h >>> 32;
+		return (int) h & _mask;
+	}
+
+	private static String render(Morpheme m, boolean terminate) {
+		List<Grapheme> g = m.getGraphemes(terminate);
+		return g == null ? null : Unicode.toPrecombinedUnicode(g);
+	}
+
+	/**
+	 * Get the number of renderings found in the cache.
+	 * @return 
+	 */
+	public long getHits() {
+		return _hits.sum();
+	}
+
+	/**
+	 * Get the number of renderings not found in the cache, including
+	 * those of morphemes too long to be cached.
+	 * @return 
+	 */
+	public long getMisses() {
+		return _misses.sum();
+	}
+
+	/**
+	 * Get the number of entries the cache can hold.
+	 * @return 
+	 */
+	public int getCapacity() {
+		return _mask + 1;
+	}
+
+	/**
+	 * Discard every entry and reset the counts of hits and misses.
+	 */
+	public void clear() {
+		for(int i = 0; i <= _mask; ++i) _entries.set(i, null);
+		_hits.reset();
+		_misses.reset();
+	}
+
+	@Override
+	public String toString() {
+		long hits = getHits(), misses = getMisses();
+		long total = hits + misses;
+		return String.format("%d hits, %d misses (%.1f%% hit rate)", hits, misses,
+			total == 0 ? 0.0 : 100.0 * hits / total);
+	}
+
+}
@@ -0,0 +1,240 @@
+package greek.morphology;
+
+import greek.phonology.Phoneme;
+import greek.phonology.PitchedPhoneme;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The division of a sequence of phonemes into syllables. Every vowel,
+ * including every diphthong, is the nucleus of its own syllable. Consonants
+ * before the first vowel belong to the first onset and consonants after the
+ * last vowel to the last coda. Between two vowels, a single consonant, or a
+ * stop followed by a liquid or nasal, begins the next syllable; in any other
+ * cluster the first consonant closes the syllable before.
+ *
+ * The division is stored compactly as the position of each syllable's onset
+ * and nucleus, together with the number of morae of each syllable: two for a
+ * long vowel or diphthong and one otherwise, so that final ai and oi count as
+ * short. A syllabification never changes once made.
+ */
+public final class Syllabification {
+
+	private static final int[] NO_INTS = new int[0];
+	private static final byte[] NO_BYTES = new byte[0];
+
+	/* The index of the first phoneme of each syllable's onset. */
+	private final int[] _onsets;
+
+	/* The index of each syllable's nucleus. */
+	private final int[] _nuclei;
+
+	/* The number of morae of each syllable, plus HEAVY if the syllable is
+	 heavy. */
+	private final byte[] _weights;
+
+	/* The phonemes syllabified, which are never changed. */
+	private final Phoneme[] _phonemes;
+
+	private static final int MORAE_MASK = 0x3;
+	private static final int HEAVY = 0x4;
+
+	private Syllabification(int[] onsets, int[] nuclei, byte[] weights, Phoneme[] phonemes) {
+		_onsets = onsets;
+		_nuclei = nuclei;
+		_weights = weights;
+		_phonemes = phonemes;
+	}
+
+	/**
+	 * Divide a sequence of pitched phonemes into syllables.
+	 * @param phonemes
+	 * @return 
+	 */
+	public static Syllabification syllabify(List<PitchedPhoneme> phonemes) {
+		Phoneme[] p = new Phoneme[phonemes.size()];
+		for(int i = 0; i < p.length; ++i) p[i] = phonemes.get(i).getPhoneme();
+		return syllabify(p);
+	}
+
+	/**
+	 * Divide a sequence of phonemes into syllables in a single pass from
+	 * left to right.
+	 * @param phonemes Phonemes, any of which may be null. The array is
+	 * kept, so it must not be changed afterwards.
+	 * @return 
+	 */
+	public static Syllabification syllabify(Phoneme[] phonemes) {
+		int count = 0;
+		for(Phoneme p : phonemes) {
+			if(isVowel(p)) ++count;
+		}
+		if(count == 0) return new Syllabification(NO_INTS, NO_INTS, NO_BYTES, phonemes);
+		int[] onsets = new int[count];
+		int[] nuclei = new int[count];
+		byte[] weights = new byte[count];
+		int s = 0;
+		for(int i = 0; i < phonemes.length; ++i) {
+			Phoneme p = phonemes[i];
+			if(!isVowel(p)) continue;
+			if(s > 0) {
+				int start = nuclei[s - 1] + 1;
+				onsets[s] = onsetStart(phonemes, start, i);
+				// A coda, or a double consonant, closes the
+				// syllable before.
+				if(onsets[s] > start || (onsets[s] < i && isDouble(phonemes[onsets[s]]))) {
+					weights[s - 1] |= HEAVY;
+				}
+			}
+			nuclei[s] = i;
+			weights[s] = (byte) (p.isLong() ? 2 | HEAVY : 1);
+			++s;
+		}
+		if(nuclei[s - 1] + 1 < phonemes.length) weights[s - 1] |= HEAVY;
+		return new Syllabification(onsets, nuclei, weights, phonemes);
+	}
+
+	private static boolean isVowel(Phoneme p) {
+		return p != null && p.isVowel();
+	}
+
+	/* Find where the onset begins among the consonants from start up to
+	 but not including end, which lie between two vowels. */
+	private static int onsetStart(Phoneme[] phonemes, int start, int end) {
+		int length = end - start;
+		if(length <= 1) return start;
+		if(isStop(phonemes[end - 2]) && isLiquidOrNasal(phonemes[end - 1])) return end - 2;
+		return start + 1;
+	}
+
+	private static boolean isStop(Phoneme p) {
+		return p == Phoneme.B || p == Phoneme.G || p == Phoneme.D ||
+			p == Phoneme.P || p == Phoneme.K || p == Phoneme.T ||
+			p == Phoneme.PH || p == Phoneme.KH || p == Phoneme.TH;
+	}
+
+	private static boolean isLiquidOrNasal(Phoneme p) {
+		return p == Phoneme.L || p == Phoneme.R || p == Phoneme.M || p == Phoneme.N;
+	}
+
+	private static boolean isDouble(Phoneme p) {
+		return p == Phoneme.ZD || p == Phoneme.KS || p == Phoneme.PS;
+	}
+
+	/**
+	 * Get the number of syllables.
+	 * @return 
+	 */
+	public int size() {
+		return _nuclei.length;
+	}
+
+	/**
+	 * Get the number of phonemes which were syllabified.
+	 * @return 
+	 */
+	public int getLength() {
+		return _phonemes.length;
+	}
+
+	/**
+	 * Get the index of the first phoneme of syllable i, which begins its
+	 * onset.
+	 * @param i
+	 * @return 
+	 */
+	public int getStart(int i) {
+		return _onsets[i];
+	}
+
+	/**
+	 * Get the index of the nucleus of syllable i.
+	 * @param i
+	 * @return 
+	 */
+	public int getNucleus(int i) {
+		return _nuclei[i];
+	}
+
+	/**
+	 * Get the index just past the last phoneme of syllable i, which ends
+	 * its coda.
+	 * @param i
+	 * @return 
+	 */
+	public int getEnd(int i) {
+		return i + 1 < _onsets.length ? _onsets[i + 1] : _phonemes.length;
+	}
+
+	/**
+	 * Get the number of consonants in the onset of syllable i.
+	 * @param i
+	 * @return 
+	 */
+	public int getOnsetLength(int i) {
+		return _nuclei[i] - _onsets[i];
+	}
+
+	/**
+	 * Get the number of consonants in the coda of syllable i.
+	 * @param i
+	 * @return 
+	 */
+	public int getCodaLength(int i) {
+		return getEnd(i) - _nuclei[i] - 1;
+	}
+
+	/**
+	 * Get the number of morae of syllable i.
+	 * @param i
+	 * @return 
+	 */
+	public int getMorae(int i) {
+		return _weights[i] & MORAE_MASK;
+	}
+
+	/**
+	 * Get the total number of morae.
+	 * @return 
+	 */
+	public int getTotalMorae() {
+		int result = 0;
+		for(byte w : _weights) result += w & MORAE_MASK;
+		return result;
+	}
+
+	/**
+	 * Tell whether syllable i is heavy for the purposes of meter: that is,
+	 * whether its vowel is long or it is closed by a consonant. A double
+	 * consonant at the start of the next syllable closes this one.
+	 * @param i
+	 * @return 
+	 */
+	public boolean isHeavy(int i) {
+		return (_weights[i] & HEAVY) != 0;
+	}
+
+	/**
+	 * Find the syllable which contains a phoneme.
+	 * @param phoneme The index of the phoneme.
+	 * @return The index of the syllable, or -1 if there are no syllables.
+	 */
+	public int syllableOf(int phoneme) {
+		if(_onsets.length == 0) return -1;
+		int i = Arrays.binarySearch(_onsets, phoneme);
+		return i >= 0 ? i : Math.max(0, -i - 2);
+	}
+
+	/**
+	 * Get syllable i as a Syllable.
+	 * @param i
+	 * @return 
+	 */
+	public Syllable getSyllable(int i) {
+		return new Syllable(
+			Arrays.asList(Arrays.copyOfRange(_phonemes, getStart(i), getNucleus(i))),
+			Arrays.asList(_phonemes[getNucleus(i)]),
+			Arrays.asList(Arrays.copyOfRange(_phonemes, getNucleus(i) + 1, getEnd(i))));
+	}
+
+}
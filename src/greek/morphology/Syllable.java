@@ -4,7 +4,7 @@ import greek.phonology.Phoneme;
 import java.util.List;
 
 /**
- * A syllable (TODO).
+ * A syllable, consisting of an onset, a vowel nucleus, and a coda.
  * @author Brian DuSell <bdusell@gmail.com>
  */
 public class Syllable {
@@ -13,22 +13,58 @@ public class Syllable {
 	private List<Phoneme> _nucleus;
 	private List<Phoneme> _coda;
 
-	private Syllable(List<Phoneme> onset, List<Phoneme> nucleus,
+	Syllable(List<Phoneme> onset, List<Phoneme> nucleus,
 		List<Phoneme> coda) {
 		_onset = onset;
 		_nucleus = nucleus;
 		_coda = coda;
 	}
-	
+
+	/**
+	 * Make a syllable from a sequence of phonemes.
+	 * @param syllable
+	 * @return The syllable, or null if the phonemes do not contain exactly
+	 * one vowel.
+	 */
 	public static Syllable toSyllable(List<Phoneme> syllable) {
-		// TODO
-		// some stuff
-		return null;
+		Syllabification s = Syllabification.syllabify(syllable.toArray(new Phoneme[0]));
+		if(s.size() != 1) return null;
+		return s.getSyllable(0);
+	}
+
+	/**
+	 * Get the consonants before the vowel.
+	 * @return 
+	 */
+	public List<Phoneme> getOnset() {
+		return _onset;
+	}
+
+	/**
+	 * Get the vowel.
+	 * @return 
+	 */
+	public List<Phoneme> getNucleus() {
+		return _nucleus;
+	}
+
+	/**
+	 * Get the consonants after the vowel.
+	 * @return 
+	 */
+	public List<Phoneme> getCoda() {
+		return _coda;
 	}
 
+	/**
+	 * Get the number of morae in the syllable: two if the vowel is long
+	 * and one otherwise.
+	 * @return 
+	 */
 	public int numMorae() {
-		// TODO
-		return 0;
+		int result = 0;
+		for(Phoneme p : _nucleus) result += p.isLong() ? 2 : 1;
+		return result;
 	}
 
 }
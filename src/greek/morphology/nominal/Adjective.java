@@ -0,0 +1,78 @@
+package greek.morphology.nominal;
+
+import greek.grammar.Gender;
+import greek.morphology.Morpheme;
+import greek.phonology.Phoneme;
+
+/**
+ * An adjective of the first and second declensions. An adjective of three
+ * terminations, like ἀγαθός, ἀγαθή, ἀγαθόν, declines its feminine in the first
+ * declension, with long α after ε, ι, or ρ and η elsewhere. An adjective of
+ * two terminations, like ἄδικος, ἄδικον, uses its masculine forms for the
+ * feminine. Unlike a first-declension noun, the feminine genitive plural is
+ * accented like the masculine.
+ */
+public class Adjective extends DeclinedNominal {
+
+	/**
+	 * The number of distinct forms an adjective has in the nominative
+	 * singular.
+	 */
+	public enum Terminations { TWO, THREE };
+
+	private static final EndingTable FEMININE_ETA = new EndingTable(Gender.FEMININE,
+		"e:", "e:n", "e:s", "e:i", "e:",
+		"aj", "a:s", "o:n", "ais", "aj");
+
+	private static final EndingTable FEMININE_ALPHA = new EndingTable(Gender.FEMININE,
+		"a:", "a:n", "a:s", "a:i", "a:",
+		"aj", "a:s", "o:n", "ais", "aj");
+
+	private static final EndingTable TWO = new EndingTable(
+		SecondDeclension.MASCULINE, SecondDeclension.FEMININE, SecondDeclension.NEUTER);
+
+	private static final EndingTable THREE_ETA = new EndingTable(
+		SecondDeclension.MASCULINE, FEMININE_ETA, SecondDeclension.NEUTER);
+
+	private static final EndingTable THREE_ALPHA = new EndingTable(
+		SecondDeclension.MASCULINE, FEMININE_ALPHA, SecondDeclension.NEUTER);
+
+	private final Terminations _terminations;
+	private final EndingTable _endings;
+
+	/**
+	 * Initialize the adjective with a stem and its number of terminations.
+	 * @param stem The stem, accented on the syllable which is accented in
+	 * the masculine nominative singular, or unaccented if that form is
+	 * accented on its ending.
+	 * @param terminations
+	 */
+	public Adjective(Morpheme stem, Terminations terminations) {
+		super(stem);
+		_terminations = terminations;
+		if(terminations == Terminations.TWO) _endings = TWO;
+		else _endings = takesAlpha(getStem()) ? THREE_ALPHA : THREE_ETA;
+	}
+
+	/* Tell whether the feminine of a stem takes α rather than η. */
+	private static boolean takesAlpha(Morpheme stem) {
+		if(stem.isEmpty()) return false;
+		Phoneme p = stem.getUnpitchedPhoneme(stem.size() - 1);
+		return p == Phoneme.E || p == Phoneme.I || p == Phoneme.II || p == Phoneme.R ||
+			p == Phoneme.AI || p == Phoneme.EI || p == Phoneme.OI || p == Phoneme.UI;
+	}
+
+	@Override
+	protected EndingTable getEndings() {
+		return _endings;
+	}
+
+	/**
+	 * Get the number of terminations.
+	 * @return 
+	 */
+	public Terminations getTerminations() {
+		return _terminations;
+	}
+
+}
@@ -0,0 +1,248 @@
+package greek.morphology.nominal;
+
+import greek.grammar.Case;
+import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Number;
+import greek.morphology.Morpheme;
+import greek.morphology.Syllabification;
+import greek.phonology.Phoneme;
+import greek.phonology.PitchedPhoneme;
+import greek.phonology.PitchedPhoneme.Pitch;
+
+/**
+ * A nominal formed by adding the endings of an EndingTable to a stem.
+ *
+ * The accent is persistent: it stays on the syllable of the stem on which it
+ * falls in the lemma, as far as the length of the last syllable allows. It
+ * moves forward to the penult when the ultima is long, and a long penult
+ * takes a circumflex when the ultima is short. A stem with no accent is
+ * accented on the ending, which takes a circumflex in the genitive and dative
+ * when it is long. An ending with an accent of its own keeps it.
+ *
+ * All of the forms are made together in one pass the first time any of them
+ * is requested. The stem is copied into a buffer once, and for each form only
+ * its last few phonemes, which may change before the ending, and the ending
+ * itself are written after it.
+ */
+public abstract class DeclinedNominal extends greek.lexeme.Nominal {
+
+	/* The number of phonemes at the end of the stem which may change
+	 before an ending beginning with s. */
+	private static final int TAIL = 3;
+
+	private final Morpheme _stem;
+	private final int _accent;
+	private volatile Morpheme[] _paradigm = null;
+
+	/**
+	 * Initialize the nominal with a stem whose accent marks the syllable
+	 * which keeps the accent.
+	 * @param stem The stem, accented on the syllable which is accented in
+	 * the lemma, or unaccented if the lemma is accented on its ending.
+	 */
+	protected DeclinedNominal(Morpheme stem) {
+		this(stem, accentedSyllable(stem));
+	}
+
+	/**
+	 * Initialize the nominal with a stem and the syllable which keeps the
+	 * accent.
+	 * @param stem The stem, whose own accent is ignored.
+	 * @param accent The syllable of the stem, counted from the start,
+	 * which keeps the accent, or -1 if the ending is accented.
+	 */
+	protected DeclinedNominal(Morpheme stem, int accent) {
+		_stem = withoutPitch(stem);
+		_accent = accent;
+	}
+
+	/**
+	 * Get the endings added to the stem.
+	 * @return 
+	 */
+	protected abstract EndingTable getEndings();
+
+	/**
+	 * Tell whether a form is accented on its last syllable. By default this
+	 * is so when the stem has no accent.
+	 * @param c
+	 * @param n
+	 * @return 
+	 */
+	protected boolean isAccentedOnUltima(Case c, Number n) {
+		return _accent < 0;
+	}
+
+	/**
+	 * Get the stem, without an accent.
+	 * @return 
+	 */
+	public Morpheme getStem() {
+		return _stem;
+	}
+
+	/**
+	 * Get the syllable of the stem which keeps the accent.
+	 * @return The index of the syllable, counted from the start, or -1 if
+	 * the ending is accented.
+	 */
+	public int getAccentedSyllable() {
+		return _accent;
+	}
+
+	@Override
+	protected Morpheme getMorpheme(Case c, Number n, Gender g) {
+		return getParadigm()[GrammaticalTag.nominalIndex(c, n, g)];
+	}
+
+	/* Get the forms, making them the first time. Threads racing to make
+	 them arrive at equal forms. */
+	private Morpheme[] getParadigm() {
+		Morpheme[] result = _paradigm;
+		if(result == null) _paradigm = result = decline();
+		return result;
+	}
+
+	/**
+	 * Make every form of this nominal.
+	 * @return The forms, indexed by the dense index of their case, number,
+	 * and gender, with null for each form which does not exist.
+	 */
+	protected Morpheme[] decline() {
+		Morpheme[] result = new Morpheme[GrammaticalTag.NOMINAL_CELLS];
+		EndingTable endings = getEndings();
+		Syllabification stemSyllables = _stem.getSyllables();
+		int stemSize = _stem.size();
+		int prefix = Math.max(0, stemSize - TAIL);
+		Morpheme.Builder b = new Morpheme.Builder(_stem);
+		for(int i = 0; i < result.length; ++i) {
+			Morpheme ending = endings.get(i);
+			if(ending == null) continue;
+			GrammaticalTag tag = GrammaticalTag.fromNominalIndex(i);
+			b.truncate(prefix);
+			for(int j = prefix; j < stemSize; ++j) b.add(_stem.getUnpitchedPhoneme(j), null);
+			int endingStart;
+			if(ending.getUnpitchedPhoneme(0) == Phoneme.S && beforeS(b, prefix)) {
+				// The s of the ending has joined the stem.
+				endingStart = b.size() - 1;
+				for(int j = 1; j < ending.size(); ++j) {
+					b.add(ending.getUnpitchedPhoneme(j), ending.getPitch(j));
+				}
+			}
+			else {
+				endingStart = b.size();
+				b.add(ending);
+			}
+			int accented = ending.hasPitch() ? -1 :
+				placeAccent(b, stemSyllables, endingStart, ending.getSyllables(), tag.getCase(), tag.getNumber());
+			result[i] = b.build();
+			if(accented >= 0 && accented < prefix) b.setPitch(accented, null);
+		}
+		return result;
+	}
+
+	/* Accent the form in the buffer and return the position of the
+	 accent, or -1 if it has none. */
+	private int placeAccent(Morpheme.Builder b, Syllabification stem, int endingStart,
+		Syllabification ending, Case c, Number n) {
+		int stemCount = stem.size();
+		int count = stemCount + ending.size();
+		if(count == 0) return -1;
+		int t;
+		if(isAccentedOnUltima(c, n)) t = count - 1;
+		else t = Math.min(Math.max(_accent, count - 3), count - 1);
+		int ultima = nucleus(stem, endingStart, ending, count - 1);
+		boolean longUltima = isLong(b, ultima);
+		if(t == count - 3 && longUltima) ++t;
+		int position = nucleus(stem, endingStart, ending, t);
+		Pitch pitch = Pitch.ACUTE;
+		if(t == count - 1) {
+			if(longUltima && isAccentedOnUltima(c, n) &&
+				(c == Case.GENITIVE || c == Case.DATIVE)) pitch = Pitch.CIRCUMFLEX;
+		}
+		else if(t == count - 2 && isLong(b, position) && !longUltima) {
+			pitch = Pitch.CIRCUMFLEX;
+		}
+		b.setPitch(position, pitch);
+		return position;
+	}
+
+	/* Find the nucleus of syllable i of a form made of a stem and an
+	 ending. */
+	private static int nucleus(Syllabification stem, int endingStart, Syllabification ending, int i) {
+		int n = stem.size();
+		return i < n ? stem.getNucleus(i) : endingStart + ending.getNucleus(i - n);
+	}
+
+	private static boolean isLong(Morpheme.Builder b, int i) {
+		return b.getUnpitchedPhoneme(i).isLong();
+	}
+
+	/*
+	 * Change the end of the stem in the buffer before an ending which
+	 * begins with s. A labial or velar stop combines with the s, a dental
+	 * stop or nu is lost, and nu and tau are lost together, lengthening
+	 * the vowel before them. Nothing before the given prefix is changed.
+	 * Return whether the s has been written into the buffer.
+	 */
+	private static boolean beforeS(Morpheme.Builder b, int prefix) {
+		int last = b.size() - 1;
+		if(last < prefix) return false;
+		Phoneme p = b.getUnpitchedPhoneme(last);
+		if(p == Phoneme.T && last - 2 >= prefix && b.getUnpitchedPhoneme(last - 1) == Phoneme.N) {
+			b.truncate(last - 1);
+			Phoneme lengthened = lengthen(b.getUnpitchedPhoneme(last - 2));
+			if(lengthened != null) b.set(last - 2, new PitchedPhoneme(lengthened));
+			return false;
+		}
+		if(p == Phoneme.T || p == Phoneme.D || p == Phoneme.TH || p == Phoneme.N) {
+			b.truncate(last);
+			// A stop left before the s still combines with it.
+			if(--last < prefix) return false;
+			p = b.getUnpitchedPhoneme(last);
+		}
+		if(p == Phoneme.P || p == Phoneme.B || p == Phoneme.PH) {
+			b.truncate(last).add(Phoneme.PS, null);
+			return true;
+		}
+		if(p == Phoneme.K || p == Phoneme.G || p == Phoneme.KH) {
+			b.truncate(last).add(Phoneme.KS, null);
+			return true;
+		}
+		return false;
+	}
+
+	/* The vowel lengthened to make up for a lost consonant, or null if it
+	 does not change. */
+	private static Phoneme lengthen(Phoneme p) {
+		if(p == Phoneme.O) return Phoneme.OU;
+		if(p == Phoneme.E) return Phoneme.EI;
+		if(p == Phoneme.A) return Phoneme.AA;
+		if(p == Phoneme.I) return Phoneme.II;
+		if(p == Phoneme.U) return Phoneme.UU;
+		return null;
+	}
+
+	/**
+	 * Find the syllable of a morpheme which is accented.
+	 * @param m
+	 * @return The index of the syllable, counted from the start, or -1 if
+	 * it has no accent.
+	 */
+	public static int accentedSyllable(Morpheme m) {
+		Syllabification s = m.getSyllables();
+		for(int i = 0; i < s.size(); ++i) {
+			if(m.getPitch(s.getNucleus(i)) != null) return i;
+		}
+		return -1;
+	}
+
+	private static Morpheme withoutPitch(Morpheme m) {
+		if(!m.hasPitch()) return m;
+		Morpheme.Builder b = new Morpheme.Builder(m);
+		for(int i = 0; i < b.size(); ++i) b.setPitch(i, null);
+		return b.build();
+	}
+
+}
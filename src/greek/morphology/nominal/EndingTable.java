@@ -0,0 +1,87 @@
+package greek.morphology.nominal;
+
+import greek.code.PhonoCode;
+import greek.grammar.Case;
+import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Number;
+import greek.morphology.Morpheme;
+
+/**
+ * A table of nominal endings, indexed by the dense index of a case, number,
+ * and gender. The endings are parsed from PhonoCode once, when the table is
+ * made, and are shared by every form built from them. An ending normally has
+ * no pitch accent, leaving the accent to be placed by the rules of accent
+ * persistence; an ending with an accent keeps it wherever it is used.
+ */
+public final class EndingTable {
+
+	private static final Case[] _cases = Case.values();
+	private static final Number[] _numbers = Number.values();
+
+	private final Morpheme[] _endings = new Morpheme[GrammaticalTag.NOMINAL_CELLS];
+
+	/**
+	 * Compile the endings of a single gender.
+	 * @param g
+	 * @param phonoCode The endings in PhonoCode, in the order of the cases
+	 * for the singular and then again for the plural, with null for each
+	 * form which the table does not supply.
+	 */
+	public EndingTable(Gender g, String... phonoCode) {
+		if(phonoCode.length != _cases.length * _numbers.length) {
+			throw new IllegalArgumentException("expected " +
+				_cases.length * _numbers.length + " endings");
+		}
+		int i = 0;
+		for(Number n : _numbers) {
+			for(Case c : _cases) {
+				String code = phonoCode[i++];
+				if(code == null) continue;
+				Morpheme m = PhonoCode.toMorpheme(code);
+				if(m == null || m.isEmpty()) {
+					throw new IllegalArgumentException("bad ending " + code);
+				}
+				_endings[GrammaticalTag.nominalIndex(c, n, g)] = m;
+			}
+		}
+	}
+
+	/**
+	 * Combine the endings of several tables, such as those of the genders
+	 * of an adjective. Where more than one table supplies an ending, the
+	 * first one is used.
+	 * @param tables
+	 */
+	public EndingTable(EndingTable... tables) {
+		for(int i = 0; i < _endings.length; ++i) {
+			for(EndingTable t : tables) {
+				if(t._endings[i] != null) {
+					_endings[i] = t._endings[i];
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the ending with a given dense index.
+	 * @param i
+	 * @return The ending or null if there is none.
+	 */
+	public Morpheme get(int i) {
+		return _endings[i];
+	}
+
+	/**
+	 * Get the ending for a case, number, and gender.
+	 * @param c
+	 * @param n
+	 * @param g
+	 * @return The ending or null if there is none.
+	 */
+	public Morpheme get(Case c, Number n, Gender g) {
+		return _endings[GrammaticalTag.nominalIndex(c, n, g)];
+	}
+
+}
@@ -0,0 +1,75 @@
+package greek.morphology.nominal;
+
+import greek.grammar.Gender;
+import greek.morphology.Morpheme;
+
+/**
+ * A first-declension noun. The genitive plural is always accented with a
+ * circumflex on its ending.
+ */
+public class FirstDeclension extends DeclinedNominal {
+
+	/**
+	 * The kinds of first-declension nouns.
+	 */
+	public enum Type {
+
+		/** Feminine in -η, like τιμή. */
+		ETA            (Gender.FEMININE,  "e:",  "e:n", "e:s", "e:i", "e:"),
+		/** Feminine in long -α, like χώρα. */
+		LONG_ALPHA     (Gender.FEMININE,  "a:",  "a:n", "a:s", "a:i", "a:"),
+		/** Feminine in short -α after ε, ι, or ρ, like μοῖρα. */
+		SHORT_ALPHA    (Gender.FEMININE,  "a",   "an",  "a:s", "a:i", "a"),
+		/** Feminine in short -α with -ης in the genitive, like θάλαττα. */
+		SHORT_ALPHA_ETA(Gender.FEMININE,  "a",   "an",  "e:s", "e:i", "a"),
+		/** Masculine in -ης, like πολίτης. */
+		MASCULINE_ETA  (Gender.MASCULINE, "e:s", "e:n", "ou",  "e:i", "a"),
+		/** Masculine in -ας, like νεανίας. */
+		MASCULINE_ALPHA(Gender.MASCULINE, "a:s", "a:n", "ou",  "a:i", "a:");
+
+		private final EndingTable _endings;
+
+		private Type(Gender g, String nom, String acc, String gen, String dat, String voc) {
+			_endings = new EndingTable(g,
+				nom, acc, gen, dat, voc,
+				"aj", "a:s", "o/:n", "ais", "aj");
+		}
+
+		/**
+		 * Get the endings of this kind of noun.
+		 * @return 
+		 */
+		public EndingTable getEndings() {
+			return _endings;
+		}
+
+	}
+
+	private final Type _type;
+
+	/**
+	 * Initialize the noun with a stem and its kind.
+	 * @param stem The stem, accented on the syllable which is accented in
+	 * the nominative singular, or unaccented if the nominative singular is
+	 * accented on its ending.
+	 * @param type
+	 */
+	public FirstDeclension(Morpheme stem, Type type) {
+		super(stem);
+		_type = type;
+	}
+
+	@Override
+	protected EndingTable getEndings() {
+		return _type.getEndings();
+	}
+
+	/**
+	 * Get the kind of noun.
+	 * @return 
+	 */
+	public Type getType() {
+		return _type;
+	}
+
+}
@@ -1,9 +1,55 @@
 package greek.morphology.nominal;
 
+import greek.grammar.Gender;
+import greek.morphology.Morpheme;
+
 /**
- * The formation of second-declension nouns and adjectives (TODO).
+ * A second-declension noun: masculine or feminine in -ος, or neuter in -ον.
  * @author Brian DuSell <bdusell@gmail.com>
  */
-public class SecondDeclension {
+public class SecondDeclension extends DeclinedNominal {
+
+	static final EndingTable MASCULINE = new EndingTable(Gender.MASCULINE,
+		"os", "on", "ou", "o:i", "e",
+		"oj", "ous", "o:n", "ois", "oj");
+
+	static final EndingTable FEMININE = new EndingTable(Gender.FEMININE,
+		"os", "on", "ou", "o:i", "e",
+		"oj", "ous", "o:n", "ois", "oj");
+
+	static final EndingTable NEUTER = new EndingTable(Gender.NEUTER,
+		"on", "on", "ou", "o:i", "on",
+		"a",  "a",  "o:n", "ois", "a");
+
+	private final Gender _gender;
+
+	/**
+	 * Initialize the noun with a stem and its gender.
+	 * @param stem The stem, accented on the syllable which is accented in
+	 * the nominative singular, or unaccented if the nominative singular is
+	 * accented on its ending.
+	 * @param gender
+	 */
+	public SecondDeclension(Morpheme stem, Gender gender) {
+		super(stem);
+		_gender = gender;
+	}
+
+	@Override
+	protected EndingTable getEndings() {
+		switch(_gender) {
+			case MASCULINE: return MASCULINE;
+			case FEMININE:  return FEMININE;
+			default:        return NEUTER;
+		}
+	}
+
+	/**
+	 * Get the gender of the noun.
+	 * @return 
+	 */
+	public Gender getGender() {
+		return _gender;
+	}
 
 }
@@ -0,0 +1,91 @@
+package greek.morphology.nominal;
+
+import greek.grammar.Case;
+import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Number;
+import greek.morphology.Morpheme;
+
+/**
+ * A third-declension noun with a consonant stem, like φύλαξ, φύλακος or
+ * σῶμα, σώματος. The nominative singular cannot be made from the stem, so it
+ * is given along with it and also serves as the vocative, and for a neuter
+ * as the accusative. A noun whose stem has a single syllable is accented on
+ * the ending in the genitive and dative.
+ */
+public class ThirdDeclension extends DeclinedNominal {
+
+	private static final EndingTable MASCULINE = new EndingTable(Gender.MASCULINE,
+		null, "a",  "os",  "i",    null,
+		"es", "as", "o:n", "sin?", "es");
+
+	private static final EndingTable FEMININE = new EndingTable(Gender.FEMININE,
+		null, "a",  "os",  "i",    null,
+		"es", "as", "o:n", "sin?", "es");
+
+	private static final EndingTable NEUTER = new EndingTable(Gender.NEUTER,
+		null, null, "os",  "i",    null,
+		"a",  "a",  "o:n", "sin?", "a");
+
+	private final Morpheme _nominative;
+	private final Gender _gender;
+	private final boolean _monosyllabic;
+
+	/**
+	 * Initialize the noun with its nominative singular, its stem, and its
+	 * gender.
+	 * @param nominative The nominative singular, with its accent.
+	 * @param stem The stem, as seen in the genitive singular. The accent
+	 * is kept on the syllable accented in the nominative.
+	 * @param gender
+	 */
+	public ThirdDeclension(Morpheme nominative, Morpheme stem, Gender gender) {
+		super(stem, accentedSyllable(nominative));
+		_nominative = nominative;
+		_gender = gender;
+		_monosyllabic = stem.getSyllables().size() == 1;
+	}
+
+	@Override
+	protected EndingTable getEndings() {
+		switch(_gender) {
+			case MASCULINE: return MASCULINE;
+			case FEMININE:  return FEMININE;
+			default:        return NEUTER;
+		}
+	}
+
+	@Override
+	protected boolean isAccentedOnUltima(Case c, Number n) {
+		return super.isAccentedOnUltima(c, n) ||
+			(_monosyllabic && (c == Case.GENITIVE || c == Case.DATIVE));
+	}
+
+	@Override
+	protected Morpheme[] decline() {
+		Morpheme[] result = super.decline();
+		result[GrammaticalTag.nominalIndex(Case.NOMINATIVE, Number.SINGULAR, _gender)] = _nominative;
+		result[GrammaticalTag.nominalIndex(Case.VOCATIVE, Number.SINGULAR, _gender)] = _nominative;
+		if(_gender == Gender.NEUTER) {
+			result[GrammaticalTag.nominalIndex(Case.ACCUSATIVE, Number.SINGULAR, _gender)] = _nominative;
+		}
+		return result;
+	}
+
+	/**
+	 * Get the nominative singular.
+	 * @return 
+	 */
+	public Morpheme getNominative() {
+		return _nominative;
+	}
+
+	/**
+	 * Get the gender of the noun.
+	 * @return 
+	 */
+	public Gender getGender() {
+		return _gender;
+	}
+
+}
@@ -1,14 +1,16 @@
 package greek.morphology.verb;
 
 import greek.code.PhonoCode;
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Mood;
 import greek.grammar.Person;
 import greek.grammar.Number;
 import greek.grammar.Tense;
 import greek.grammar.Voice;
+import greek.morphology.GeneratedTables;
 import greek.morphology.Morpheme;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 
 /**
  * Verb endings.
@@ -26,41 +28,43 @@ public enum Ending {
 	IMPV_SING  ("e",      Tense.PRESENT, Voice.ACTIVE, Mood.IMPERATIVE, Person.SECOND, Number.SINGULAR),
 	IMPV_PLUR  ("ete",    Tense.PRESENT, Voice.ACTIVE, Mood.IMPERATIVE, Person.SECOND, Number.PLURAL);
 
-	private static final HashMap<ArrayList<Object>, Ending> _endingMap = new HashMap<>();
+	private static final Ending[] _endingTable = new Ending[GrammaticalTag.VERB_CELLS];
 	static {
 		for(Ending e : Ending.values()) {
-			_endingMap.put(makeKey(e.getTense(), e.getVoice(), e.getMood(), e.getPerson(), e.getNumber()), e);
+			_endingTable[e.getTag().getIndex()] = e;
 		}
 	}
 
-	private static ArrayList<Object> makeKey(Tense t, Voice v, Mood m, Person p, Number n) {
-		ArrayList<Object> result = new ArrayList<>();
-		result.add(t);
-		result.add(v);
-		result.add(m);
-		result.add(p);
-		result.add(n);
-		return result;
-	}
-
+	private final String _phonoCode;
 	private final Morpheme _morpheme;
-	private Tense _tense;
-	private Voice _voice;
-	private Mood _mood;
-	private Person _person;
-	private Number _number;
+	private GrammaticalTag _tag;
 
+	/* The morpheme is read from the table in GeneratedTables, unless the
+	 table was made from something else. */
 	private Ending(String phonoCode) {
-		_morpheme = PhonoCode.toMorpheme(phonoCode);
+		_phonoCode = phonoCode;
+		Morpheme m = Morpheme.fromCodeTable(GeneratedTables.VERB_ENDINGS, ordinal(), phonoCode);
+		_morpheme = m != null ? m : PhonoCode.toMorpheme(phonoCode);
 	}
 
 	private Ending(String phonoCode, Tense t, Voice v, Mood m, Person p, Number n) {
 		this(phonoCode);
-		_tense = t;
-		_voice = v;
-		_mood = m;
-		_person = p;
-		_number = n;
+		_tag = GrammaticalTag.verb(t, v, m, p, n);
+	}
+
+	/**
+	 * Parse the phono code of every ending, as a table of codes which
+	 * GeneratedTables keeps ready-made.
+	 * @return
+	 */
+	public static String computeCodeTable() {
+		List<String> sources = new ArrayList<>();
+		List<Morpheme> result = new ArrayList<>();
+		for(Ending e : values()) {
+			sources.add(e._phonoCode);
+			result.add(PhonoCode.toMorpheme(e._phonoCode));
+		}
+		return Morpheme.toCodeTable(sources, result);
 	}
 
 	/**
@@ -68,7 +72,7 @@ public enum Ending {
 	 * @return 
 	 */
 	public Morpheme getMorpheme() {
-		return (Morpheme) _morpheme.clone();
+		return _morpheme;
 	}
 
 	/**
@@ -81,8 +85,25 @@ public enum Ending {
 	 * @return The requested ending or null if no such ending exists.
 	 */
 	public static Ending getEnding(Tense t, Voice v, Mood m, Person p, Number n) {
-		ArrayList<Object> key = makeKey(t, v, m, p, n);
-		return _endingMap.get(key);
+		return _endingTable[GrammaticalTag.verbIndex(t, v, m, p, n)];
+	}
+
+	/**
+	 * Look up an ending by its grammatical tag.
+	 * @param tag
+	 * @return The requested ending or null if no such ending exists.
+	 */
+	public static Ending getEnding(GrammaticalTag tag) {
+		int i = tag.getIndex();
+		return i < 0 || !tag.isVerb() ? null : _endingTable[i];
+	}
+
+	/**
+	 * Get the ending's tense, voice, mood, person, and number.
+	 * @return 
+	 */
+	public GrammaticalTag getTag() {
+		return _tag;
 	}
 
 	/**
@@ -90,7 +111,7 @@ public enum Ending {
 	 * @return 
 	 */
 	public Tense getTense() {
-		return _tense;
+		return _tag.getTense();
 	}
 
 	/**
@@ -98,7 +119,7 @@ public enum Ending {
 	 * @return 
 	 */
 	public Voice getVoice() {
-		return _voice;
+		return _tag.getVoice();
 	}
 
 	/**
@@ -106,7 +127,7 @@ public enum Ending {
 	 * @return 
 	 */
 	public Mood getMood() {
-		return _mood;
+		return _tag.getMood();
 	}
 
 	/**
@@ -114,7 +135,7 @@ public enum Ending {
 	 * @return 
 	 */
 	public Person getPerson() {
-		return _person;
+		return _tag.getPerson();
 	}
 
 	/**
@@ -122,7 +143,7 @@ public enum Ending {
 	 * @return 
 	 */
 	public Number getNumber() {
-		return _number;
+		return _tag.getNumber();
 	}
 
 }
@@ -21,7 +21,7 @@ public enum PresIndActEnding {
 	}
 
 	public Morpheme getMorpheme() {
-		return (Morpheme) _morpheme.clone();
+		return _morpheme;
 	}
 
 	public static PresIndActEnding getEnding(Person p, Number n) {
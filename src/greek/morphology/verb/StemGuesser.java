@@ -0,0 +1,282 @@
+package greek.morphology.verb;
+
+import greek.grammar.GrammaticalTag;
+import greek.morphology.Morpheme;
+import greek.phonology.Phoneme;
+import greek.phonology.PhonemeAnalyzer;
+import greek.phonology.PitchedPhoneme;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Guesses the stems and parses of verb forms which are not in any lexicon, by
+ * stripping off the known endings and undoing any vowel contraction between
+ * the stem and the ending.
+ *
+ * The endings, together with every contraction of each ending with a stem
+ * vowel, are compiled into a minimized finite-state transducer over reversed
+ * phonemes. A word is read once from right to left, and each accepting state
+ * passed along the way emits the parses whose ending ends there. Since the
+ * spelling does not show the length of alpha, iota, and upsilon, the long and
+ * short forms of those vowels are read as the same symbol.
+ */
+public class StemGuesser {
+
+	/**
+	 * A guess at the stem and parse of a verb form.
+	 */
+	public static final class Guess {
+
+		private final Morpheme _stem;
+		private final Ending _ending;
+		private final boolean _contract;
+		private final int _suffixLength;
+
+		private Guess(Morpheme stem, Ending ending, boolean contract, int suffixLength) {
+			_stem = stem;
+			_ending = ending;
+			_contract = contract;
+			_suffixLength = suffixLength;
+		}
+
+		/**
+		 * Get the guessed stem, without pitch accents.
+		 * @return 
+		 */
+		public Morpheme getStem() {
+			return _stem;
+		}
+
+		/**
+		 * Get the ending which was stripped off.
+		 * @return 
+		 */
+		public Ending getEnding() {
+			return _ending;
+		}
+
+		/**
+		 * Get the grammatical features of the form.
+		 * @return 
+		 */
+		public GrammaticalTag getTag() {
+			return _ending.getTag();
+		}
+
+		/**
+		 * Tell whether the stem was guessed to contract with its
+		 * ending.
+		 * @return 
+		 */
+		public boolean isContract() {
+			return _contract;
+		}
+
+		/**
+		 * Get the number of phonemes of the word which were read as
+		 * the ending, including any contracted stem vowel.
+		 * @return 
+		 */
+		public int getSuffixLength() {
+			return _suffixLength;
+		}
+
+		/**
+		 * Create a verb with the guessed stem and class.
+		 * @return 
+		 */
+		public greek.lexeme.Verb newVerb() {
+			return _contract ? new ThematicContr(getStem()) : new ThematicUncontr(getStem());
+		}
+
+		@Override
+		public String toString() {
+			return (_contract ? "contract " : "") + _ending.getTag();
+		}
+	}
+
+	private static final List<Phoneme> _phonemes = Phoneme.values();
+
+	/* The number of input symbols. */
+	private static final int KEYS = _phonemes.size();
+
+	/* The input symbol of each phoneme, by ordinal. */
+	private static final int[] _keys = new int[KEYS];
+
+	/* The transitions of each state, indexed by state * KEYS + key. Zero
+	 means there is no transition, since nothing leads back to the start. */
+	private static int[] _transitions;
+
+	/* The outputs of state i are _outputs[_outputStart[i]] up to
+	 _outputs[_outputStart[i + 1]]. */
+	private static int[] _outputStart;
+	private static int[] _outputs;
+
+	/* Each output packs an ending ordinal with the ordinal plus one of the
+	 stem vowel which contracted with it, if any. */
+	private static final int ENDING_MASK = 0xFF;
+	private static final int VOWEL_SHIFT = 8;
+
+	private static final Ending[] _endings = Ending.values();
+
+	static {
+		for(Phoneme p : _phonemes) _keys[p.getOrdinal()] = keyOf(p);
+		compile();
+	}
+
+	private StemGuesser() {
+	}
+
+	/**
+	 * Guess the stems and parses of a Unicode word.
+	 * @param word
+	 * @return The guesses, those with the longest endings first, or an empty
+	 * list if there are none or the word cannot be analyzed.
+	 */
+	public static List<Guess> guess(CharSequence word) {
+		List<PitchedPhoneme> phonemes = PhonemeAnalyzer.analyze(word);
+		if(phonemes == null) return new ArrayList<>();
+		return guess(phonemes);
+	}
+
+	/**
+	 * Guess the stems and parses of a word given as phonemes.
+	 * @param word
+	 * @return The guesses, those with the longest endings first.
+	 */
+	public static List<Guess> guess(List<PitchedPhoneme> word) {
+		List<Guess> result = new ArrayList<>();
+		// Read right to left, leaving at least one phoneme of stem.
+		int state = 0;
+		for(int i = word.size() - 1; i > 0; --i) {
+			PitchedPhoneme p = word.get(i);
+			if(!p.hasPhoneme()) break;
+			state = _transitions[state * KEYS + _keys[p.getPhoneme().getOrdinal()]];
+			if(state == 0) break;
+			for(int j = _outputStart[state]; j < _outputStart[state + 1]; ++j) {
+				result.add(toGuess(word, i, _outputs[j]));
+			}
+		}
+		// Outputs were found shortest first.
+		result.sort((a, b) -> b._suffixLength - a._suffixLength);
+		return result;
+	}
+
+	private static Guess toGuess(List<PitchedPhoneme> word, int stemEnd, int output) {
+		List<PitchedPhoneme> stem = new ArrayList<>(stemEnd + 1);
+		for(int i = 0; i < stemEnd; ++i) stem.add(new PitchedPhoneme(word.get(i).getPhoneme()));
+		int vowel = (output >>> VOWEL_SHIFT) - 1;
+		if(vowel >= 0) stem.add(new PitchedPhoneme(_phonemes.get(vowel)));
+		return new Guess(new Morpheme(stem), _endings[output & ENDING_MASK],
+			vowel >= 0, word.size() - stemEnd);
+	}
+
+	/* Read the vowels whose length the spelling may not show as one
+	 symbol, and the final diphthongs as their ordinary counterparts. */
+	private static int keyOf(Phoneme p) {
+		if(p == Phoneme.AA) p = Phoneme.A;
+		else if(p == Phoneme.II) p = Phoneme.I;
+		else if(p == Phoneme.UU) p = Phoneme.U;
+		else if(p == Phoneme.AJ) p = Phoneme.AI;
+		else if(p == Phoneme.OJ) p = Phoneme.OI;
+		else if(p == Phoneme.MOVABLE_NU) p = Phoneme.N;
+		return p.getOrdinal();
+	}
+
+	/* A state of the transducer while it is being built. */
+	private static class Node {
+		final Node[] children = new Node[KEYS];
+		final List<Integer> outputs = new ArrayList<>();
+		int id;
+	}
+
+	/*
+	 * Build a trie of the reversed endings, then merge equivalent states
+	 * from the leaves up and lay out the result in arrays.
+	 */
+	private static void compile() {
+		Node root = new Node();
+		for(Ending e : _endings) {
+			List<Phoneme> ending = new ArrayList<>();
+			for(int i = 0; i < e.getMorpheme().size(); ++i) {
+				ending.add(e.getMorpheme().getPhoneme(i).getPhoneme());
+			}
+			List<List<Phoneme>> variants = new ArrayList<>();
+			variants.add(ending);
+			// The movable nu may be left off.
+			if(ending.get(ending.size() - 1) == Phoneme.MOVABLE_NU) {
+				variants.add(ending.subList(0, ending.size() - 1));
+			}
+			for(List<Phoneme> v : variants) {
+				add(root, v, e.ordinal());
+				for(VowelContraction c : VowelContraction.values()) {
+					if(c.getSecond() == v.get(0)) {
+						List<Phoneme> contracted = new ArrayList<>(v);
+						contracted.set(0, c.getContraction());
+						add(root, contracted, e.ordinal() |
+							(c.getFirst().getOrdinal() + 1) << VOWEL_SHIFT);
+					}
+				}
+			}
+		}
+
+		List<Node> states = new ArrayList<>();
+		states.add(root);
+		HashMap<String, Node> register = new HashMap<>();
+		minimize(root, register, states);
+		root.id = 0;
+
+		_transitions = new int[states.size() * KEYS];
+		_outputStart = new int[states.size() + 1];
+		List<Integer> outputs = new ArrayList<>();
+		for(int s = 0; s < states.size(); ++s) {
+			Node n = states.get(s);
+			for(int k = 0; k < KEYS; ++k) {
+				if(n.children[k] != null) _transitions[s * KEYS + k] = n.children[k].id;
+			}
+			_outputStart[s] = outputs.size();
+			outputs.addAll(n.outputs);
+		}
+		_outputStart[states.size()] = outputs.size();
+		_outputs = new int[outputs.size()];
+		for(int i = 0; i < _outputs.length; ++i) _outputs[i] = outputs.get(i);
+	}
+
+	private static void add(Node root, List<Phoneme> surface, int output) {
+		Node n = root;
+		for(int i = surface.size() - 1; i >= 0; --i) {
+			int k = keyOf(surface.get(i));
+			if(n.children[k] == null) n.children[k] = new Node();
+			n = n.children[k];
+		}
+		if(!n.outputs.contains(output)) n.outputs.add(output);
+	}
+
+	/*
+	 * Replace each child with the registered state equivalent to it, and
+	 * return the registered state equivalent to this one. New states are
+	 * numbered in the order in which they are registered.
+	 */
+	private static Node minimize(Node n, HashMap<String, Node> register, List<Node> states) {
+		StringBuilder signature = new StringBuilder();
+		for(int k = 0; k < KEYS; ++k) {
+			if(n.children[k] != null) {
+				n.children[k] = minimize(n.children[k], register, states);
+				signature.append(k).append('>').append(n.children[k].id).append(' ');
+			}
+		}
+		Integer[] outputs = n.outputs.toArray(new Integer[0]);
+		Arrays.sort(outputs);
+		signature.append(Arrays.toString(outputs));
+		if(n == states.get(0)) return n;
+		Node existing = register.get(signature.toString());
+		if(existing != null) return existing;
+		n.id = states.size();
+		states.add(n);
+		register.put(signature.toString(), n);
+		return n;
+	}
+
+}
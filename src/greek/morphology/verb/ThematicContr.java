@@ -6,6 +6,7 @@ import greek.grammar.Number;
 import greek.grammar.Tense;
 import greek.grammar.Voice;
 import greek.morphology.ContractingMorpheme;
+import greek.morphology.FormAssembler;
 import greek.morphology.Morpheme;
 
 /**
@@ -32,4 +33,9 @@ public class ThematicContr extends ThematicUncontr {
 		return result.getMorpheme();
 	}
 
+	@Override
+	protected int getAssemblyFlags() {
+		return FormAssembler.THROW_BACK | FormAssembler.CONTRACT;
+	}
+
 }
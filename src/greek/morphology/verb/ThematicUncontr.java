@@ -1,10 +1,12 @@
 package greek.morphology.verb;
 
+import greek.grammar.GrammaticalTag;
 import greek.grammar.Mood;
 import greek.grammar.Person;
 import greek.grammar.Number;
 import greek.grammar.Tense;
 import greek.grammar.Voice;
+import greek.morphology.FormAssembler;
 import greek.morphology.Morpheme;
 
 /**
@@ -23,9 +25,22 @@ public class ThematicUncontr extends greek.lexeme.Verb {
 	protected Morpheme getMorpheme(Tense t, Voice v, Mood m, Person p, Number n) {
 		Ending ending = Ending.getEnding(t, v, m, p, n);
 		if(ending == null) return null;
-		Morpheme result = getStem().plus(Ending.getEnding(t, v, m, p, n).getMorpheme());
-		result.throwBackPitch();
-		return result;
+		return getStem().plus(ending.getMorpheme()).withPitchThrownBack();
+	}
+
+	@Override
+	protected boolean assembleVerbForm(GrammaticalTag tag, FormAssembler assembler, StringBuilder out) {
+		Ending ending = Ending.getEnding(tag);
+		return ending != null &&
+			assembler.append(getStem(), ending.getMorpheme(), getAssemblyFlags(), out);
+	}
+
+	/**
+	 * Get the steps by which a FormAssembler makes this verb's forms.
+	 * @return 
+	 */
+	protected int getAssemblyFlags() {
+		return FormAssembler.THROW_BACK;
 	}
 
 	public Morpheme getStem() {
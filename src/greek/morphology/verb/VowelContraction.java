@@ -1,9 +1,10 @@
 package greek.morphology.verb;
 
 import greek.code.PhonoCode;
+import greek.morphology.GeneratedTables;
+import greek.morphology.Morpheme;
 import greek.phonology.Phoneme;
 import greek.phonology.PitchedPhoneme;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -27,30 +28,84 @@ public enum VowelContraction {
 	OO("o", "o", "ou"), OOU("o", "ou", "ou"), OOI("o", "oi", "oi"),
 	OOO("o", "o:", "o:"), OOOI("o", "o:i", "o:i");
 
-	private static final HashMap<Phoneme, HashMap<Phoneme, Phoneme>> _contractionMap =
-		new HashMap<>();
+	/* The contraction of phonemes i and j, at i * _phonemeCount + j. */
+	private static final int _phonemeCount = Phoneme.values().size();
+	private static final Phoneme[] _contractionTable =
+		new Phoneme[_phonemeCount * _phonemeCount];
 	static {
 		for(VowelContraction v : VowelContraction.values()) {
-			HashMap<Phoneme, Phoneme> map;
-			if(_contractionMap.containsKey(v.getFirst())) {
-				map = _contractionMap.get(v.getFirst());
-			}
-			else {
-				map = new HashMap<>();
-				_contractionMap.put(v.getFirst(), map);
-			}
-			map.put(v.getSecond(), v.getContraction());
+			_contractionTable[v.getFirst().getOrdinal() * _phonemeCount +
+				v.getSecond().getOrdinal()] = v.getContraction();
 		}
 	}
 
-	private Phoneme _first;
-	private Phoneme _second;
-	private Phoneme _out;
+	private final String _firstCode;
+	private final String _secondCode;
+	private final String _outCode;
+	private final Phoneme _first;
+	private final Phoneme _second;
+	private final Phoneme _out;
 
+	/* The phonemes are read from the table in GeneratedTables, unless the
+	 table was made from something else. */
 	private VowelContraction(String first, String second, String out) {
-		_first = stringToPhoneme(first);
-		_second = stringToPhoneme(second);
-		_out = stringToPhoneme(out);
+		_firstCode = first;
+		_secondCode = second;
+		_outCode = out;
+		int k = findEntry(GeneratedTables.VOWEL_CONTRACTIONS, ordinal(), source(first, second, out));
+		if(k >= 0) {
+			String table = GeneratedTables.VOWEL_CONTRACTIONS;
+			_first = Phoneme.fromOrdinal(table.charAt(k));
+			_second = Phoneme.fromOrdinal(table.charAt(k + 1));
+			_out = Phoneme.fromOrdinal(table.charAt(k + 2));
+		}
+		else {
+			_first = stringToPhoneme(first);
+			_second = stringToPhoneme(second);
+			_out = stringToPhoneme(out);
+		}
+	}
+
+	/**
+	 * Work out the phonemes of every contraction from their phono code, as
+	 * a table which GeneratedTables keeps ready-made. Each contraction has
+	 * the phono code it was made from, after a character for its length,
+	 * then the ordinals of its first, second, and contracted vowels.
+	 * @return
+	 */
+	public static String computeTable() {
+		StringBuilder result = new StringBuilder();
+		for(VowelContraction v : values()) {
+			String source = source(v._firstCode, v._secondCode, v._outCode);
+			result.append((char) source.length()).append(source);
+			result.append((char) stringToPhoneme(v._firstCode).getOrdinal());
+			result.append((char) stringToPhoneme(v._secondCode).getOrdinal());
+			result.append((char) stringToPhoneme(v._outCode).getOrdinal());
+		}
+		return result.toString();
+	}
+
+	private static String source(String first, String second, String out) {
+		return first + " " + second + " " + out;
+	}
+
+	/* Find the ordinals of entry i of a table made by computeTable, or -1
+	 if the table does not have it, was made from something else, or was
+	 made from other phonemes. */
+	private static int findEntry(String table, int i, String source) {
+		if(!Morpheme.isGeneratedTableCurrent()) return -1;
+		int k = 0, n = table.length();
+		for(; k < n; --i) {
+			int length = table.charAt(k);
+			int codes = k + 1 + length;
+			if(codes + 3 > n) return -1;
+			if(i == 0) {
+				boolean matches = length == source.length() && table.regionMatches(k + 1, source, 0, length);
+				return matches ? codes : -1;
+			}
+			k = codes + 3;
+		}
+		return -1;
 	}
 
 	private static Phoneme stringToPhoneme(String phonoCode) {
@@ -91,12 +146,8 @@ public enum VowelContraction {
 	 * two given phonemes contract, or null if they do not contract.
 	 */
 	public static Phoneme contractedVowel(Phoneme first, Phoneme second) {
-		if(_contractionMap.containsKey(first)) {
-			HashMap<Phoneme, Phoneme> map = _contractionMap.get(first);
-			if(map.containsKey(second)) return map.get(second);
-			else return null;
-		}
-		else return null;
+		if(first == null || second == null) return null;
+		return _contractionTable[first.getOrdinal() * _phonemeCount + second.getOrdinal()];
 	}
 
 }
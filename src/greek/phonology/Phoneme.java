@@ -3,9 +3,8 @@ package greek.phonology;
 import greek.code.BetaCode;
 import greek.spelling.Grapheme;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Definitions of the phonemes in the ancient Greek language, as appropriate for
@@ -17,8 +16,6 @@ import java.util.Map;
 public class Phoneme {
 
 	private static final ArrayList<Phoneme> _values = new ArrayList<>();
-	private static final Map<Phoneme, Map<Modifier, Phoneme>> _modifierMap = new HashMap<>();
-	private static final Map<Phoneme, Map<Phoneme, Phoneme>> _comboMap = new HashMap<>();
 
 	/* Note that many of the methods in this class are sensitive to the
 	 ordering of these definitions. */
@@ -75,6 +72,36 @@ public class Phoneme {
 	public static final Phoneme MOVABLE_NU = new Phoneme("n", N, Modifier.MOVABLE);
 	public static final Phoneme NG = new Phoneme("g", N, G);
 
+	/* The number of phonemes and modifiers, which size the tables below. */
+	private static final int COUNT = _values.size();
+	private static final int MODIFIERS = Modifier.values().length;
+
+	/* The combination of phonemes i and j, at i * COUNT + j. */
+	private static final Phoneme[] _comboTable = new Phoneme[COUNT * COUNT];
+
+	/* The combination of phoneme i and modifier m, at i * MODIFIERS + m. */
+	private static final Phoneme[] _modifierTable = new Phoneme[COUNT * MODIFIERS];
+
+	/* The bits of the classes to which a phoneme may belong. */
+	private static final int VOWEL       = 1;
+	private static final int MONOPHTHONG = 1 << 1;
+	private static final int DIPHTHONG   = 1 << 2;
+	private static final int CONSONANT   = 1 << 3;
+	private static final int LONG        = 1 << 4;
+	private static final int BREATHING   = 1 << 5;
+
+	static {
+		for(Phoneme p : _values) {
+			if(p._second != null) {
+				_comboTable[p._first._ordinal * COUNT + p._second._ordinal] = p;
+			}
+			else if(p._modifier != null) {
+				_modifierTable[p._first._ordinal * MODIFIERS + p._modifier.ordinal()] = p;
+			}
+			p._classes = p.computeClasses();
+		}
+	}
+
 	/**
 	 * Miscellaneous phoneme modifiers.
 	 */
@@ -101,33 +128,39 @@ public class Phoneme {
 	private Phoneme  _first;
 	private Phoneme  _second;
 	private Modifier _modifier;
-	private List<Grapheme> _graphemes;
+	private String   _betaCode;
+	private int      _classes;
+
+	/* Parsed from _betaCode when first asked for, so that loading the
+	 phonemes does not load the beta code tables. */
+	private volatile List<Grapheme> _graphemes;
+
+	/* Made by definitions when first asked for. */
+	private static volatile String _definitions;
 
 	private Phoneme() {
 		_first = null;
 		_second = null;
 		_modifier = null;
-		_graphemes = null;
+		_betaCode = null;
 		addConstant();
 	}
 
 	private Phoneme(String betaCode) {
 		this();
-		_graphemes = BetaCode.betaCodeToLetters(betaCode);
+		_betaCode = betaCode;
 	}
 
 	private Phoneme(String betaCode, Phoneme base, Modifier modifier) {
 		this(betaCode);
 		_first = base;
 		_modifier = modifier;
-		addBaseModifierPair(base, modifier);
 	}
 
 	private Phoneme(String betaCode, Phoneme first, Phoneme second) {
 		this(betaCode);
 		_first = first;
 		_second = second;
-		addPhonemeComboPair(first, second);
 	}
 
 	/**
@@ -137,14 +170,7 @@ public class Phoneme {
 	 * combine.
 	 */
 	public Phoneme plusPhoneme(Phoneme that) {
-		if(_comboMap.containsKey(this)) {
-			Map<Phoneme, Phoneme> map = _comboMap.get(this);
-			if(map.containsKey(that)) {
-				return map.get(that);
-			}
-			else return null;
-		}
-		else return null;
+		return that == null ? null : _comboTable[_ordinal * COUNT + that._ordinal];
 	}
 
 	/**
@@ -154,14 +180,7 @@ public class Phoneme {
 	 * they do not combine.
 	 */
 	public Phoneme plusModifier(Modifier m) {
-		if(_modifierMap.containsKey(this)) {
-			Map<Modifier, Phoneme> map = _modifierMap.get(this);
-			if(map.containsKey(m)) {
-				return map.get(m);
-			}
-			else return null;
-		}
-		else return null;
+		return m == null ? null : _modifierTable[_ordinal * MODIFIERS + m.ordinal()];
 	}
 
 	/**
@@ -182,37 +201,12 @@ public class Phoneme {
 		_values.add(this);
 	}
 
-	private void addBaseModifierPair(Phoneme base, Modifier modifier) {
-		Map<Modifier, Phoneme> map;
-		if(_modifierMap.containsKey(base)) {
-			map = _modifierMap.get(base);
-		}
-		else {
-			map = new HashMap<>();
-			_modifierMap.put(base, map);
-		}
-		map.put(modifier, this);
-	}
-
-	private void addPhonemeComboPair(Phoneme first, Phoneme second) {
-		Map<Phoneme, Phoneme> map;
-		if(_comboMap.containsKey(first)) {
-			map = _comboMap.get(first);
-		}
-		else {
-			map = new HashMap<>();
-			_comboMap.put(first, map);
-		}
-		map.put(second, this);
-	}
-
 	/**
 	 * Tell whether the phoneme is a vowel.
 	 * @return 
 	 */
 	public boolean isVowel() {
-		return A.getOrdinal() <= this.getOrdinal() &&
-			this.getOrdinal() <= UUI.getOrdinal();
+		return (_classes & VOWEL) != 0;
 	}
 
 	/**
@@ -220,8 +214,7 @@ public class Phoneme {
 	 * @return 
 	 */
 	public boolean isMonophthong() {
-		return A.getOrdinal() <= this.getOrdinal() &&
-			this.getOrdinal() <= UU.getOrdinal();
+		return (_classes & MONOPHTHONG) != 0;
 	}
 
 	/**
@@ -229,8 +222,7 @@ public class Phoneme {
 	 * @return 
 	 */
 	public boolean isDiphthong() {
-		return AJ.getOrdinal() <= this.getOrdinal() &&
-			this.getOrdinal() <= UUI.getOrdinal();
+		return (_classes & DIPHTHONG) != 0;
 	}
 
 	/**
@@ -238,8 +230,7 @@ public class Phoneme {
 	 * @return 
 	 */
 	public boolean isConsonant() {
-		return L.getOrdinal() <= this.getOrdinal() &&
-			this.getOrdinal() <= NG.getOrdinal();
+		return (_classes & CONSONANT) != 0;
 	}
 
 	/**
@@ -247,7 +238,7 @@ public class Phoneme {
 	 * @return 
 	 */
 	public boolean isShort() {
-		return isVowel() && !isLong();
+		return (_classes & (VOWEL | LONG)) == VOWEL;
 	}
 
 	/**
@@ -255,27 +246,72 @@ public class Phoneme {
 	 * @return 
 	 */
 	public boolean isLong() {
-		return AA.getOrdinal() <= this.getOrdinal() &&
-			this.getOrdinal() <= UUI.getOrdinal() &&
-			this.getModifier() != Modifier.J;
+		return (_classes & LONG) != 0;
 	}
 
-	private int getOrdinal() {
+	/**
+	 * Get the position of this phoneme among all of the phoneme
+	 * definitions, as listed by values().
+	 * @return 
+	 */
+	public int getOrdinal() {
 		return _ordinal;
 	}
 
-	private Modifier getModifier() {
+	Modifier getModifier() {
 		return _modifier;
 	}
 
+	/**
+	 * Get all of the phoneme definitions in the order in which they are
+	 * defined.
+	 * @return 
+	 */
+	public static List<Phoneme> values() {
+		return Collections.unmodifiableList(_values);
+	}
+
+	/**
+	 * Get the phoneme with a given ordinal.
+	 * @param ordinal
+	 * @return 
+	 */
+	public static Phoneme fromOrdinal(int ordinal) {
+		return _values.get(ordinal);
+	}
+
+	/**
+	 * Describe every phoneme, in order, by its beta code and what it is
+	 * made of, one to a line. Tables made ahead of time from the phonemes
+	 * keep this, so that they can tell whether they still fit.
+	 * @return
+	 */
+	public static String definitions() {
+		String result = _definitions;
+		if(result == null) {
+			StringBuilder b = new StringBuilder();
+			for(Phoneme p : _values) {
+				b.append(p._betaCode == null ? "-" : p._betaCode);
+				b.append(' ').append(p._first == null ? "-" : String.valueOf(p._first._ordinal));
+				b.append(' ').append(p._second == null ? "-" : String.valueOf(p._second._ordinal));
+				b.append(' ').append(p._modifier == null ? "-" : p._modifier.name());
+				b.append('\n');
+			}
+			_definitions = result = b.toString();
+		}
+		return result;
+	}
+
 	/**
 	 * Convert this phoneme to a list of representative graphemes.
 	 * @return The corresponding graphemes or null if not applicable.
 	 */
 	public List<Grapheme> toGraphemes() {
-		if(_graphemes == null) return null;
-		List<Grapheme> result = new ArrayList<>(_graphemes.size());
-		for(Grapheme g : _graphemes) {
+		if(_betaCode == null) return null;
+		List<Grapheme> graphemes = _graphemes;
+		if(graphemes == null) _graphemes = graphemes = BetaCode.betaCodeToLetters(_betaCode);
+		List<Grapheme> result = new ArrayList<>(graphemes.size());
+		for(Grapheme g : graphemes) {
 			result.add((Grapheme) g.clone());
 		}
 		return result;
@@ -286,7 +322,20 @@ public class Phoneme {
 	 * @return 
 	 */
 	public boolean canHaveBreathing() {
-		return isVowel() || this == Phoneme.R;
+		return (_classes & BREATHING) != 0;
+	}
+
+	/* Work out the classes to which this phoneme belongs from its position
+	 among the definitions. */
+	private int computeClasses() {
+		int result = 0;
+		if(A._ordinal <= _ordinal && _ordinal <= UUI._ordinal) result |= VOWEL | BREATHING;
+		if(A._ordinal <= _ordinal && _ordinal <= UU._ordinal) result |= MONOPHTHONG;
+		if(AJ._ordinal <= _ordinal && _ordinal <= UUI._ordinal) result |= DIPHTHONG;
+		if(L._ordinal <= _ordinal && _ordinal <= NG._ordinal) result |= CONSONANT;
+		if(AA._ordinal <= _ordinal && _ordinal <= UUI._ordinal && _modifier != Modifier.J) result |= LONG;
+		if(this == R) result |= BREATHING;
+		return result;
 	}
 
 }
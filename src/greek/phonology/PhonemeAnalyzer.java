@@ -0,0 +1,314 @@
+package greek.phonology;
+
+import greek.code.Unicode;
+import greek.morphology.Morpheme;
+import greek.phonology.PitchedPhoneme.Pitch;
+import greek.spelling.Glyph;
+import greek.spelling.Grapheme;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Analysis of Unicode Greek words into pitched phonemes, the reverse of
+ * rendering a morpheme. The analyzer matches the longest sequence of letters
+ * which spells a phoneme, using a trie built from the graphemes that each
+ * phoneme definition stores. Breathing marks and accents are read off the
+ * letters matched, so that a rough breathing becomes a leading
+ * {@link Phoneme#H} and an accent becomes the pitch of its phoneme.
+ *
+ * Spelling does not always determine the phoneme. Long alpha, iota, and
+ * upsilon are recovered only when written with a macron or circumflex; final
+ * ai and oi are taken to be the short diphthongs; and gamma before a velar is
+ * taken to be the nasal.
+ */
+public class PhonemeAnalyzer {
+
+	/* Each character is decoded to a packed integer describing its glyphs:
+	 the base letter's ordinal plus one in the lowest bits, then the
+	 accent, breathing, and other diacritics. A value of zero means the
+	 character is not a Greek letter. */
+	private static final int LETTER_MASK = 0x3F;
+	private static final int ACCENT_SHIFT = 6;
+	private static final int ACCENT_MASK = 0x3 << ACCENT_SHIFT;
+	private static final int SMOOTH = 1 << 8;
+	private static final int ROUGH = 1 << 9;
+	private static final int BREATHING_MASK = SMOOTH | ROUGH;
+	private static final int SUBSCRIPT = 1 << 10;
+	private static final int MACRON = 1 << 11;
+	private static final int BREVE = 1 << 12;
+	private static final int DIAERESIS = 1 << 13;
+
+	/* Accent numbers stored in the accent bits. */
+	private static final int ACUTE = 1;
+	private static final int GRAVE = 2;
+	private static final int CIRCUMFLEX = 3;
+
+	private static final int GREEK_START = 0x0370;
+	private static final int EXTENDED_START = 0x1F00;
+	private static final int[] _greekCodes = new int[0x0100];
+	private static final int[] _extendedCodes = new int[0x0100];
+	static {
+		/* Render every combination of letter and diacritics and record
+		 the code for each character produced. */
+		Glyph[] accents = {null, Glyph.ACUTE, Glyph.GRAVE, Glyph.CIRCUMFLEX};
+		Glyph[] breathings = {null, Glyph.SMOOTH_BREATHING, Glyph.ROUGH_BREATHING};
+		Glyph[] others = {null, Glyph.IOTA_SUBSCRIPT, Glyph.MACRON, Glyph.BREVE, Glyph.DIAERESIS};
+		for(Glyph letter : Glyph.values()) {
+			if(!letter.isLetter()) continue;
+			for(Glyph accent : accents) {
+				for(Glyph breathing : breathings) {
+					for(Glyph other : others) {
+						for(int variant = 0; variant < 3; ++variant) {
+							Grapheme g = new Grapheme();
+							if(!g.tryAddLetter(letter)) continue;
+							if(accent != null && !g.tryAddAccent(accent)) continue;
+							if(breathing != null && !g.tryAddBreathing(breathing)) continue;
+							if(other != null && !g.tryAddGlyph(other)) continue;
+							if(variant == 1 && !g.tryCapitalize()) continue;
+							if(variant == 2 && !g.tryMakeTerminal()) continue;
+							registerCharacter(Unicode.toPrecombinedCharacter(g), decodeGrapheme(g));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/* The trie over grapheme sequences. A key is a letter's ordinal times
+	 two, plus one if it has an iota subscript. Node 0 is the root, and a
+	 child index of 0 means there is no child. */
+	private static final int KEYS = (Glyph.DIGAMMA.ordinal() + 1) * 2;
+	private static int[] _children = new int[KEYS * 64];
+	private static int[] _terminals = new int[64];
+	private static int _nodes = 1;
+	private static final Phoneme[] _phonemes;
+	static {
+		_terminals[0] = -1;
+		List<Phoneme> values = Phoneme.values();
+		_phonemes = values.toArray(new Phoneme[values.size()]);
+		for(Phoneme p : _phonemes) {
+			/* Glides and movability are not written, so phonemes
+			 which differ from another only by them are left to the
+			 rules applied after matching. Earlier definitions take
+			 precedence, so short vowels are preferred to long. */
+			if(p.getModifier() == Phoneme.Modifier.J ||
+				p.getModifier() == Phoneme.Modifier.MOVABLE) continue;
+			List<Grapheme> graphemes = p.toGraphemes();
+			if(graphemes == null || graphemes.isEmpty()) continue;
+			int node = 0;
+			for(Grapheme g : graphemes) {
+				node = addChild(node, keyOf(decodeGrapheme(g)));
+			}
+			if(_terminals[node] < 0) _terminals[node] = p.getOrdinal();
+		}
+	}
+
+	private PhonemeAnalyzer() {
+	}
+
+	private static int addChild(int node, int key) {
+		int i = node * KEYS + key;
+		if(_children[i] == 0) {
+			if(_nodes == _terminals.length) {
+				int[] children = new int[_children.length * 2];
+				System.arraycopy(_children, 0, children, 0, _children.length);
+				_children = children;
+				int[] terminals = new int[_terminals.length * 2];
+				System.arraycopy(_terminals, 0, terminals, 0, _terminals.length);
+				_terminals = terminals;
+			}
+			_terminals[_nodes] = -1;
+			_children[i] = _nodes++;
+		}
+		return _children[i];
+	}
+
+	private static void registerCharacter(Character c, int code) {
+		if(c == null) return;
+		int[] table;
+		int i;
+		if(c >= GREEK_START && c < GREEK_START + 0x0100) {
+			table = _greekCodes;
+			i = c - GREEK_START;
+		}
+		else if(c >= EXTENDED_START && c < EXTENDED_START + 0x0100) {
+			table = _extendedCodes;
+			i = c - EXTENDED_START;
+		}
+		else return;
+		if(table[i] == 0) {
+			table[i] = code;
+			/* Letters with the oxia are canonically equivalent to
+			 letters with the tonos, which are more common. */
+			String normalized = Normalizer.normalize(c.toString(), Normalizer.Form.NFC);
+			if(normalized.length() == 1 && normalized.charAt(0) != c) {
+				registerCharacter(normalized.charAt(0), code);
+			}
+		}
+	}
+
+	private static int decodeGrapheme(Grapheme g) {
+		if(g == null || !g.hasLetter()) return 0;
+		int result = g.getLetter().ordinal() + 1;
+		if(g.hasAcute()) result |= ACUTE << ACCENT_SHIFT;
+		else if(g.hasGrave()) result |= GRAVE << ACCENT_SHIFT;
+		else if(g.hasCircumflex()) result |= CIRCUMFLEX << ACCENT_SHIFT;
+		if(g.hasSmoothBreathing()) result |= SMOOTH;
+		else if(g.hasRoughBreathing()) result |= ROUGH;
+		if(g.hasIotaSubscript()) result |= SUBSCRIPT;
+		if(g.hasMacron()) result |= MACRON;
+		if(g.hasBreve()) result |= BREVE;
+		if(g.hasDiaeresis()) result |= DIAERESIS;
+		return result;
+	}
+
+	private static int keyOf(int code) {
+		return ((code & LETTER_MASK) - 1) * 2 + ((code & SUBSCRIPT) != 0 ? 1 : 0);
+	}
+
+	/* Decode a single character, not including combining marks. */
+	private static int decodeCharacter(char c) {
+		if(c >= GREEK_START && c < GREEK_START + 0x0100) return _greekCodes[c - GREEK_START];
+		else if(c >= EXTENDED_START && c < EXTENDED_START + 0x0100) return _extendedCodes[c - EXTENDED_START];
+		else return 0;
+	}
+
+	/* Decode a combining diacritic into the bits it adds to the letter
+	 before it, or 0 if the character is not one. */
+	private static int decodeCombining(char c) {
+		switch(c) {
+			case 0x0300: return GRAVE << ACCENT_SHIFT;
+			case 0x0301: return ACUTE << ACCENT_SHIFT;
+			case 0x0342: return CIRCUMFLEX << ACCENT_SHIFT;
+			case 0x0313: return SMOOTH;
+			case 0x0343: return SMOOTH;
+			case 0x0314: return ROUGH;
+			case 0x0345: return SUBSCRIPT;
+			case 0x0304: return MACRON;
+			case 0x0306: return BREVE;
+			case 0x0308: return DIAERESIS;
+			case 0x0344: return DIAERESIS | (ACUTE << ACCENT_SHIFT);
+			default: return 0;
+		}
+	}
+
+	/* Find the end of the letter starting at position i, including any
+	 combining diacritics which follow it. */
+	private static int letterEnd(CharSequence s, int i, int end) {
+		++i;
+		while(i < end && decodeCombining(s.charAt(i)) != 0) ++i;
+		return i;
+	}
+
+	/* Decode the letter starting at position i, including any combining
+	 diacritics which follow it. */
+	private static int letterCode(CharSequence s, int i, int end) {
+		int result = decodeCharacter(s.charAt(i));
+		if(result == 0) return 0;
+		for(++i; i < end; ++i) {
+			int bits = decodeCombining(s.charAt(i));
+			if(bits == 0) break;
+			result |= bits;
+		}
+		return result;
+	}
+
+	private static Pitch pitchOf(int code) {
+		switch((code & ACCENT_MASK) >>> ACCENT_SHIFT) {
+			case ACUTE: return Pitch.ACUTE;
+			case GRAVE: return Pitch.GRAVE;
+			case CIRCUMFLEX: return Pitch.CIRCUMFLEX;
+			default: return null;
+		}
+	}
+
+	/**
+	 * Analyze a Unicode word into pitched phonemes. A trailing apostrophe
+	 * marking elision is ignored.
+	 * @param word
+	 * @return The phonemes, or null if the word cannot be analyzed.
+	 */
+	public static List<PitchedPhoneme> analyze(CharSequence word) {
+		return analyze(word, 0, word.length());
+	}
+
+	/**
+	 * Analyze a range of a string, such as a token found by
+	 * {@link greek.code.Tokenizer}, into pitched phonemes. A trailing
+	 * apostrophe marking elision is ignored.
+	 * @param text
+	 * @param start The index of the first character of the word.
+	 * @param end The index just past the last character of the word.
+	 * @return The phonemes, or null if the word cannot be analyzed.
+	 */
+	public static List<PitchedPhoneme> analyze(CharSequence text, int start, int end) {
+		if(end > start && text.charAt(end - 1) == 0x2019) --end;
+		List<PitchedPhoneme> result = new ArrayList<>(end - start + 1);
+		int i = start;
+		while(i < end) {
+			/* Walk the trie as far as the letters allow, remembering
+			 the last phoneme completed. */
+			int node = 0, j = i, code, bits = 0;
+			int match = -1, matchEnd = i, matchBits = 0;
+			while(j < end) {
+				code = letterCode(text, j, end);
+				if(code == 0) break;
+				/* A diaeresis, or marks on the letter before,
+				 show that the letters are pronounced apart. */
+				if(node != 0 && ((code & DIAERESIS) != 0 ||
+					(bits & (ACCENT_MASK | BREATHING_MASK)) != 0)) break;
+				node = _children[node * KEYS + keyOf(code)];
+				if(node == 0) break;
+				bits |= code;
+				j = letterEnd(text, j, end);
+				if(_terminals[node] >= 0) {
+					match = _terminals[node];
+					matchEnd = j;
+					matchBits = bits;
+				}
+			}
+			if(match < 0) return null;
+			Phoneme phoneme = inContext(_phonemes[match], text, matchEnd, end);
+			Pitch pitch = pitchOf(matchBits);
+			if(phoneme.isMonophthong() && !phoneme.isLong() &&
+				((matchBits & MACRON) != 0 || pitch == Pitch.CIRCUMFLEX)) {
+				Phoneme lengthened = phoneme.plusModifier(Phoneme.Modifier.LONG);
+				if(lengthened != null) phoneme = lengthened;
+			}
+			if(result.isEmpty() && (matchBits & ROUGH) != 0) {
+				result.add(new PitchedPhoneme(Phoneme.H));
+			}
+			result.add(new PitchedPhoneme(phoneme, pitch));
+			i = matchEnd;
+		}
+		return result;
+	}
+
+	/* Recover the phonemes which depend on their neighbors rather than on
+	 spelling alone. */
+	private static Phoneme inContext(Phoneme p, CharSequence text, int next, int end) {
+		if(p == Phoneme.G && next < end && isVelar(letterCode(text, next, end))) return Phoneme.NG;
+		else if(p == Phoneme.AI && next == end) return Phoneme.AJ;
+		else if(p == Phoneme.OI && next == end) return Phoneme.OJ;
+		else return p;
+	}
+
+	private static boolean isVelar(int code) {
+		int letter = (code & LETTER_MASK) - 1;
+		return letter == Glyph.GAMMA.ordinal() || letter == Glyph.KAPPA.ordinal() ||
+			letter == Glyph.CHI.ordinal() || letter == Glyph.XI.ordinal();
+	}
+
+	/**
+	 * Analyze a Unicode word into a morpheme.
+	 * @param word
+	 * @return The morpheme, or null if the word cannot be analyzed.
+	 */
+	public static Morpheme toMorpheme(CharSequence word) {
+		List<PitchedPhoneme> phonemes = analyze(word);
+		if(phonemes == null) return null;
+		return new Morpheme(phonemes);
+	}
+
+}
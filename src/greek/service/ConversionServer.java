@@ -0,0 +1,389 @@
+package greek.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import greek.cli.ParadigmGenerator;
+import greek.cli.ParadigmGenerator.Format;
+import greek.cli.ParadigmGenerator.VerbClass;
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.BetaCodeConverter;
+import greek.code.Unicode;
+import greek.metrics.Metrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import javax.management.JMException;
+
+/**
+ * An HTTP server which offers the conversions of this library as a service.
+ * It is built on the HTTP server which comes with the JDK and needs nothing
+ * else. The endpoints are these:
+ * <dl>
+ * <dt>/betacode</dt>
+ * <dd>Converts beta code to pre-combined Unicode.</dd>
+ * <dt>/unicode</dt>
+ * <dd>Converts Unicode to beta code.</dd>
+ * <dt>/paradigm</dt>
+ * <dd>Generates every form of a verb given as a stem in phono code and a verb
+ * class, in the output format of greek.cli.ParadigmGenerator.</dd>
+ * </dl>
+ * A GET request takes a single input from the query parameter q, or for
+ * /paradigm, the parameters stem and class. A POST request takes a batch of
+ * inputs, one per line of its body; for /paradigm, each line holds a stem and
+ * a class separated by white space. The response is UTF-8 text with one line
+ * per input, or for /paradigm, one line per form. Adding format=json to the
+ * query of /paradigm gives JSON lines instead of tab-separated values.
+ *
+ * Requests are handled on an executor, by default one which runs each
+ * request on a virtual thread where the JDK has them and on a pooled thread
+ * otherwise. At most a configurable number of requests are handled at a
+ * time; requests beyond that are turned away with status 503 so that a
+ * burst of load cannot exhaust the machine. A request which fails
+ * unexpectedly is answered with status 500 and reported in a single line on
+ * stderr, with the path it was made to.
+ *
+ * The JDK server writes the headers and body of a response separately, so
+ * unless the system property sun.net.httpserver.nodelay is true, each small
+ * response waits out the client's delayed acknowledgement, about 40 ms. The
+ * property applies to every server in the JVM and is read when the first one
+ * is made, so it is left to the application to set, for instance with
+ * -Dsun.net.httpserver.nodelay=true; the main function sets it unless it is
+ * already given.
+ */
+public class ConversionServer {
+
+	/* The largest request body which is accepted, in bytes. */
+	private static final int MAX_BODY = 1 << 20;
+
+	private final HttpServer _server;
+	private final ExecutorService _executor;
+	private final Semaphore _permits;
+	private final int _maxConcurrent;
+	private final BetaCodeConverter _converter = new BetaCodeBestEffortConverter();
+
+	/**
+	 * Bind a server to an address. It does not accept requests until it
+	 * is started.
+	 * @param address The address, whose port may be 0 to pick any free
+	 * port.
+	 * @param maxConcurrent The number of requests which may be handled at
+	 * a time.
+	 * @param executor The executor on which requests are handled. It is
+	 * shut down when the server is stopped.
+	 * @throws IOException
+	 */
+	public ConversionServer(InetSocketAddress address, int maxConcurrent, ExecutorService executor) throws IOException {
+		if(maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent must be positive");
+		_maxConcurrent = maxConcurrent;
+		_permits = new Semaphore(maxConcurrent);
+		_executor = executor;
+		_server = HttpServer.create(address, 0);
+		_server.setExecutor(executor);
+		_server.createContext("/betacode", limited(this::betaCode));
+		_server.createContext("/unicode", limited(this::unicode));
+		_server.createContext("/paradigm", limited(this::paradigm));
+	}
+
+	/**
+	 * Bind a server to an address, handling requests on the default
+	 * executor.
+	 * @param address
+	 * @param maxConcurrent
+	 * @throws IOException
+	 */
+	public ConversionServer(InetSocketAddress address, int maxConcurrent) throws IOException {
+		this(address, maxConcurrent, newDefaultExecutor());
+	}
+
+	/**
+	 * Make an executor which runs each task on a new virtual thread if the
+	 * JDK supports them, or else on a pool of threads which grows as
+	 * needed. Either way the number of requests in progress is bounded by
+	 * the server.
+	 * @return 
+	 */
+	public static ExecutorService newDefaultExecutor() {
+		try {
+			Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) m.invoke(null);
+		}
+		catch(ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+
+	/**
+	 * Start accepting requests.
+	 */
+	public void start() {
+		_server.start();
+	}
+
+	/**
+	 * Stop accepting requests, wait for those in progress to finish, and
+	 * shut down the executor.
+	 * @param delay The longest time to wait, in seconds.
+	 */
+	public void stop(int delay) {
+		_server.stop(delay);
+		_executor.shutdown();
+	}
+
+	/**
+	 * Get the address the server is bound to.
+	 * @return 
+	 */
+	public InetSocketAddress getAddress() {
+		return _server.getAddress();
+	}
+
+	/**
+	 * Get the number of requests which may be handled at a time.
+	 * @return 
+	 */
+	public int getMaxConcurrent() {
+		return _maxConcurrent;
+	}
+
+	/**
+	 * Get the number of requests being handled now.
+	 * @return 
+	 */
+	public int getActiveRequests() {
+		return _maxConcurrent - _permits.availablePermits();
+	}
+
+	/* The part of an endpoint which turns a request into a response. */
+	private interface Endpoint {
+		Response handle(HttpExchange exchange) throws IOException;
+	}
+
+	/* A status and a plain-text body. */
+	private static final class Response {
+		final int status;
+		final String body;
+		final String contentType;
+
+		Response(int status, String body, String contentType) {
+			this.status = status;
+			this.body = body;
+			this.contentType = contentType;
+		}
+
+		static Response text(String body) {
+			return new Response(200, body, "text/plain; charset=utf-8");
+		}
+
+		static Response error(int status, String message) {
+			return new Response(status, message + "\n", "text/plain; charset=utf-8");
+		}
+	}
+
+	/* Wrap an endpoint so that it holds a permit while it runs and turns
+	 away requests for which there is none. */
+	private HttpHandler limited(Endpoint endpoint) {
+		return exchange -> {
+			try {
+				Response response;
+				if(!_permits.tryAcquire()) {
+					exchange.getResponseHeaders().set("Retry-After", "1");
+					response = Response.error(503, "too many requests");
+				}
+				else {
+					try {
+						response = endpoint.handle(exchange);
+					}
+					catch(RuntimeException e) {
+						System.err.println("greekd: " + exchange.getRequestURI().getPath() + ": " + e);
+						response = Response.error(500, "internal error");
+					}
+					finally {
+						_permits.release();
+					}
+				}
+				send(exchange, response);
+			}
+			finally {
+				exchange.close();
+			}
+		};
+	}
+
+	private Response betaCode(HttpExchange exchange) throws IOException {
+		return convertLines(exchange, line -> {
+			String result = _converter.toPrecombinedUnicode(line);
+			return result == null ? "" : result;
+		});
+	}
+
+	private Response unicode(HttpExchange exchange) throws IOException {
+		return convertLines(exchange, Unicode::toBetaCode);
+	}
+
+	/* Convert the input of a request line by line. */
+	private static Response convertLines(HttpExchange exchange,
+		java.util.function.Function<String, String> conversion) throws IOException {
+		String[] lines;
+		if(isPost(exchange)) {
+			String body = readBody(exchange);
+			if(body == null) return Response.error(413, "request body too large");
+			lines = splitLines(body);
+		}
+		else if(isGet(exchange)) {
+			String q = queryParameter(exchange, "q");
+			if(q == null) return Response.error(400, "missing parameter q");
+			lines = new String[] {q};
+		}
+		else return Response.error(405, "method not allowed");
+		StringBuilder result = new StringBuilder();
+		for(String line : lines) result.append(conversion.apply(line)).append('\n');
+		return Response.text(result.toString());
+	}
+
+	private Response paradigm(HttpExchange exchange) throws IOException {
+		Format format = "json".equals(queryParameter(exchange, "format")) ? Format.JSON : Format.TSV;
+		String[] lines;
+		if(isPost(exchange)) {
+			String body = readBody(exchange);
+			if(body == null) return Response.error(413, "request body too large");
+			lines = splitLines(body);
+		}
+		else if(isGet(exchange)) {
+			String stem = queryParameter(exchange, "stem");
+			String verbClass = queryParameter(exchange, "class");
+			if(stem == null || verbClass == null) return Response.error(400, "missing parameter stem or class");
+			lines = new String[] {stem + " " + verbClass};
+		}
+		else return Response.error(405, "method not allowed");
+		StringBuilder result = new StringBuilder();
+		for(int i = 0; i < lines.length; ++i) {
+			String entry = lines[i].trim();
+			if(entry.isEmpty()) continue;
+			String[] fields = entry.split("\\s+");
+			VerbClass verbClass = fields.length == 2 ? VerbClass.fromName(fields[1]) : null;
+			if(verbClass == null) {
+				return Response.error(400, "line " + (i + 1) + ": expected a stem and one of " +
+					ParadigmGenerator.verbClassNames());
+			}
+			if(ParadigmGenerator.appendParadigm(fields[0], fields[1], verbClass, format, result) < 0) {
+				return Response.error(400, "line " + (i + 1) + ": invalid phono code '" + fields[0] + "'");
+			}
+		}
+		return new Response(200, result.toString(), format == Format.JSON ?
+			"application/x-ndjson; charset=utf-8" : "text/tab-separated-values; charset=utf-8");
+	}
+
+	private static void send(HttpExchange exchange, Response response) throws IOException {
+		byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", response.contentType);
+		exchange.sendResponseHeaders(response.status, body.length == 0 ? -1 : body.length);
+		if(body.length > 0) {
+			try(OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		}
+	}
+
+	private static boolean isGet(HttpExchange exchange) {
+		return exchange.getRequestMethod().equals("GET");
+	}
+
+	private static boolean isPost(HttpExchange exchange) {
+		return exchange.getRequestMethod().equals("POST");
+	}
+
+	/* Read the body of a request, or return null if it is too large. */
+	private static String readBody(HttpExchange exchange) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		try(InputStream in = exchange.getRequestBody()) {
+			int n;
+			while((n = in.read(chunk)) >= 0) {
+				if(buffer.size() + n > MAX_BODY) return null;
+				buffer.write(chunk, 0, n);
+			}
+		}
+		return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/* Split a body into lines, without a last empty line. */
+	private static String[] splitLines(String body) {
+		if(body.isEmpty()) return new String[0];
+		return body.split("\r?\n");
+	}
+
+	/* Get the decoded value of a query parameter, or null if it is not
+	 given. */
+	private static String queryParameter(HttpExchange exchange, String name) {
+		String query = exchange.getRequestURI().getRawQuery();
+		if(query == null) return null;
+		for(String pair : query.split("&")) {
+			int eq = pair.indexOf('=');
+			String key = eq < 0 ? pair : pair.substring(0, eq);
+			if(URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+				return eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The main function.
+	 * @param args 
+	 */
+	public static void main(String [] args) {
+
+		int port = 8080;
+		int maxConcurrent = 4 * Runtime.getRuntime().availableProcessors();
+		boolean usage = false;
+		for(int i = 0; i < args.length && !usage; ++i) {
+			try {
+				if(args[i].equals("-port") && i + 1 < args.length) port = Integer.parseInt(args[++i]);
+				else if(args[i].equals("-max") && i + 1 < args.length) maxConcurrent = Integer.parseInt(args[++i]);
+				else usage = true;
+			}
+			catch(NumberFormatException e) {
+				usage = true;
+			}
+		}
+		if(usage || port < 0 || maxConcurrent < 1) {
+			System.out.println(
+"Usage: greekd [-port n] [-max n]\n" +
+"    Serves /betacode, /unicode, and /paradigm over HTTP on the given port,\n" +
+"    handling at most the given number of requests at a time.");
+			System.exit(1);
+		}
+
+		if(System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+
+		try {
+			Metrics.register();
+		}
+		catch(JMException e) {
+			System.err.println("greekd: metrics not registered: " + e.getMessage());
+		}
+
+		try {
+			ConversionServer server = new ConversionServer(new InetSocketAddress(port), maxConcurrent);
+			server.start();
+			System.err.println("greekd: listening on port " + server.getAddress().getPort());
+		}
+		catch(IOException e) {
+			System.err.println("greekd: " + e.getMessage());
+			System.exit(1);
+		}
+
+	}
+
+}
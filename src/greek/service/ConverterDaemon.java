@@ -0,0 +1,273 @@
+package greek.service;
+
+import greek.cli.ParadigmGenerator.VerbClass;
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.BetaCodeConverter;
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Mood;
+import greek.grammar.Number;
+import greek.grammar.Person;
+import greek.grammar.Tense;
+import greek.grammar.Voice;
+import greek.metrics.Metrics;
+import greek.morphology.FormAssembler;
+import greek.morphology.Morpheme;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import javax.management.JMException;
+
+/**
+ * A long-running converter which answers requests on stdin and stdout or on a
+ * Unix domain socket, so that scripts which make many conversions pay for
+ * starting the JVM and initializing the tables only once.
+ *
+ * Each request is a JSON object on a line of its own, and each is answered
+ * with a JSON object on a line of its own, in the order of the requests. A
+ * client may send any number of requests before reading the answers; answers
+ * are written out whenever the daemon runs out of requests which have
+ * already arrived. The requests are these:
+ * <pre>
+ * {"op": "convert", "text": "lo/gos"}            beta code to Unicode
+ * {"op": "reverse", "text": "λόγος"}             Unicode to beta code
+ * {"op": "form", "stem": "lu", "class": "ThematicUncontr", "tense": "present",
+ *  "voice": "active", "mood": "indicative", "person": "first",
+ *  "number": "singular"}                         one verb form
+ * </pre>
+ * An answer holds the result as "result", or a message as "error", together
+ * with the "id" of the request if it had one. A form which does not exist
+ * has a null result.
+ */
+public class ConverterDaemon implements Closeable {
+
+	private final BetaCodeConverter _converter = new BetaCodeBestEffortConverter();
+	private volatile ServerSocketChannel _channel = null;
+	private volatile Path _socket = null;
+
+	/**
+	 * Answer a single request.
+	 * @param request A JSON object.
+	 * @return The answer, a JSON object without a line break.
+	 */
+	public String handle(String request) {
+		StringBuilder result = new StringBuilder("{");
+		Map<String, Object> fields;
+		try {
+			fields = Json.parseObject(request);
+		}
+		catch(IllegalArgumentException e) {
+			result.append("\"error\":");
+			Json.appendString(result, "malformed request: " + e.getMessage());
+			return result.append('}').toString();
+		}
+		if(fields.containsKey("id")) {
+			result.append("\"id\":");
+			Json.appendValue(result, fields.get("id"));
+			result.append(',');
+		}
+		try {
+			Object value = answer(fields);
+			result.append("\"result\":");
+			Json.appendValue(result, value);
+		}
+		catch(IllegalArgumentException e) {
+			result.append("\"error\":");
+			Json.appendString(result, e.getMessage());
+		}
+		return result.append('}').toString();
+	}
+
+	private Object answer(Map<String, Object> request) {
+		String op = string(request, "op");
+		switch(op) {
+			case "convert":
+				return _converter.toPrecombinedUnicode(string(request, "text"));
+			case "reverse":
+				return Unicode.toBetaCode(string(request, "text"));
+			case "form":
+				return form(request);
+			default:
+				throw new IllegalArgumentException("unknown op '" + op + "'");
+		}
+	}
+
+	private static String form(Map<String, Object> request) {
+		VerbClass verbClass = VerbClass.fromName(string(request, "class"));
+		if(verbClass == null) throw new IllegalArgumentException("unknown verb class");
+		Morpheme stem = PhonoCode.toMorpheme(string(request, "stem"));
+		if(stem == null) throw new IllegalArgumentException("invalid phono code");
+		GrammaticalTag tag = GrammaticalTag.verb(
+			feature(request, "tense", Tense.class),
+			feature(request, "voice", Voice.class),
+			feature(request, "mood", Mood.class),
+			feature(request, "person", Person.class),
+			feature(request, "number", Number.class));
+		StringBuilder form = new StringBuilder();
+		if(!verbClass.newVerb(stem).appendVerbForm(tag, new FormAssembler(), form)) return null;
+		return form.toString();
+	}
+
+	private static String string(Map<String, Object> request, String name) {
+		Object value = request.get(name);
+		if(!(value instanceof String)) throw new IllegalArgumentException("expected a string for '" + name + "'");
+		return (String) value;
+	}
+
+	private static <E extends Enum<E>> E feature(Map<String, Object> request, String name, Class<E> type) {
+		String value = string(request, name);
+		try {
+			return Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace(' ', '_'));
+		}
+		catch(IllegalArgumentException e) {
+			throw new IllegalArgumentException("unknown " + name + " '" + value + "'");
+		}
+	}
+
+	/**
+	 * Answer requests read from a reader until it ends. Answers are flushed
+	 * whenever no more requests are waiting to be read.
+	 * @param in
+	 * @param out
+	 * @throws IOException
+	 */
+	public void serve(BufferedReader in, Writer out) throws IOException {
+		String line;
+		while((line = in.readLine()) != null) {
+			if(!line.trim().isEmpty()) {
+				out.write(handle(line));
+				out.write('\n');
+			}
+			if(!in.ready()) out.flush();
+		}
+		out.flush();
+	}
+
+	/**
+	 * Start listening on a Unix domain socket. A file left at the path by an
+	 * earlier daemon is replaced. Connections are not answered until
+	 * serve(executor) is called.
+	 * @param socket
+	 * @throws IOException
+	 */
+	public void bind(Path socket) throws IOException {
+		Files.deleteIfExists(socket);
+		ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		channel.bind(UnixDomainSocketAddress.of(socket));
+		_socket = socket;
+		_channel = channel;
+	}
+
+	/**
+	 * Answer each connection to the socket on the executor until the daemon
+	 * is closed.
+	 * @param executor
+	 * @throws IOException
+	 */
+	public void serve(ExecutorService executor) throws IOException {
+		ServerSocketChannel channel = _channel;
+		if(channel == null) throw new IllegalStateException("not bound");
+		try {
+			while(channel.isOpen()) {
+				SocketChannel client;
+				try {
+					client = channel.accept();
+				}
+				catch(IOException e) {
+					if(!channel.isOpen()) break;
+					throw e;
+				}
+				executor.execute(() -> {
+					try(SocketChannel c = client) {
+						serve(new BufferedReader(new InputStreamReader(Channels.newInputStream(c), StandardCharsets.UTF_8)),
+							new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(c), StandardCharsets.UTF_8)));
+					}
+					catch(IOException e) {
+						// The client went away.
+					}
+				});
+			}
+		}
+		finally {
+			close();
+		}
+	}
+
+	/**
+	 * Stop listening on the socket, if any, and remove it.
+	 * @throws IOException
+	 */
+	@Override
+	public void close() throws IOException {
+		ServerSocketChannel channel = _channel;
+		Path socket = _socket;
+		_channel = null;
+		_socket = null;
+		if(channel != null) channel.close();
+		if(socket != null) Files.deleteIfExists(socket);
+	}
+
+	/**
+	 * The main function.
+	 * @param args
+	 */
+	public static void main(String [] args) {
+
+		if(!(args.length == 0 || args.length == 2 && args[0].equals("-socket"))) {
+			System.out.println(
+"Usage: greek-daemon [-socket path]\n" +
+"    Answers JSON-lines requests on stdin, or on a Unix domain socket at the\n" +
+"    given path, until the input ends or the daemon is killed.");
+			System.exit(1);
+		}
+
+		try {
+			Metrics.register();
+		}
+		catch(JMException e) {
+			System.err.println("greek-daemon: metrics not registered: " + e.getMessage());
+		}
+
+		ConverterDaemon daemon = new ConverterDaemon();
+		try {
+			if(args.length == 0) {
+				daemon.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+					new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+			}
+			else {
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+					try {
+						daemon.close();
+					}
+					catch(IOException e) {
+					}
+				}));
+				daemon.bind(Paths.get(args[1]));
+				daemon.serve(ConversionServer.newDefaultExecutor());
+			}
+		}
+		catch(IOException e) {
+			System.err.println("greek-daemon: " + e.getMessage());
+			System.exit(1);
+		}
+
+	}
+
+}
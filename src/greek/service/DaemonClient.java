@@ -0,0 +1,223 @@
+package greek.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A connection to a ConverterDaemon listening on a Unix domain socket.
+ * Requests may be sent in batches, so that a batch costs one round trip. The
+ * requests of a batch are written on a thread of the client's own while the
+ * answers are read, since the daemon answers as it goes and would otherwise
+ * stop once the socket's buffers filled with answers nobody was reading.
+ *
+ * A client is not safe for use by more than one thread at a time.
+ */
+public class DaemonClient implements Closeable {
+
+	private final SocketChannel _channel;
+	private final BufferedReader _in;
+	private final BufferedWriter _out;
+	private final ExecutorService _writer;
+
+	/**
+	 * Connect to a daemon.
+	 * @param socket The path of the daemon's socket.
+	 * @throws IOException
+	 */
+	public DaemonClient(Path socket) throws IOException {
+		_channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+		_channel.connect(UnixDomainSocketAddress.of(socket));
+		_in = new BufferedReader(new InputStreamReader(inputOf(_channel), StandardCharsets.UTF_8));
+		_out = new BufferedWriter(new OutputStreamWriter(outputOf(_channel), StandardCharsets.UTF_8));
+		_writer = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "greek-client-writer");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/* Streams which read and write the channel directly. Those made by
+	 Channels hold the channel's lock for the whole of a blocking read, so
+	 that nothing could be written while an answer was awaited. */
+	private static InputStream inputOf(SocketChannel channel) {
+		return new InputStream() {
+			@Override
+			public int read() throws IOException {
+				byte[] b = new byte[1];
+				return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+			}
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return len == 0 ? 0 : channel.read(ByteBuffer.wrap(b, off, len));
+			}
+		};
+	}
+
+	private static OutputStream outputOf(SocketChannel channel) {
+		return new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				write(new byte[] {(byte) b}, 0, 1);
+			}
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+				while(buffer.hasRemaining()) channel.write(buffer);
+			}
+		};
+	}
+
+	/**
+	 * Send a request and wait for its answer.
+	 * @param request A JSON object on one line.
+	 * @return The answer, a JSON object on one line.
+	 * @throws IOException If the daemon closes the connection.
+	 */
+	public String request(String request) throws IOException {
+		_out.write(request);
+		_out.write('\n');
+		_out.flush();
+		return readAnswer();
+	}
+
+	/**
+	 * Send several requests at once and wait for their answers.
+	 * @param requests JSON objects, each on one line.
+	 * @return The answers, in the order of the requests.
+	 * @throws IOException If the daemon closes the connection.
+	 */
+	public String[] request(List<String> requests) throws IOException {
+		Future<Void> writing = _writer.submit(() -> {
+			for(String request : requests) {
+				_out.write(request);
+				_out.write('\n');
+			}
+			_out.flush();
+			return null;
+		});
+		String[] result = new String[requests.size()];
+		try {
+			for(int i = 0; i < result.length; ++i) result[i] = readAnswer();
+			writing.get();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for the daemon");
+		}
+		catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+		}
+		finally {
+			// A writer still blocked on a broken connection is stopped by
+			// closing it.
+			if(!writing.isDone()) _channel.close();
+		}
+		return result;
+	}
+
+	/**
+	 * Convert beta code to Unicode.
+	 * @param betaCode
+	 * @return
+	 * @throws IOException
+	 */
+	public String convert(String betaCode) throws IOException {
+		return call("convert", betaCode);
+	}
+
+	/**
+	 * Convert Unicode to beta code.
+	 * @param unicode
+	 * @return
+	 * @throws IOException
+	 */
+	public String reverse(String unicode) throws IOException {
+		return call("reverse", unicode);
+	}
+
+	private String call(String op, String text) throws IOException {
+		StringBuilder request = new StringBuilder("{\"op\":");
+		Json.appendString(request, op);
+		request.append(",\"text\":");
+		Json.appendString(request, text);
+		request.append('}');
+		Map<String, Object> answer = Json.parseObject(request(request.toString()));
+		if(answer.containsKey("error")) throw new IOException("daemon: " + answer.get("error"));
+		return (String) answer.get("result");
+	}
+
+	private String readAnswer() throws IOException {
+		String line = _in.readLine();
+		if(line == null) throw new IOException("the daemon closed the connection");
+		return line;
+	}
+
+	@Override
+	public void close() throws IOException {
+		_writer.shutdown();
+		_channel.close();
+	}
+
+	/**
+	 * The main function. Sends each line of stdin to the daemon as a request
+	 * and prints the answers, keeping up to a batch of requests in flight.
+	 * @param args
+	 */
+	public static void main(String [] args) {
+
+		if(args.length != 1) {
+			System.out.println(
+"Usage: greek-client socket < requests\n" +
+"    Sends JSON-lines requests to a greek-daemon listening at the given\n" +
+"    socket and prints its answers.");
+			System.exit(1);
+		}
+
+		try(DaemonClient client = new DaemonClient(Paths.get(args[0]))) {
+			BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+			BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+			List<String> batch = new ArrayList<>();
+			String line;
+			do {
+				line = in.readLine();
+				if(line != null && !line.trim().isEmpty()) batch.add(line);
+				if(line == null || batch.size() >= 256 || !in.ready()) {
+					for(String answer : client.request(batch)) {
+						out.write(answer);
+						out.write('\n');
+					}
+					out.flush();
+					batch.clear();
+				}
+			} while(line != null);
+		}
+		catch(IOException e) {
+			System.err.println("greek-client: " + e.getMessage());
+			System.exit(1);
+		}
+
+	}
+
+}
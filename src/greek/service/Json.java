@@ -0,0 +1,192 @@
+package greek.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Just enough JSON for the line protocol of ConverterDaemon: flat objects
+ * whose values are strings, numbers, booleans, or null. Nested objects and
+ * arrays are not supported.
+ */
+public final class Json {
+
+	private Json() {
+	}
+
+	/**
+	 * Parse a flat object.
+	 * @param text
+	 * @return The members in order. Strings are given as String, numbers as
+	 * Double or Long, booleans as Boolean, and null as null.
+	 * @throws IllegalArgumentException If the text is not a flat object.
+	 */
+	public static Map<String, Object> parseObject(CharSequence text) {
+		Parser p = new Parser(text);
+		Map<String, Object> result = new LinkedHashMap<>();
+		p.skipSpace();
+		p.expect('{');
+		p.skipSpace();
+		if(p.peek() == '}') {
+			++p.i;
+		}
+		else {
+			while(true) {
+				p.skipSpace();
+				String key = p.string();
+				p.skipSpace();
+				p.expect(':');
+				p.skipSpace();
+				result.put(key, p.value());
+				p.skipSpace();
+				if(p.peek() == ',') ++p.i;
+				else {
+					p.expect('}');
+					break;
+				}
+			}
+		}
+		p.skipSpace();
+		if(p.i != text.length()) throw p.error("trailing characters");
+		return result;
+	}
+
+	/**
+	 * Append a value as JSON.
+	 * @param buffer
+	 * @param value A string, number, boolean, or null.
+	 */
+	public static void appendValue(StringBuilder buffer, Object value) {
+		if(value == null) buffer.append("null");
+		else if(value instanceof CharSequence) appendString(buffer, (CharSequence) value);
+		else buffer.append(value);
+	}
+
+	/**
+	 * Append a string as a JSON string literal.
+	 * @param buffer
+	 * @param s
+	 */
+	public static void appendString(StringBuilder buffer, CharSequence s) {
+		buffer.append('"');
+		for(int i = 0; i < s.length(); ++i) {
+			char c = s.charAt(i);
+			switch(c) {
+				case '"':  buffer.append("\\\""); break;
+				case '\\': buffer.append("\\\\"); break;
+				case '\n': buffer.append("\\n");  break;
+				case '\r': buffer.append("\\r");  break;
+				case '\t': buffer.append("\\t");  break;
+				default:
+					if(c < 0x20) buffer.append(String.format("\\u%04x", (int) c));
+					else buffer.append(c);
+			}
+		}
+		buffer.append('"');
+	}
+
+	private static final class Parser {
+
+		final CharSequence text;
+		int i = 0;
+
+		Parser(CharSequence text) {
+			this.text = text;
+		}
+
+		char peek() {
+			return i < text.length() ? text.charAt(i) : 0;
+		}
+
+		void skipSpace() {
+			while(i < text.length() && " \t\r\n".indexOf(text.charAt(i)) >= 0) ++i;
+		}
+
+		void expect(char c) {
+			if(peek() != c) throw error("expected '" + c + "'");
+			++i;
+		}
+
+		IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(message + " at column " + (i + 1));
+		}
+
+		Object value() {
+			char c = peek();
+			if(c == '"') return string();
+			if(c == '-' || c >= '0' && c <= '9') return number();
+			if(literal("true")) return Boolean.TRUE;
+			if(literal("false")) return Boolean.FALSE;
+			if(literal("null")) return null;
+			throw error("expected a string, number, boolean, or null");
+		}
+
+		boolean literal(String word) {
+			if(i + word.length() > text.length()) return false;
+			for(int j = 0; j < word.length(); ++j) {
+				if(text.charAt(i + j) != word.charAt(j)) return false;
+			}
+			i += word.length();
+			return true;
+		}
+
+		Object number() {
+			int start = i;
+			boolean integral = true;
+			if(peek() == '-') ++i;
+			while(i < text.length()) {
+				char c = text.charAt(i);
+				if(c >= '0' && c <= '9') ++i;
+				else if(c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+					integral = false;
+					++i;
+				}
+				else break;
+			}
+			String s = text.subSequence(start, i).toString();
+			try {
+				if(integral) return Long.parseLong(s);
+				return Double.parseDouble(s);
+			}
+			catch(NumberFormatException e) {
+				i = start;
+				throw error("bad number");
+			}
+		}
+
+		String string() {
+			expect('"');
+			StringBuilder result = new StringBuilder();
+			while(true) {
+				if(i >= text.length()) throw error("unterminated string");
+				char c = text.charAt(i++);
+				if(c == '"') return result.toString();
+				if(c != '\\') {
+					result.append(c);
+					continue;
+				}
+				if(i >= text.length()) throw error("unterminated string");
+				c = text.charAt(i++);
+				switch(c) {
+					case '"': case '\\': case '/': result.append(c); break;
+					case 'b': result.append('\b'); break;
+					case 'f': result.append('\f'); break;
+					case 'n': result.append('\n'); break;
+					case 'r': result.append('\r'); break;
+					case 't': result.append('\t'); break;
+					case 'u':
+						if(i + 4 > text.length()) throw error("bad escape");
+						try {
+							result.append((char) Integer.parseInt(text.subSequence(i, i + 4).toString(), 16));
+						}
+						catch(NumberFormatException e) {
+							throw error("bad escape");
+						}
+						i += 4;
+						break;
+					default: throw error("bad escape");
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+package greek.util;
+
+import java.util.Arrays;
+
+/**
+ * A growable sequence of characters which keeps a gap at the place of the last
+ * edit. Edits made near one another, as when typing, each cost time in
+ * proportion to the distance the gap moves and the number of characters
+ * changed, but not to the length of the whole text.
+ */
+public final class GapBuffer implements CharSequence {
+
+	private char[] _chars;
+	private int _gapStart;
+	private int _gapEnd;
+
+	/**
+	 * Create an empty buffer.
+	 */
+	public GapBuffer() {
+		this(16);
+	}
+
+	/**
+	 * Create an empty buffer with room for a certain number of characters.
+	 * @param capacity
+	 */
+	public GapBuffer(int capacity) {
+		_chars = new char[Math.max(capacity, 1)];
+		_gapStart = 0;
+		_gapEnd = _chars.length;
+	}
+
+	/**
+	 * Get the number of characters in the buffer.
+	 * @return
+	 */
+	@Override
+	public int length() {
+		return _chars.length - (_gapEnd - _gapStart);
+	}
+
+	/**
+	 * Get the character at a certain position.
+	 * @param i
+	 * @return
+	 */
+	@Override
+	public char charAt(int i) {
+		if(i < 0 || i >= length()) throw new IndexOutOfBoundsException("index " + i + ", length " + length());
+		return _chars[i < _gapStart ? i : i + _gapEnd - _gapStart];
+	}
+
+	/**
+	 * Get a range of the characters as a string.
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return substring(start, end);
+	}
+
+	/**
+	 * Get a range of the characters as a string.
+	 * @param start
+	 * @param end
+	 * @return
+	 */
+	public String substring(int start, int end) {
+		checkRange(start, end);
+		StringBuilder result = new StringBuilder(end - start);
+		appendTo(result, start, end);
+		return result.toString();
+	}
+
+	/**
+	 * Append a range of the characters to a string builder.
+	 * @param out
+	 * @param start
+	 * @param end
+	 */
+	public void appendTo(StringBuilder out, int start, int end) {
+		checkRange(start, end);
+		if(start < _gapStart) out.append(_chars, start, Math.min(end, _gapStart) - start);
+		if(end > _gapStart) {
+			int from = Math.max(start, _gapStart);
+			out.append(_chars, from + _gapEnd - _gapStart, end - from);
+		}
+	}
+
+	/**
+	 * Replace a range of the characters.
+	 * @param offset Where the range begins.
+	 * @param removed The number of characters to remove.
+	 * @param inserted The characters to put in their place.
+	 */
+	public void replace(int offset, int removed, CharSequence inserted) {
+		checkRange(offset, offset + removed);
+		moveGap(offset);
+		_gapEnd += removed;
+		int size = inserted.length();
+		if(_gapEnd - _gapStart < size) grow(size);
+		for(int i = 0; i < size; ++i) _chars[_gapStart++] = inserted.charAt(i);
+	}
+
+	/**
+	 * Get the characters as a string.
+	 * @return
+	 */
+	@Override
+	public String toString() {
+		return substring(0, length());
+	}
+
+	private void checkRange(int start, int end) {
+		if(start < 0 || end < start || end > length()) {
+			throw new IndexOutOfBoundsException("range " + start + " to " + end + ", length " + length());
+		}
+	}
+
+	/* Move the gap so that it begins at a certain position. */
+	private void moveGap(int offset) {
+		if(offset < _gapStart) {
+			int count = _gapStart - offset;
+			System.arraycopy(_chars, offset, _chars, _gapEnd - count, count);
+			_gapStart -= count;
+			_gapEnd -= count;
+		}
+		else if(offset > _gapStart) {
+			int count = offset - _gapStart;
+			System.arraycopy(_chars, _gapEnd, _chars, _gapStart, count);
+			_gapStart += count;
+			_gapEnd += count;
+		}
+	}
+
+	/* Widen the gap to hold at least a certain number of characters,
+	 doubling the array so that growth is amortized. */
+	private void grow(int size) {
+		int after = _chars.length - _gapEnd;
+		int capacity = Math.max(_chars.length * 2, length() + size);
+		char[] chars = Arrays.copyOf(_chars, capacity);
+		System.arraycopy(_chars, _gapEnd, chars, capacity - after, after);
+		_chars = chars;
+		_gapEnd = capacity - after;
+	}
+
+}
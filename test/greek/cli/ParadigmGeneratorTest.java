@@ -0,0 +1,79 @@
+package test.greek.cli;
+
+import greek.cli.ParadigmGenerator;
+import greek.cli.ParadigmGenerator.Format;
+import greek.cli.ParadigmGenerator.VerbClass;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ParadigmGeneratorTest {
+
+	private static final String[] STEMS = {"lu", "paideu", "ti:ma", "phile", "de:lo"};
+	private static final String[] CLASSES = {"ThematicUncontr", "ThematicUncontr",
+		"ThematicContr", "ThematicContr", "ThematicContr"};
+
+	private static String run(ParadigmGenerator generator, String input) throws IOException {
+		StringWriter out = new StringWriter();
+		try {
+			generator.run(new BufferedReader(new StringReader(input)), out);
+		}
+		finally {
+			generator.shutdown();
+		}
+		return out.toString();
+	}
+
+	private static String paradigm(int i, Format format) {
+		StringBuilder result = new StringBuilder();
+		assertTrue(ParadigmGenerator.appendParadigm(STEMS[i], CLASSES[i],
+			VerbClass.fromName(CLASSES[i]), format, result) > 0);
+		return result.toString();
+	}
+
+	@Test
+	public void testOrder() throws IOException {
+		// Many more stems than fit in the window, all written in order
+		StringBuilder input = new StringBuilder(), expected = new StringBuilder();
+		for(int i = 0; i < 1000; ++i) {
+			int k = (i * 7) % STEMS.length;
+			input.append(STEMS[k]).append(' ').append(CLASSES[k]).append('\n');
+			expected.append(paradigm(k, Format.TSV));
+		}
+		ParadigmGenerator generator = new ParadigmGenerator(Format.TSV, 4);
+		assertEquals(expected.toString(), run(generator, input.toString()));
+		assertEquals(1000, generator.getStemCount());
+		assertEquals(0, generator.getErrorCount());
+	}
+
+	@Test
+	public void testFormats() throws IOException {
+		String tsv = run(new ParadigmGenerator(Format.TSV, 1), "lu ThematicUncontr\n");
+		assertTrue(tsv.startsWith("lu\tThematicUncontr\tpresent\tactive\tindicative\tfirst\tsingular\t"));
+		assertEquals(8, tsv.split("\n").length);
+		String json = run(new ParadigmGenerator(Format.JSON, 1), "lu ThematicUncontr\n");
+		assertTrue(json.startsWith("{\"stem\":\"lu\",\"class\":\"ThematicUncontr\",\"tense\":\"present\","
+			+ "\"voice\":\"active\",\"mood\":\"indicative\",\"person\":\"first\",\"number\":\"singular\",\"form\":\""));
+		assertEquals(8, json.split("\n").length);
+		// The forms agree whichever the format
+		String[] tsvLines = tsv.split("\n"), jsonLines = json.split("\n");
+		for(int i = 0; i < tsvLines.length; ++i) {
+			String form = tsvLines[i].substring(tsvLines[i].lastIndexOf('\t') + 1);
+			assertTrue(jsonLines[i].endsWith(",\"form\":\"" + form + "\"}"));
+		}
+	}
+
+	@Test
+	public void testErrors() throws IOException {
+		ParadigmGenerator generator = new ParadigmGenerator(Format.TSV, 2);
+		String out = run(generator,
+			"# a comment\n\nl!u ThematicUncontr\nlu\nlu Nothing\nti:ma ThematicContr\n");
+		assertEquals(paradigm(2, Format.TSV), out);
+		assertEquals(1, generator.getStemCount());
+		assertEquals(3, generator.getErrorCount());
+	}
+
+}
@@ -0,0 +1,71 @@
+package test.greek.code;
+
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.BetaCodeConverter;
+import greek.code.IncrementalConverter;
+import greek.code.IncrementalConverter.Change;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IncrementalConverterTest {
+
+	@Test
+	public void testEdits() {
+		BetaCodeConverter whole = new BetaCodeBestEffortConverter();
+		IncrementalConverter c = new IncrementalConverter(new BetaCodeBestEffortConverter());
+		c.setText("o( lo/gos");
+		assertEquals(whole.toPrecombinedUnicode("o( lo/gos"), c.getUnicode());
+
+		// Joining two words makes the sigma medial
+		StringBuilder mirror = new StringBuilder(c.getUnicode());
+		apply(mirror, c.edit(9, 0, "a"));
+		apply(mirror, c.edit(3, 0, "s"));
+		assertEquals(whole.toPrecombinedUnicode("o( slo/gosa"), c.getUnicode());
+		apply(mirror, c.edit(2, 1, ""));
+		assertEquals(whole.toPrecombinedUnicode("o(slo/gosa"), c.getUnicode());
+		assertEquals(c.getUnicode(), mirror.toString());
+
+		// Splitting a word at a sigma makes it final
+		apply(mirror, c.edit(9, 0, " "));
+		assertEquals("o(slo/gos a", c.getBetaCode());
+		assertEquals(whole.toPrecombinedUnicode("o(slo/gos a"), c.getUnicode());
+		assertEquals(c.getUnicode(), mirror.toString());
+	}
+
+	@Test
+	public void testRandomEdits() {
+		String alphabet = "abgdehiklmnoprstuwx()/\\=|+*AS  \n,.'-$?";
+		BetaCodeConverter whole = new BetaCodeBestEffortConverter();
+		IncrementalConverter c = new IncrementalConverter(new BetaCodeBestEffortConverter());
+		StringBuilder mirror = new StringBuilder();
+		Random random = new Random(7);
+		for(int i = 0; i < 2000; ++i) {
+			int length = c.getBetaCode().length();
+			int offset = random.nextInt(length + 1);
+			int removed = random.nextInt(4) == 0 ? random.nextInt(Math.min(length - offset, 3) + 1) : 0;
+			StringBuilder inserted = new StringBuilder();
+			for(int k = random.nextInt(4); k > 0; --k) inserted.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			apply(mirror, c.edit(offset, removed, inserted.toString()));
+			assertEquals(whole.toPrecombinedUnicode(c.getBetaCode()), c.getUnicode());
+			assertEquals(c.getUnicode(), mirror.toString());
+		}
+	}
+
+	@Test
+	public void testInvalid() {
+		IncrementalConverter c = new IncrementalConverter(new BetaCodeConverter());
+		c.setText("lo/gos1");
+		assertFalse(c.isValid());
+		assertNull(c.getUnicode());
+		assertEquals("lo/gos1", c.getOutput().toString());
+		c.edit(6, 1, "");
+		assertTrue(c.isValid());
+		assertEquals(new BetaCodeConverter().toPrecombinedUnicode("lo/gos"), c.getUnicode());
+	}
+
+	private static void apply(StringBuilder mirror, Change change) {
+		mirror.replace(change.getOffset(), change.getOffset() + change.getRemoved(), change.getInserted());
+	}
+
+}
@@ -0,0 +1,64 @@
+package test.greek.code;
+
+import greek.code.Tokenizer;
+import greek.code.Tokenizer.Kind;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TokenizerTest {
+
+	@Test
+	public void testTokenize() {
+
+		Tokenizer t = new Tokenizer();
+		String text = "ἀλλ’ ὁ λόγος, ἔφη\u0387 τί ἐστιν\u037E οὐδέν.";
+
+		assertEquals(11, t.tokenize(text));
+
+		// Elided words keep their apostrophe
+		assertEquals("ἀλλ’", t.getToken(text, 0));
+		assertTrue(t.isElided(text, 0));
+		assertEquals(Kind.WORD, t.getKind(0));
+		assertFalse(t.isElided(text, 1));
+
+		assertEquals("λόγος", t.getToken(text, 2));
+		assertEquals(Kind.PUNCTUATION, t.getKind(3));
+		assertEquals(",", t.getToken(text, 3));
+
+		// The raised dot does not end a sentence
+		assertEquals(Kind.PUNCTUATION, t.getKind(5));
+
+		// The Greek question mark does
+		assertEquals(Kind.SENTENCE_END, t.getKind(8));
+		assertTrue(t.endsSentence(10));
+		assertEquals(text.length() - 1, t.getOffset(10));
+
+		// The buffer is reused
+		assertEquals(2, t.tokenize("λύω."));
+		assertEquals(0, t.getOffset(0));
+		assertEquals(3, t.getLength(0));
+		assertEquals(0, t.tokenize("   "));
+
+		// A lone apostrophe is punctuation
+		assertEquals(1, t.tokenize(" ’"));
+		assertEquals(Kind.PUNCTUATION, t.getKind(0));
+
+		// Combining diacritics belong to the word
+		assertEquals(1, t.tokenize("λο\u0301γος"));
+		assertEquals(6, t.getLength(0));
+
+	}
+
+	@Test
+	public void testLargeInput() {
+
+		Tokenizer t = new Tokenizer();
+		StringBuilder b = new StringBuilder();
+		for(int i = 0; i < 1000; ++i) b.append("λύω. ");
+		assertEquals(2000, t.tokenize(b));
+		assertEquals(5 * 999, t.getOffset(1998));
+		assertTrue(t.endsSentence(1999));
+
+	}
+
+}
@@ -0,0 +1,58 @@
+package test.greek.grammar;
+
+import greek.grammar.Case;
+import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Mood;
+import greek.grammar.Number;
+import greek.grammar.Person;
+import greek.grammar.Tense;
+import greek.grammar.Voice;
+import greek.grammar.nominal.DefiniteArticle;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class GrammaticalTagTest {
+
+	@Test
+	public void testIndexes() {
+
+		boolean[] seen = new boolean[GrammaticalTag.VERB_CELLS];
+		for(Tense t : Tense.values()) {
+			for(Voice v : Voice.values()) {
+				for(Mood m : Mood.values()) {
+					for(Person p : Person.values()) {
+						for(Number n : Number.values()) {
+							GrammaticalTag tag = GrammaticalTag.verb(t, v, m, p, n);
+							assertFalse(seen[tag.getIndex()]);
+							seen[tag.getIndex()] = true;
+							assertSame(tag, GrammaticalTag.fromBits(tag.getBits()));
+							assertEquals(t, tag.getTense());
+							assertEquals(n, tag.getNumber());
+							assertNull(tag.getCase());
+						}
+					}
+				}
+			}
+		}
+
+		GrammaticalTag tag = GrammaticalTag.nominal(Case.DATIVE, Number.PLURAL, Gender.FEMININE);
+		assertTrue(tag.isNominal());
+		assertFalse(tag.isVerb());
+		assertSame(tag, GrammaticalTag.fromNominalIndex(tag.getIndex()));
+
+		// Partial tags are not shared
+		GrammaticalTag partial = GrammaticalTag.fromBits(
+			GrammaticalTag.packNominal(Case.DATIVE, null, null));
+		assertEquals(-1, partial.getIndex());
+		assertEquals(Case.DATIVE, partial.getCase());
+
+	}
+
+	@Test
+	public void testDefiniteArticle() {
+		assertSame(DefiniteArticle.DAT_PLUR_MASC,
+			DefiniteArticle.getDefiniteArticle(Case.DATIVE, Gender.MASCULINE, Number.PLURAL));
+	}
+
+}
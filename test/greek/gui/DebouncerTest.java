@@ -0,0 +1,152 @@
+package test.greek.gui;
+
+import greek.gui.Debouncer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.SwingUtilities;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DebouncerTest {
+
+	/* Released once for each run which has finished, after it has handed
+	 its outcome to the event dispatch thread. */
+	private final Semaphore _finished = new Semaphore(0);
+
+	private ThreadPoolExecutor _executor;
+	private Debouncer<String> _debouncer;
+	private final List<String> _results = new ArrayList<>();
+	private final List<Exception> _failures = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		_executor = new ThreadPoolExecutor(4, 4, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+			@Override
+			protected void afterExecute(Runnable r, Throwable t) {
+				_finished.release();
+			}
+		};
+		onEventThread(() -> _debouncer = new Debouncer<>(20, _executor, r -> {
+			assertTrue(SwingUtilities.isEventDispatchThread());
+			_results.add(r);
+		}, _failures::add));
+	}
+
+	@After
+	public void tearDown() {
+		_executor.shutdownNow();
+	}
+
+	private static void onEventThread(Runnable r) throws Exception {
+		SwingUtilities.invokeAndWait(r);
+	}
+
+	/* Wait for a number of runs to finish and for the event dispatch thread
+	 to have taken whatever they handed it. */
+	private void awaitRuns(int runs) throws Exception {
+		assertTrue(_finished.tryAcquire(runs, 10, TimeUnit.SECONDS));
+		onEventThread(() -> {});
+	}
+
+	/* A task which waits until it is interrupted and then returns a result
+	 anyway, as a task which does not check for interruption would. */
+	private static String blockUntilInterrupted(CountDownLatch started) {
+		started.countDown();
+		try {
+			Thread.sleep(60000);
+		}
+		catch(InterruptedException e) {
+		}
+		return "stale";
+	}
+
+	@Test
+	public void testCoalesce() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		onEventThread(() -> {
+			for(String s : new String[] {"a", "b", "c"}) {
+				_debouncer.schedule(() -> {
+					calls.incrementAndGet();
+					return s;
+				});
+			}
+		});
+		// Only the last request runs, once the delay has passed
+		awaitRuns(1);
+		assertEquals(1, calls.get());
+		assertEquals(Arrays.asList("c"), _results);
+
+		onEventThread(() -> {
+			_debouncer.schedule(() -> "d");
+			_debouncer.flush();
+			_debouncer.flush();
+		});
+		awaitRuns(1);
+		assertEquals(Arrays.asList("c", "d"), _results);
+	}
+
+	@Test
+	public void testSuperseded() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		onEventThread(() -> _debouncer.scheduleNow(() -> blockUntilInterrupted(started)));
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		// Starting a new run interrupts the old one, whose result is dropped
+		onEventThread(() -> _debouncer.scheduleNow(() -> "new"));
+		awaitRuns(2);
+		assertEquals(Arrays.asList("new"), _results);
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		onEventThread(() -> _debouncer.scheduleNow(() -> blockUntilInterrupted(started)));
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		onEventThread(() -> _debouncer.cancel());
+		awaitRuns(1);
+
+		// A request which has not started never runs
+		onEventThread(() -> {
+			_debouncer.schedule(() -> "never");
+			_debouncer.cancel();
+			_debouncer.flush();
+		});
+		Thread.sleep(100);
+		onEventThread(() -> {});
+		assertEquals(0, _finished.availablePermits());
+		assertTrue(_results.isEmpty());
+		assertTrue(_failures.isEmpty());
+	}
+
+	@Test
+	public void testFailure() throws Exception {
+		IllegalStateException error = new IllegalStateException("broken");
+		onEventThread(() -> _debouncer.scheduleNow(() -> {
+			throw error;
+		}));
+		awaitRuns(1);
+		assertEquals(Arrays.asList(error), _failures);
+		assertTrue(_results.isEmpty());
+
+		// The failure of a superseded run is dropped like its result
+		CountDownLatch started = new CountDownLatch(1);
+		onEventThread(() -> _debouncer.scheduleNow(() -> {
+			blockUntilInterrupted(started);
+			throw error;
+		}));
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		onEventThread(() -> _debouncer.scheduleNow(() -> "ok"));
+		awaitRuns(2);
+		assertEquals(1, _failures.size());
+		assertEquals(Arrays.asList("ok"), _results);
+	}
+
+}
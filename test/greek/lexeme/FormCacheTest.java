@@ -0,0 +1,124 @@
+package test.greek.lexeme;
+
+import greek.code.PhonoCode;
+import greek.grammar.Case;
+import greek.grammar.Gender;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Mood;
+import greek.grammar.Number;
+import greek.grammar.Person;
+import greek.grammar.Tense;
+import greek.grammar.Voice;
+import greek.lexeme.Nominal;
+import greek.lexeme.Verb;
+import greek.morphology.FormAssembler;
+import greek.morphology.Morpheme;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class FormCacheTest {
+
+	/* Makes a new morpheme for the present active indicative first singular
+	 every time it is asked, and counts how often it is asked for any
+	 form. */
+	private static class CountingVerb extends Verb {
+		int calls = 0;
+
+		@Override
+		protected Morpheme getMorpheme(Tense t, Voice v, Mood m, Person p, Number n) {
+			++calls;
+			return GrammaticalTag.verb(t, v, m, p, n).equals(FIRST_SING) ? PhonoCode.toMorpheme("lu/o:") : null;
+		}
+	}
+
+	private static class CountingNominal extends Nominal {
+		int calls = 0;
+
+		@Override
+		protected Morpheme getMorpheme(Case c, Number n, Gender g) {
+			++calls;
+			return PhonoCode.toMorpheme("lo/gos");
+		}
+	}
+
+	private static final GrammaticalTag FIRST_SING = GrammaticalTag.verb(Tense.PRESENT,
+		Voice.ACTIVE, Mood.INDICATIVE, Person.FIRST, Number.SINGULAR);
+	private static final GrammaticalTag SECOND_SING = GrammaticalTag.verb(Tense.PRESENT,
+		Voice.ACTIVE, Mood.INDICATIVE, Person.SECOND, Number.SINGULAR);
+
+	@Test
+	public void testRepeatedLookups() {
+		CountingVerb verb = new CountingVerb();
+		assertFalse(verb.isCaching());
+		assertNotSame(verb.getVerbForm(FIRST_SING).getMorpheme(), verb.getVerbForm(FIRST_SING).getMorpheme());
+		assertEquals(2, verb.calls);
+
+		verb.setCaching(true);
+		assertTrue(verb.isCaching());
+		Morpheme form = verb.getVerbForm(FIRST_SING).getMorpheme();
+		assertSame(form, verb.getVerbForm(FIRST_SING).getMorpheme());
+		StringBuilder out = new StringBuilder();
+		assertTrue(verb.appendVerbForm(FIRST_SING, new FormAssembler(), out));
+		assertEquals(form.toUnicode(), out.toString());
+		assertEquals(3, verb.calls);
+
+		// A cell with no form is remembered as well
+		assertNull(verb.getVerbForm(SECOND_SING));
+		assertNull(verb.getVerbForm(SECOND_SING));
+		assertFalse(verb.appendVerbForm(SECOND_SING, new FormAssembler(), out));
+		assertEquals(4, verb.calls);
+	}
+
+	@Test
+	public void testInvalidate() {
+		CountingVerb verb = new CountingVerb();
+		verb.setCaching(true);
+		Morpheme form = verb.getVerbForm(FIRST_SING).getMorpheme();
+		verb.invalidateCache();
+		assertTrue(verb.isCaching());
+		Morpheme regenerated = verb.getVerbForm(FIRST_SING).getMorpheme();
+		assertNotSame(form, regenerated);
+		assertEquals(form, regenerated);
+		assertSame(regenerated, verb.getVerbForm(FIRST_SING).getMorpheme());
+		assertEquals(2, verb.calls);
+
+		// Without the cache there is nothing to discard
+		CountingVerb uncached = new CountingVerb();
+		uncached.invalidateCache();
+		assertFalse(uncached.isCaching());
+	}
+
+	@Test
+	public void testDisable() {
+		CountingVerb verb = new CountingVerb();
+		verb.setCaching(true);
+		Morpheme form = verb.getVerbForm(FIRST_SING).getMorpheme();
+		verb.setCaching(false);
+		assertFalse(verb.isCaching());
+		assertNotSame(form, verb.getVerbForm(FIRST_SING).getMorpheme());
+		assertNotSame(form, verb.getVerbForm(FIRST_SING).getMorpheme());
+		assertEquals(3, verb.calls);
+
+		// Turning it back on starts from an empty cache
+		verb.setCaching(true);
+		assertNotSame(form, verb.getVerbForm(FIRST_SING).getMorpheme());
+		assertEquals(4, verb.calls);
+	}
+
+	@Test
+	public void testNominal() {
+		CountingNominal nominal = new CountingNominal();
+		nominal.setCaching(true);
+		Morpheme form = nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, Gender.MASCULINE).getMorpheme();
+		assertSame(form, nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, Gender.MASCULINE).getMorpheme());
+		assertEquals(1, nominal.calls);
+		nominal.invalidateCache();
+		assertNotSame(form, nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, Gender.MASCULINE).getMorpheme());
+		assertEquals(2, nominal.calls);
+		nominal.setCaching(false);
+		nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, Gender.MASCULINE);
+		nominal.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, Gender.MASCULINE);
+		assertEquals(4, nominal.calls);
+	}
+
+}
@@ -0,0 +1,81 @@
+package test.greek.lexeme;
+
+import greek.code.PhonoCode;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Mood;
+import greek.grammar.Number;
+import greek.grammar.Person;
+import greek.grammar.Tense;
+import greek.grammar.Voice;
+import greek.lexeme.MixedVerb;
+import greek.lexeme.Verb;
+import greek.morphology.FormAssembler;
+import greek.morphology.Morpheme;
+import greek.morphology.verb.ThematicUncontr;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MixedVerbTest {
+
+	/* Provides a single form and counts how often it is asked for any. */
+	private static class OneForm extends Verb {
+		final GrammaticalTag tag;
+		final Morpheme form;
+		int calls = 0;
+
+		OneForm(GrammaticalTag tag, String phonoCode) {
+			this.tag = tag;
+			this.form = PhonoCode.toMorpheme(phonoCode);
+		}
+
+		@Override
+		protected Morpheme getMorpheme(Tense t, Voice v, Mood m, Person p, Number n) {
+			++calls;
+			return GrammaticalTag.verb(t, v, m, p, n).equals(tag) ? form : null;
+		}
+	}
+
+	private static final GrammaticalTag FIRST_SING = GrammaticalTag.verb(Tense.PRESENT,
+		Voice.ACTIVE, Mood.INDICATIVE, Person.FIRST, Number.SINGULAR);
+	private static final GrammaticalTag THIRD_SING = GrammaticalTag.verb(Tense.PRESENT,
+		Voice.ACTIVE, Mood.INDICATIVE, Person.THIRD, Number.SINGULAR);
+
+	@Test
+	public void testDispatch() {
+		OneForm special = new OneForm(FIRST_SING, "ei/mi");
+		OneForm other = new OneForm(THIRD_SING, "e/sti");
+		MixedVerb verb = new MixedVerb();
+		verb.addForm(special);
+		verb.addForm(other);
+
+		assertSame(special.form, verb.getVerbForm(FIRST_SING).getMorpheme());
+		assertEquals(1, special.calls);
+		assertSame(other, verb.getSupplier(THIRD_SING));
+		assertEquals(2, special.calls);
+		assertEquals(1, other.calls);
+
+		// Once known, a form goes straight to its supplier
+		verb.getVerbForm(THIRD_SING);
+		verb.getVerbForm(THIRD_SING);
+		assertEquals(2, special.calls);
+		assertEquals(3, other.calls);
+
+		// A form nobody supplies is not looked for again
+		GrammaticalTag missing = GrammaticalTag.verb(Tense.PRESENT, Voice.ACTIVE,
+			Mood.INDICATIVE, Person.SECOND, Number.PLURAL);
+		assertNull(verb.getVerbForm(missing));
+		assertNull(verb.getVerbForm(missing));
+		assertNull(verb.getSupplier(missing));
+		assertEquals(3, special.calls);
+
+		// Adding a verb type starts the table afresh
+		ThematicUncontr regular = new ThematicUncontr(PhonoCode.toMorpheme("lu"));
+		verb.addForm(regular);
+		assertSame(regular, verb.getSupplier(missing));
+		assertSame(special, verb.getSupplier(FIRST_SING));
+		StringBuilder out = new StringBuilder();
+		assertTrue(verb.appendVerbForm(missing, new FormAssembler(), out));
+		assertEquals(verb.getVerbForm(missing).getMorpheme().toUnicode(), out.toString());
+	}
+
+}
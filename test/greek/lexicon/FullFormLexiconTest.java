@@ -0,0 +1,54 @@
+package test.greek.lexicon;
+
+import greek.code.PhonoCode;
+import greek.grammar.GrammaticalTag;
+import greek.grammar.Mood;
+import greek.grammar.Number;
+import greek.grammar.Person;
+import greek.grammar.Tense;
+import greek.grammar.Voice;
+import greek.lexicon.FullFormLexicon;
+import greek.lexicon.FullFormLexicon.Analysis;
+import greek.lexicon.FullFormLexiconBuilder;
+import greek.morphology.verb.ThematicContr;
+import greek.morphology.verb.ThematicUncontr;
+import java.io.File;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class FullFormLexiconTest {
+
+	@Test
+	public void testWriteAndLookup() throws Exception {
+
+		FullFormLexiconBuilder builder = new FullFormLexiconBuilder();
+		assertEquals(8, builder.addVerb(1, new ThematicContr(PhonoCode.toMorpheme("phile"))));
+		assertEquals(8, builder.addVerb(2, new ThematicUncontr(PhonoCode.toMorpheme("lu"))));
+		// Adding the same analysis again changes nothing
+		assertEquals(0, builder.addVerb(2, new ThematicUncontr(PhonoCode.toMorpheme("lu"))));
+
+		File file = File.createTempFile("lexicon", ".bin");
+		file.deleteOnExit();
+		builder.write(file.toPath());
+		FullFormLexicon lexicon = FullFormLexicon.open(file.toPath());
+
+		assertEquals(builder.size(), lexicon.size());
+
+		// The indicative and imperative coincide
+		List<Analysis> analyses = lexicon.lookup("φιλεῖτε");
+		assertEquals(2, analyses.size());
+		assertEquals(1, analyses.get(0).getLexemeId());
+		assertEquals(GrammaticalTag.verb(Tense.PRESENT, Voice.ACTIVE,
+			Mood.INDICATIVE, Person.SECOND, Number.PLURAL),
+			analyses.get(0).getTag());
+		assertEquals(Mood.IMPERATIVE, analyses.get(1).getTag().getMood());
+
+		assertTrue(lexicon.contains(new StringBuilder("λύω")));
+		assertEquals(1, lexicon.countAnalyses("λύω"));
+		assertFalse(lexicon.contains("λύ"));
+		assertTrue(lexicon.lookup("φιλέω").isEmpty());
+
+	}
+
+}
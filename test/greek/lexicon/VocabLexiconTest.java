@@ -0,0 +1,62 @@
+package test.greek.lexicon;
+
+import greek.lexicon.VocabEntry;
+import greek.lexicon.VocabLexicon;
+import greek.lexicon.VocabLexiconBuilder;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class VocabLexiconTest {
+
+	@Test
+	public void testCompileAndLookup() throws Exception {
+
+		File text = File.createTempFile("vocab", ".txt");
+		text.deleteOnExit();
+		Files.write(text.toPath(), Arrays.asList(
+			"lu/w (lu-), 'loose' cf. lu/sis",
+			"Chapter 1",
+			"a)/nqrwpos, 'human being'",
+			"lo/gos, 'word'",
+			"lu/w, 'release'"));
+
+		VocabLexiconBuilder builder = new VocabLexiconBuilder();
+		assertEquals(5, builder.addFile(text.toPath()).getEntries().size());
+		File file = File.createTempFile("vocab", ".bin");
+		file.deleteOnExit();
+		builder.write(file.toPath());
+
+		assertFalse(VocabLexicon.isLexicon(text.toPath()));
+		assertTrue(VocabLexicon.isLexicon(file.toPath()));
+		VocabLexicon lexicon = VocabLexicon.open(file.toPath());
+		assertEquals(5, lexicon.size());
+
+		// Every line reads back as it was parsed
+		VocabLexiconBuilder parser = new VocabLexiconBuilder();
+		for(String line : Files.readAllLines(text.toPath())) {
+			VocabEntry e = parser.addLine(line);
+			assertEquals(e, lexicon.getEntry(parser.size() - 1));
+		}
+		assertEquals("'loose'", lexicon.getGloss(0));
+		assertEquals("cf.", lexicon.getNote(0));
+		assertNull(lexicon.getHeadword(1));
+		assertNull(lexicon.getStem(3));
+
+		// Headwords match with tonos and without regard to case
+		String luw = lexicon.getHeadword(0);
+		assertArrayEquals(new int[] {0, 4}, lexicon.findHeadword(luw));
+		assertArrayEquals(new int[] {0, 4}, lexicon.findHeadword("λύω"));
+		assertArrayEquals(new int[0], lexicon.findHeadword("λυ"));
+		assertArrayEquals(new int[] {3, 0, 4}, lexicon.searchHeadword("λ"));
+		assertArrayEquals(new int[] {2}, lexicon.searchHeadword(lexicon.getHeadword(2).toUpperCase()));
+
+		assertArrayEquals(new int[] {2}, lexicon.searchGloss("Human"));
+		assertArrayEquals(new int[] {0}, lexicon.searchGloss("loose"));
+		assertArrayEquals(new int[0], lexicon.searchGloss("x"));
+
+	}
+
+}
@@ -0,0 +1,76 @@
+package test.greek.lexicon;
+
+import greek.code.BetaCode;
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.BetaCodeConverter;
+import greek.lexicon.VocabEntry;
+import greek.lexicon.VocabParser;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class VocabParserTest {
+
+	/* The pattern which the parser replaces. */
+	private static final Pattern PATTERN = Pattern.compile(
+		"(.*?)(?: [(](.*)-[)])?, (([A-Za-z]+[.] )?['].*['])( ([A-Za-z]+[.]) (.*))?");
+
+	private static final List<String> LINES = Arrays.asList(
+		"lu/w (lu-), 'loose' cf. lu/sis",
+		"lo/gos, 'word'",
+		"a)/nqrwpos, 'human being, man'",
+		"kalo/s, adj. 'beautiful, good' cf. ka/llos",
+		"o(, h(, to/, 'the'",
+		"a, b (c-), 'x'",
+		"a (b-), c (d-), 'e'",
+		"a (b-), c, 'e' 'f' g. h",
+		"a, 'b' trailing",
+		"a, 'b' cf.x",
+		"a, 'b",
+		"a, ab 'c'",
+		"Chapter 1",
+		"",
+		"a (-), 'b'",
+		"lu/w (lu-), 'loose', cf. lu/sis (lusi-), 'a loosing'");
+
+	@Test
+	public void testMatchesPattern() {
+		BetaCodeConverter converter = new BetaCodeBestEffortConverter();
+		VocabParser parser = new VocabParser(converter);
+		for(String line : LINES) {
+			VocabEntry e = parser.parseLine(line);
+			Matcher m = PATTERN.matcher(line);
+			assertEquals(line, m.find(), e.isEntry());
+			if(!e.isEntry()) continue;
+			assertEquals(line, converter.toPrecombinedUnicode(m.group(1)), e.getHeadword());
+			assertEquals(line, m.group(2) == null ? null : BetaCode.betaCodeToPrecombinedUnicode(m.group(2)), e.getStem());
+			assertEquals(line, m.group(3), e.getGloss());
+			assertEquals(line, m.group(6), e.getNote());
+			assertEquals(line, m.group(7) == null ? null : converter.toPrecombinedUnicode(m.group(7)), e.getNoteForm());
+		}
+	}
+
+	@Test
+	public void testParallel() {
+		VocabParser parser = new VocabParser(new BetaCodeBestEffortConverter());
+		List<String> lines = new ArrayList<>();
+		while(lines.size() < 10000) lines.addAll(LINES);
+		VocabParser.Result result = parser.parse(lines, new ForkJoinPool(4));
+		assertEquals(lines.size(), result.getEntries().size());
+		for(int i = 0; i < lines.size(); ++i) {
+			assertEquals(parser.parseLine(lines.get(i)), result.getEntries().get(i));
+		}
+		// Blank lines are not malformed
+		VocabParser.Malformed first = result.getMalformed().get(0);
+		assertEquals(11, first.getLineNumber());
+		assertEquals("a, 'b", first.getLine());
+		assertEquals(13, result.getMalformed().get(2).getLineNumber());
+		assertEquals(3 * ((lines.size() + LINES.size() - 1) / LINES.size()), result.getMalformed().size());
+	}
+
+}
@@ -0,0 +1,72 @@
+package test.greek.metrics;
+
+import greek.code.BetaCodeConverter;
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.grammar.GrammaticalTag;
+import greek.morphology.FormAssembler;
+import greek.morphology.Morpheme;
+import greek.morphology.verb.ThematicUncontr;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class FlightEventsTest {
+
+	@Test
+	public void testEvents() throws Exception {
+		Path file = Files.createTempFile("greek", ".jfr");
+		try {
+			try(Recording recording = new Recording()) {
+				for(String name : new String[] {"greek.BetaCodeConversion", "greek.UnicodeRendering",
+					"greek.PhonoCodeParse", "greek.VerbForm"}) {
+					recording.enable(name).withThreshold(Duration.ZERO);
+				}
+				recording.start();
+				new BetaCodeConverter().toPrecombinedUnicode("lo/gos!");
+				ThematicUncontr verb = new ThematicUncontr(PhonoCode.toMorpheme("lu"));
+				Morpheme form = verb.getVerbForm(GrammaticalTag.fromVerbIndex(0)).getMorpheme();
+				assertNotNull(Unicode.toPrecombinedUnicode(form.getGraphemes(true)));
+				assertTrue(verb.appendVerbForm(GrammaticalTag.fromVerbIndex(1), new FormAssembler(), new StringBuilder()));
+				recording.stop();
+				recording.dump(file);
+			}
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			Map<String, RecordedEvent> byName = new HashMap<>();
+			int forms = 0;
+			for(RecordedEvent e : events) {
+				byName.put(e.getEventType().getName(), e);
+				if(e.getEventType().getName().equals("greek.VerbForm")) ++forms;
+			}
+			RecordedEvent conversion = byName.get("greek.BetaCodeConversion");
+			assertNotNull(conversion);
+			assertEquals(7, conversion.getInt("inputLength"));
+			assertEquals("non beta code", conversion.getString("outcome"));
+			RecordedEvent parse = byName.get("greek.PhonoCodeParse");
+			assertNotNull(parse);
+			assertEquals(2, parse.getInt("inputLength"));
+			assertEquals("ok", parse.getString("outcome"));
+			RecordedEvent rendering = byName.get("greek.UnicodeRendering");
+			assertNotNull(rendering);
+			assertEquals(3, rendering.getInt("inputLength"));
+			RecordedEvent form = byName.get("greek.VerbForm");
+			assertNotNull(form);
+			assertEquals("ThematicUncontr", form.getString("verbClass"));
+			assertTrue(form.getBoolean("found"));
+			// appendVerbForm is recorded as well as getVerbForm
+			assertEquals(2, forms);
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package test.greek.metrics;
+
+import greek.code.BetaCodeBestEffortConverter;
+import greek.code.BetaCodeConverter;
+import greek.code.PhonoCode;
+import greek.grammar.GrammaticalTag;
+import greek.metrics.LatencyHistogram;
+import greek.metrics.Metrics;
+import greek.morphology.FormAssembler;
+import greek.morphology.verb.ThematicUncontr;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+	@Test
+	public void testConversionCounts() {
+		Metrics metrics = Metrics.get();
+		long conversions = metrics.getConversions();
+		long chars = metrics.getCharsConverted();
+		long graphemes = metrics.getGraphemesEmitted();
+		long failures = metrics.getNonBetaCodeFailures();
+		assertNotNull(new BetaCodeBestEffortConverter().toPrecombinedUnicode("lo/gos"));
+		assertNull(new BetaCodeConverter().toPrecombinedUnicode("lo/gos!"));
+		// Other tests may convert at the same time, so only lower bounds hold.
+		assertTrue(metrics.getConversions() - conversions >= 2);
+		assertTrue(metrics.getCharsConverted() - chars >= 13);
+		assertTrue(metrics.getGraphemesEmitted() - graphemes >= 5);
+		assertTrue(metrics.getNonBetaCodeFailures() - failures >= 1);
+	}
+
+	@Test
+	public void testFormCounts() {
+		// Nothing else in this class makes forms, and JUnit runs its
+		// tests one at a time, so the counts change by exactly these.
+		Metrics metrics = Metrics.get();
+		metrics.reset();
+		GrammaticalTag tag = GrammaticalTag.fromVerbIndex(0);
+
+		ThematicUncontr cached = new ThematicUncontr(PhonoCode.toMorpheme("lu"));
+		cached.setCaching(true);
+		assertNotNull(cached.getVerbForm(tag));
+		assertTrue(cached.appendVerbForm(tag, new FormAssembler(), new StringBuilder()));
+		assertEquals(1, metrics.getFormsGenerated());
+		assertEquals(1, metrics.getFormCacheMisses());
+		assertEquals(1, metrics.getFormCacheHits());
+
+		ThematicUncontr uncached = new ThematicUncontr(PhonoCode.toMorpheme("lu"));
+		assertTrue(uncached.appendVerbForm(tag, new FormAssembler(), new StringBuilder()));
+		assertEquals(2, metrics.getFormsGenerated());
+		assertEquals(0, metrics.getUnwritableFormFailures());
+
+		// A stem with an unwritable h in it fails whether cached or not,
+		// but a cell with no form is not a failure
+		ThematicUncontr unwritable = new ThematicUncontr(PhonoCode.toMorpheme("lhu"));
+		assertFalse(unwritable.appendVerbForm(tag, new FormAssembler(), new StringBuilder()));
+		assertEquals(1, metrics.getUnwritableFormFailures());
+		unwritable.setCaching(true);
+		assertFalse(unwritable.appendVerbForm(tag, new FormAssembler(), new StringBuilder()));
+		assertEquals(2, metrics.getUnwritableFormFailures());
+		// The cached form was still made, and is kept
+		assertEquals(3, metrics.getFormsGenerated());
+		assertFalse(uncached.appendVerbForm(GrammaticalTag.fromVerbIndex(GrammaticalTag.VERB_CELLS - 1),
+			new FormAssembler(), new StringBuilder()));
+		assertEquals(2, metrics.getUnwritableFormFailures());
+		assertEquals(3, metrics.getFormsGenerated());
+	}
+
+	@Test
+	public void testHistogram() {
+		LatencyHistogram h = new LatencyHistogram();
+		assertEquals(0, h.getQuantile(0.5));
+		for(int i = 0; i < 99; ++i) h.record(100);
+		h.record(100000);
+		assertEquals(100, h.getCount());
+		assertEquals(127, h.getQuantile(0.5));
+		assertEquals(127, h.getQuantile(0.99));
+		assertEquals(131071, h.getQuantile(1.0));
+		assertEquals(1099.0, h.getMean(), 0.001);
+		h.reset();
+		assertEquals(0, h.getCount());
+	}
+
+	@Test
+	public void testMBean() throws Exception {
+		ObjectName name = Metrics.register();
+		assertEquals(name, Metrics.register());
+		new BetaCodeBestEffortConverter().toPrecombinedUnicode("a");
+		Object value = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Conversions");
+		assertTrue((Long) value > 0);
+	}
+
+}
@@ -0,0 +1,66 @@
+package test.greek.morphology;
+
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.grammar.GrammaticalTag;
+import greek.morphology.FormAssembler;
+import greek.morphology.Morpheme;
+import greek.morphology.verb.ThematicContr;
+import greek.morphology.verb.ThematicUncontr;
+import greek.spelling.Grapheme;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class FormAssemblerTest {
+
+	private static final String[] STEMS = {
+		"lu", "paideu", "hel", "tima", "poie", "delo", "a:kou", "ho:ra",
+		"thu:", "eu", "hupa", "kle/pt", "psa", "gra:ph", "ei"
+	};
+
+	private static String staged(Morpheme m, boolean terminate) {
+		List<Grapheme> g = m.getGraphemes(terminate);
+		return g == null ? null : Unicode.toPrecombinedUnicode(g);
+	}
+
+	private static void assertSameForms(greek.lexeme.Verb verb) {
+		FormAssembler assembler = new FormAssembler();
+		StringBuilder out = new StringBuilder("x");
+		for(int i = 0; i < GrammaticalTag.VERB_CELLS; ++i) {
+			GrammaticalTag tag = GrammaticalTag.fromVerbIndex(i);
+			greek.grammar.verb.Verb form = verb.getVerbForm(tag);
+			String expected = form == null ? null : staged(form.getMorpheme(), true);
+			out.setLength(1);
+			boolean written = verb.appendVerbForm(tag, assembler, out);
+			assertEquals(expected != null, written);
+			assertEquals(expected == null ? "x" : "x" + expected, out.toString());
+		}
+	}
+
+	@Test
+	public void testVerbForms() {
+		for(String s : STEMS) {
+			Morpheme stem = PhonoCode.toMorpheme(s);
+			assertSameForms(new ThematicUncontr(stem));
+			assertSameForms(new ThematicContr(stem));
+		}
+	}
+
+	@Test
+	public void testMorphemes() {
+		FormAssembler assembler = new FormAssembler();
+		for(String s : new String[] {"ho", "lo/gos", "te/:s", "hhe", "a/nthro:pos", ""}) {
+			Morpheme m = PhonoCode.toMorpheme(s);
+			for(boolean terminate : new boolean[] {true, false}) {
+				StringBuilder out = new StringBuilder();
+				String expected = staged(m, terminate);
+				assertEquals(expected != null, assembler.append(m, terminate, out));
+				assertEquals(expected == null ? "" : expected, out.toString());
+			}
+		}
+		assertEquals("τιμῶ", assembler.toUnicode(PhonoCode.toMorpheme("tima"),
+			PhonoCode.toMorpheme("o:"), FormAssembler.THROW_BACK | FormAssembler.CONTRACT));
+	}
+
+}
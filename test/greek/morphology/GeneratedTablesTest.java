@@ -0,0 +1,41 @@
+package test.greek.morphology;
+
+import greek.code.PhonoCode;
+import greek.grammar.nominal.DefiniteArticle;
+import greek.morphology.FormAssembler;
+import greek.morphology.GeneratedTables;
+import greek.morphology.Morpheme;
+import greek.morphology.verb.Ending;
+import greek.morphology.verb.VowelContraction;
+import greek.phonology.Phoneme;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class GeneratedTablesTest {
+
+	private static final String STALE = "GeneratedTables is out of date; run greek.devel.TableGenerator";
+
+	@Test
+	public void testUpToDate() {
+		assertEquals(STALE, Phoneme.definitions(), GeneratedTables.PHONEMES);
+		assertTrue(Morpheme.isGeneratedTableCurrent());
+		// Nothing checks the renderings at run time but this
+		assertEquals(STALE, FormAssembler.computeRenderingTable(), GeneratedTables.RENDERINGS);
+		assertEquals(STALE, Ending.computeCodeTable(), GeneratedTables.VERB_ENDINGS);
+		assertEquals(STALE, DefiniteArticle.computeCodeTable(), GeneratedTables.DEFINITE_ARTICLES);
+		assertEquals(STALE, VowelContraction.computeTable(), GeneratedTables.VOWEL_CONTRACTIONS);
+	}
+
+	@Test
+	public void testSourceChecked() {
+		// The first ending is -o:, so any other phono code finds nothing
+		Morpheme m = Morpheme.fromCodeTable(GeneratedTables.VERB_ENDINGS, 0, "o:");
+		assertNotNull(m);
+		assertEquals(PhonoCode.toMorpheme("o:"), m);
+		assertNull(Morpheme.fromCodeTable(GeneratedTables.VERB_ENDINGS, 0, "o"));
+		assertNull(Morpheme.fromCodeTable(GeneratedTables.VERB_ENDINGS, 1, "o:"));
+		assertNull(Morpheme.fromCodeTable(GeneratedTables.VERB_ENDINGS, 1000, "o:"));
+		assertEquals(Ending.FIRST_SING.getMorpheme(), m);
+	}
+
+}
@@ -0,0 +1,81 @@
+package test.greek.morphology;
+
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.morphology.Morpheme;
+import greek.morphology.Morpheme.CliticType;
+import greek.phonology.Phoneme;
+import greek.phonology.PitchedPhoneme.Pitch;
+import java.text.Normalizer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MorphemeTest {
+
+	private static String unicode(Morpheme m) {
+		return Normalizer.normalize(Unicode.toPrecombinedUnicode(m.getGraphemes()),
+			Normalizer.Form.NFC);
+	}
+
+	@Test
+	public void testImmutable() {
+
+		Morpheme stem = PhonoCode.toMorpheme("lu");
+		Morpheme ending = PhonoCode.toMorpheme("omen");
+		Morpheme form = stem.plus(ending);
+		assertEquals(6, form.size());
+		assertEquals(Phoneme.O, form.getUnpitchedPhoneme(2));
+
+		Morpheme accented = form.withPitchThrownBack();
+		assertEquals("λύομεν", unicode(accented));
+		assertEquals(Pitch.ACUTE, accented.getPitch(1));
+		// The original is unchanged
+		assertFalse(form.hasPitch());
+		assertFalse(stem.hasPitch());
+
+		// Changing a phoneme which was handed out changes nothing
+		form.getPhoneme(1).setPitch(Pitch.ACUTE);
+		assertFalse(form.hasPitch());
+
+		assertEquals(PhonoCode.toMorpheme("luomen"), form);
+
+	}
+
+	@Test
+	public void testBuilder() {
+
+		Morpheme m = new Morpheme.Builder(PhonoCode.toMorpheme("phileo:"))
+			.setPitch(4, Pitch.CIRCUMFLEX)
+			.remove(3)
+			.build();
+		assertEquals("φιλῶ", unicode(m));
+
+		assertEquals("φιλῶ", unicode(PhonoCode.toMorpheme("phile/")
+			.plusContract(PhonoCode.toMorpheme("o:"))));
+
+		Morpheme article = PhonoCode.toMorpheme("ho").withCliticType(CliticType.PROCLITIC);
+		assertTrue(article.isProclitic());
+		assertNull(PhonoCode.toMorpheme("to/n").withCliticType(CliticType.PROCLITIC));
+
+	}
+
+	@Test
+	public void testConcatenationEquality() {
+
+		Morpheme flat = PhonoCode.toMorpheme("paideuomen");
+		Morpheme joined = PhonoCode.toMorpheme("pai").plus(PhonoCode.toMorpheme("deu"))
+			.plus(PhonoCode.toMorpheme("o").plus(PhonoCode.toMorpheme("men")));
+		Morpheme other = PhonoCode.toMorpheme("paideu").plus(PhonoCode.toMorpheme("ete"));
+		assertEquals(flat.hashCode(), joined.hashCode());
+		assertEquals(flat, joined);
+		assertEquals(joined, flat);
+		assertEquals(joined.hashCode(), joined.hashCode());
+		assertFalse(joined.equals(other));
+		assertFalse(joined.equals(PhonoCode.toMorpheme("paideuome")));
+		assertEquals(Phoneme.E, joined.getUnpitchedPhoneme(6));
+		assertEquals(unicode(flat), unicode(joined));
+		assertFalse(flat.equals(flat.withCliticType(CliticType.ENCLITIC)));
+
+	}
+
+}
@@ -0,0 +1,70 @@
+package test.greek.morphology;
+
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.morphology.Morpheme;
+import greek.morphology.Morpheme.CliticType;
+import greek.morphology.Prosody;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ProsodyTest {
+
+	private static Morpheme word(String phonoCode) {
+		return PhonoCode.toMorpheme(phonoCode);
+	}
+
+	private static Morpheme enclitic(String phonoCode) {
+		return word(phonoCode).withCliticType(CliticType.ENCLITIC);
+	}
+
+	private static String render(Morpheme... words) {
+		StringBuilder b = new StringBuilder();
+		for(Morpheme m : Prosody.resolve(Arrays.asList(words))) {
+			if(b.length() != 0) b.append(' ');
+			b.append(m == null ? "," : Unicode.toPrecombinedUnicode(m.getGraphemes()));
+		}
+		return Normalizer.normalize(b, Normalizer.Form.NFC);
+	}
+
+	@Test
+	public void testGrave() {
+		assertEquals("καλὸς λόγος", render(word("kalo/s"), word("lo/gos")));
+		// No grave before a pause
+		assertEquals("καλός , λόγος", render(word("kalo/s"), null, word("lo/gos")));
+	}
+
+	@Test
+	public void testEnclitics() {
+		assertEquals("καλός τις", render(word("kalo/s"), enclitic("tis")));
+		assertEquals("ἄνθρωπός τις", render(word("a/nthro:pos"), enclitic("tis")));
+		assertEquals("δῶρόν τι", render(word("do/:ron"), enclitic("ti")));
+		assertEquals("λόγος τις", render(word("lo/gos"), enclitic("tis")));
+		assertEquals("λόγοι τινές", render(word("lo/goi"), enclitic("tines")));
+		// A proclitic takes the accent, as does an enclitic before another
+		assertEquals("εἴ τίς τινα", render(word("ei").withCliticType(CliticType.PROCLITIC),
+			enclitic("tis"), enclitic("tina")));
+	}
+
+	@Test
+	public void testMovableNu() {
+		assertEquals("λύουσιν αὐτόν", render(word("lu/ousin?"), word("auto/n")));
+		assertEquals("λύουσι τόν", render(word("lu/ousin?"), word("to/n")));
+		assertEquals("λύουσιν", render(word("lu/ousin?")));
+	}
+
+	@Test
+	public void testStreaming() {
+		Prosody p = new Prosody();
+		assertNull(p.next(word("kalo/s")));
+		Morpheme first = p.next(word("lo/gos"));
+		assertNotNull(first);
+		assertNotNull(p.pause());
+		assertNull(p.pause());
+	}
+
+}
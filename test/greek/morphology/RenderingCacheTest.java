@@ -0,0 +1,57 @@
+package test.greek.morphology;
+
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.morphology.Morpheme;
+import greek.morphology.Morpheme.CliticType;
+import greek.morphology.RenderingCache;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RenderingCacheTest {
+
+	@Test
+	public void testRendering() {
+		RenderingCache cache = new RenderingCache(100);
+		assertEquals(128, cache.getCapacity());
+		for(String s : new String[] {"lo/gos", "ho", "a/nthro:pos", "tima/o:", "hhe"}) {
+			Morpheme m = PhonoCode.toMorpheme(s);
+			for(boolean terminate : new boolean[] {true, false}) {
+				String expected = m.getGraphemes(terminate) == null ? null :
+					Unicode.toPrecombinedUnicode(m.getGraphemes(terminate));
+				assertEquals(expected, cache.toUnicode(m, terminate));
+				assertEquals(expected, cache.toUnicode(m, terminate));
+			}
+		}
+		assertEquals(10, cache.getHits());
+		assertEquals(10, cache.getMisses());
+	}
+
+	@Test
+	public void testKeys() {
+		RenderingCache cache = new RenderingCache(64);
+		Morpheme m = PhonoCode.toMorpheme("lo/gos");
+
+		// Equal morphemes built differently share an entry
+		Morpheme joined = PhonoCode.toMorpheme("lo/g").plus(PhonoCode.toMorpheme("os"));
+		assertEquals(cache.toUnicode(m, true), cache.toUnicode(joined, true));
+		assertEquals(1, cache.getHits());
+
+		// The terminate flag and clitic type are part of the key
+		cache.toUnicode(m, false);
+		cache.toUnicode(PhonoCode.toMorpheme("ton").withCliticType(CliticType.PROCLITIC), true);
+		cache.toUnicode(PhonoCode.toMorpheme("ton"), true);
+		assertEquals(1, cache.getHits());
+
+		// Morphemes too long to pack are always rendered
+		Morpheme longer = PhonoCode.toMorpheme("a/nthro:posa/nthro:pos");
+		cache.toUnicode(longer, true);
+		cache.toUnicode(longer, true);
+		assertEquals(1, cache.getHits());
+		assertEquals(6, cache.getMisses());
+
+		cache.clear();
+		assertEquals(0, cache.getHits() + cache.getMisses());
+	}
+
+}
@@ -0,0 +1,53 @@
+package test.greek.morphology;
+
+import greek.code.PhonoCode;
+import greek.morphology.Syllabification;
+import greek.morphology.Syllable;
+import greek.phonology.Phoneme;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SyllabificationTest {
+
+	@Test
+	public void testSyllabify() {
+
+		// an-thro:-pos
+		Syllabification s = PhonoCode.toMorpheme("anthro:pos").getSyllables();
+		assertEquals(3, s.size());
+		assertEquals(0, s.getStart(0));
+		assertEquals(1, s.getCodaLength(0));
+		// The stop and liquid begin the next syllable together
+		assertEquals(2, s.getOnsetLength(1));
+		assertEquals(2, s.getMorae(1));
+		assertEquals(1, s.getMorae(2));
+		assertTrue(s.isHeavy(0));
+		assertTrue(s.isHeavy(2));
+		assertEquals(4, s.getTotalMorae());
+		assertEquals(1, s.syllableOf(4));
+
+		// A double consonant closes the syllable before it
+		s = PhonoCode.toMorpheme("doksa").getSyllables();
+		assertEquals(2, s.size());
+		assertTrue(s.isHeavy(0));
+		assertFalse(s.isHeavy(1));
+
+		// Final ai counts as short
+		s = PhonoCode.toMorpheme("lu/aj").getSyllables();
+		assertEquals(1, s.getMorae(1));
+
+		assertEquals(0, PhonoCode.toMorpheme("n").getSyllables().size());
+
+	}
+
+	@Test
+	public void testSyllable() {
+		Syllable s = Syllable.toSyllable(Arrays.asList(Phoneme.S, Phoneme.T, Phoneme.OO, Phoneme.N));
+		assertEquals(Arrays.asList(Phoneme.S, Phoneme.T), s.getOnset());
+		assertEquals(Arrays.asList(Phoneme.N), s.getCoda());
+		assertEquals(2, s.numMorae());
+		assertNull(Syllable.toSyllable(Arrays.asList(Phoneme.A, Phoneme.E)));
+	}
+
+}
@@ -0,0 +1,96 @@
+package test.greek.morphology.nominal;
+
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.grammar.Case;
+import greek.grammar.Gender;
+import greek.grammar.Number;
+import greek.lexeme.Nominal;
+import greek.morphology.nominal.Adjective;
+import greek.morphology.nominal.FirstDeclension;
+import greek.morphology.nominal.SecondDeclension;
+import greek.morphology.nominal.ThirdDeclension;
+import java.text.Normalizer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DeclensionTest {
+
+	/* The forms of one gender in the order nominative, accusative,
+	 genitive, dative, vocative, singular and then plural. */
+	private static String forms(Nominal nominal, Gender g) {
+		StringBuilder result = new StringBuilder();
+		for(Number n : Number.values()) {
+			for(Case c : Case.values()) {
+				if(result.length() > 0) result.append(' ');
+				result.append(Unicode.toPrecombinedUnicode(
+					nominal.getNominalForm(c, n, g).getMorpheme().getGraphemes()));
+			}
+		}
+		return Normalizer.normalize(result, Normalizer.Form.NFC);
+	}
+
+	private static String nfc(String s) {
+		return Normalizer.normalize(s, Normalizer.Form.NFC);
+	}
+
+	@Test
+	public void testFirstDeclension() {
+		assertEquals(nfc("τιμή τιμήν τιμῆς τιμῇ τιμή τιμαί τιμάς τιμῶν τιμαῖς τιμαί"),
+			forms(new FirstDeclension(PhonoCode.toMorpheme("tim"), FirstDeclension.Type.ETA), Gender.FEMININE));
+		assertEquals(nfc("χώρα χώραν χώρας χώρᾳ χώρα χῶραι χώρας χωρῶν χώραις χῶραι"),
+			forms(new FirstDeclension(PhonoCode.toMorpheme("kho:/r"), FirstDeclension.Type.LONG_ALPHA), Gender.FEMININE));
+		assertEquals(nfc("θάλαττα θάλατταν θαλάττης θαλάττῃ θάλαττα θάλατται θαλάττας θαλαττῶν θαλάτταις θάλατται"),
+			forms(new FirstDeclension(PhonoCode.toMorpheme("tha/latt"), FirstDeclension.Type.SHORT_ALPHA_ETA), Gender.FEMININE));
+		assertEquals(nfc("πολίτης πολίτην πολίτου πολίτῃ πολῖτα πολῖται πολίτας πολιτῶν πολίταις πολῖται"),
+			forms(new FirstDeclension(PhonoCode.toMorpheme("poli:/t"), FirstDeclension.Type.MASCULINE_ETA), Gender.MASCULINE));
+		assertNull(new FirstDeclension(PhonoCode.toMorpheme("tim"), FirstDeclension.Type.ETA)
+			.getNominalForm(Case.NOMINATIVE, Number.SINGULAR, Gender.MASCULINE));
+	}
+
+	@Test
+	public void testSecondDeclension() {
+		assertEquals(nfc("ἄνθρωπος ἄνθρωπον ἀνθρώπου ἀνθρώπῳ ἄνθρωπε ἄνθρωποι ἀνθρώπους ἀνθρώπων ἀνθρώποις ἄνθρωποι"),
+			forms(new SecondDeclension(PhonoCode.toMorpheme("a/nthro:p"), Gender.MASCULINE), Gender.MASCULINE));
+		assertEquals(nfc("δῶρον δῶρον δώρου δώρῳ δῶρον δῶρα δῶρα δώρων δώροις δῶρα"),
+			forms(new SecondDeclension(PhonoCode.toMorpheme("do/:r"), Gender.NEUTER), Gender.NEUTER));
+		assertEquals(nfc("ὁδός ὁδόν ὁδοῦ ὁδῷ ὁδέ ὁδοί ὁδούς ὁδῶν ὁδοῖς ὁδοί"),
+			forms(new SecondDeclension(PhonoCode.toMorpheme("hod"), Gender.FEMININE), Gender.FEMININE));
+	}
+
+	@Test
+	public void testThirdDeclension() {
+		assertEquals(nfc("φύλαξ φύλακα φύλακος φύλακι φύλαξ φύλακες φύλακας φυλάκων φύλαξιν φύλακες"),
+			forms(new ThirdDeclension(PhonoCode.toMorpheme("phu/laks"),
+				PhonoCode.toMorpheme("phulak"), Gender.MASCULINE), Gender.MASCULINE));
+		assertEquals(nfc("σῶμα σῶμα σώματος σώματι σῶμα σώματα σώματα σωμάτων σώμασιν σώματα"),
+			forms(new ThirdDeclension(PhonoCode.toMorpheme("so/:ma"),
+				PhonoCode.toMorpheme("so:mat"), Gender.NEUTER), Gender.NEUTER));
+		// A monosyllabic stem is accented on the ending in the genitive
+		// and dative
+		assertEquals(nfc("νύξ νύκτα νυκτός νυκτί νύξ νύκτες νύκτας νυκτῶν νυξίν νύκτες"),
+			forms(new ThirdDeclension(PhonoCode.toMorpheme("nu/ks"),
+				PhonoCode.toMorpheme("nukt"), Gender.FEMININE), Gender.FEMININE));
+	}
+
+	@Test
+	public void testAdjectives() {
+		Adjective good = new Adjective(PhonoCode.toMorpheme("agath"), Adjective.Terminations.THREE);
+		assertEquals(nfc("ἀγαθός ἀγαθόν ἀγαθοῦ ἀγαθῷ ἀγαθέ ἀγαθοί ἀγαθούς ἀγαθῶν ἀγαθοῖς ἀγαθοί"),
+			forms(good, Gender.MASCULINE));
+		assertEquals(nfc("ἀγαθή ἀγαθήν ἀγαθῆς ἀγαθῇ ἀγαθή ἀγαθαί ἀγαθάς ἀγαθῶν ἀγαθαῖς ἀγαθαί"),
+			forms(good, Gender.FEMININE));
+		assertEquals(nfc("ἀγαθόν ἀγαθόν ἀγαθοῦ ἀγαθῷ ἀγαθόν ἀγαθά ἀγαθά ἀγαθῶν ἀγαθοῖς ἀγαθά"),
+			forms(good, Gender.NEUTER));
+		// The feminine takes alpha after iota, and its genitive plural is
+		// accented like the masculine
+		Adjective worthy = new Adjective(PhonoCode.toMorpheme("a/ksi"), Adjective.Terminations.THREE);
+		assertEquals(nfc("ἀξία ἀξίαν ἀξίας ἀξίᾳ ἀξία ἄξιαι ἀξίας ἀξίων ἀξίαις ἄξιαι"),
+			forms(worthy, Gender.FEMININE));
+		Adjective unjust = new Adjective(PhonoCode.toMorpheme("a/dik"), Adjective.Terminations.TWO);
+		assertEquals(forms(unjust, Gender.MASCULINE), forms(unjust, Gender.FEMININE));
+		assertEquals(nfc("ἄδικον ἄδικον ἀδίκου ἀδίκῳ ἄδικον ἄδικα ἄδικα ἀδίκων ἀδίκοις ἄδικα"),
+			forms(unjust, Gender.NEUTER));
+	}
+
+}
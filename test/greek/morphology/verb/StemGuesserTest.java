@@ -0,0 +1,49 @@
+package test.greek.morphology.verb;
+
+import greek.code.Unicode;
+import greek.grammar.Mood;
+import greek.grammar.Number;
+import greek.grammar.Person;
+import greek.morphology.verb.Ending;
+import greek.morphology.verb.StemGuesser;
+import greek.morphology.verb.StemGuesser.Guess;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class StemGuesserTest {
+
+	private static String stem(Guess g) {
+		return Unicode.toPrecombinedUnicode(g.getStem().getGraphemes(false));
+	}
+
+	@Test
+	public void testGuess() {
+
+		// The contracted readings have the longest endings
+		List<Guess> guesses = StemGuesser.guess("φιλεῖτε");
+		assertEquals(3, guesses.size());
+		assertTrue(guesses.get(0).isContract());
+		assertEquals("φιλε", stem(guesses.get(0)));
+		assertEquals(Ending.SECOND_PLUR, guesses.get(0).getEnding());
+		assertEquals(Mood.IMPERATIVE, guesses.get(1).getTag().getMood());
+		assertEquals(1, guesses.get(2).getSuffixLength());
+
+		// The movable nu is optional
+		guesses = StemGuesser.guess("λύουσι");
+		assertEquals("λυ", stem(guesses.get(0)));
+		assertFalse(guesses.get(0).isContract());
+		assertEquals(Person.THIRD, guesses.get(0).getTag().getPerson());
+		assertEquals(Number.PLURAL, StemGuesser.guess("λύουσιν").get(0).getTag().getNumber());
+
+		// The guess regenerates the word
+		Guess g = StemGuesser.guess("τιμᾷς").get(0);
+		assertEquals("τιμα", stem(g));
+		assertEquals("τιμᾷς", Unicode.toPrecombinedUnicode(
+			g.newVerb().getVerbForm(g.getTag()).getMorpheme().getGraphemes()));
+
+		assertTrue(StemGuesser.guess("λόγος").isEmpty());
+
+	}
+
+}
@@ -0,0 +1,70 @@
+package test.greek.phonology;
+
+import greek.code.PhonoCode;
+import greek.code.Unicode;
+import greek.phonology.Phoneme;
+import greek.phonology.PhonemeAnalyzer;
+import greek.phonology.PitchedPhoneme;
+import greek.phonology.PitchedPhoneme.Pitch;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PhonemeAnalyzerTest {
+
+	private static void assertRoundTrip(String phonoCode) {
+		List<PitchedPhoneme> expected = PhonoCode.toPhonemes(phonoCode);
+		String unicode = Unicode.toPrecombinedUnicode(PhonoCode.toMorpheme(phonoCode).getGraphemes());
+		List<PitchedPhoneme> actual = PhonemeAnalyzer.analyze(unicode);
+		assertNotNull(unicode, actual);
+		assertEquals(unicode, expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); ++i) {
+			assertSame(unicode, expected.get(i).getPhoneme(), actual.get(i).getPhoneme());
+			assertSame(unicode, expected.get(i).getPitch(), actual.get(i).getPitch());
+		}
+	}
+
+	@Test
+	public void testRoundTrip() {
+
+		assertRoundTrip("lu/o:");
+		assertRoundTrip("hoj");
+		assertRoundTrip("to/:n");
+		assertRoundTrip("hre:/to:r");
+		assertRoundTrip("paideu/ousin");
+		assertRoundTrip("ti/me:i");
+		assertRoundTrip("lo/goj");
+		assertRoundTrip("ha/rma");
+		assertRoundTrip("he:mei/s");
+
+	}
+
+	@Test
+	public void testSpelling() {
+
+		// Combining diacritics are folded into their letters
+		List<PitchedPhoneme> result = PhonemeAnalyzer.analyze("λο\u0301γος");
+		assertEquals(5, result.size());
+		assertSame(Pitch.ACUTE, result.get(1).getPitch());
+
+		// A circumflex lengthens its vowel
+		result = PhonemeAnalyzer.analyze("πᾶς");
+		assertSame(Phoneme.AA, result.get(1).getPhoneme());
+
+		// Gamma before a velar is nasal
+		result = PhonemeAnalyzer.analyze("ἄγγελος");
+		assertSame(Phoneme.NG, result.get(1).getPhoneme());
+
+		// A diaeresis separates vowels
+		result = PhonemeAnalyzer.analyze("ἀΐδιος");
+		assertSame(Phoneme.I, result.get(1).getPhoneme());
+
+		// Elision is ignored
+		result = PhonemeAnalyzer.analyze("ἀλλ’");
+		assertEquals(3, result.size());
+
+		assertNull(PhonemeAnalyzer.analyze("abc"));
+
+	}
+
+}
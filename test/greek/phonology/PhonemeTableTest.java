@@ -0,0 +1,109 @@
+package test.greek.phonology;
+
+import greek.morphology.verb.VowelContraction;
+import greek.phonology.Phoneme;
+import greek.phonology.Phoneme.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Checks the ordinal-indexed tables against the maps they replaced, built
+ here the way the old constructors built them. */
+public class PhonemeTableTest {
+
+	private static final List<Phoneme> PHONEMES = Phoneme.values();
+
+	/* What each phoneme is made of, from its definition: the ordinals of
+	 its first and second parts, or -1, and its modifier, or null. */
+	private static int[] _first, _second;
+	private static Modifier[] _modifier;
+
+	static {
+		String[] lines = Phoneme.definitions().split("\n");
+		assertEquals(PHONEMES.size(), lines.length);
+		_first = new int[lines.length];
+		_second = new int[lines.length];
+		_modifier = new Modifier[lines.length];
+		for(int i = 0; i < lines.length; ++i) {
+			String[] fields = lines[i].split(" ");
+			_first[i] = fields[1].equals("-") ? -1 : Integer.parseInt(fields[1]);
+			_second[i] = fields[2].equals("-") ? -1 : Integer.parseInt(fields[2]);
+			_modifier[i] = fields[3].equals("-") ? null : Modifier.valueOf(fields[3]);
+		}
+	}
+
+	@Test
+	public void testCombinations() {
+		Map<Phoneme, Map<Phoneme, Phoneme>> comboMap = new HashMap<>();
+		Map<Phoneme, Map<Modifier, Phoneme>> modifierMap = new HashMap<>();
+		for(Phoneme p : PHONEMES) {
+			int i = p.getOrdinal();
+			if(_second[i] >= 0) {
+				comboMap.computeIfAbsent(Phoneme.fromOrdinal(_first[i]), k -> new HashMap<>())
+					.put(Phoneme.fromOrdinal(_second[i]), p);
+			}
+			else if(_modifier[i] != null) {
+				modifierMap.computeIfAbsent(Phoneme.fromOrdinal(_first[i]), k -> new HashMap<>())
+					.put(_modifier[i], p);
+			}
+		}
+		for(Phoneme a : PHONEMES) {
+			Map<Phoneme, Phoneme> combos = comboMap.getOrDefault(a, new HashMap<>());
+			for(Phoneme b : PHONEMES) {
+				assertSame(a + " + " + b, combos.get(b), a.plusPhoneme(b));
+				assertSame(combos.get(b), a.plusObject(b));
+			}
+			assertNull(a.plusPhoneme(null));
+			Map<Modifier, Phoneme> modified = modifierMap.getOrDefault(a, new HashMap<>());
+			for(Modifier m : Modifier.values()) {
+				assertSame(a + " + " + m, modified.get(m), a.plusModifier(m));
+				assertSame(modified.get(m), a.plusObject(m));
+			}
+			assertNull(a.plusModifier(null));
+			assertNull(a.plusObject("a"));
+		}
+	}
+
+	@Test
+	public void testClasses() {
+		for(Phoneme p : PHONEMES) {
+			int i = p.getOrdinal();
+			boolean vowel = within(p, Phoneme.A, Phoneme.UUI);
+			boolean isLong = within(p, Phoneme.AA, Phoneme.UUI) && _modifier[i] != Modifier.J;
+			assertEquals(p.toString(), vowel, p.isVowel());
+			assertEquals(within(p, Phoneme.A, Phoneme.UU), p.isMonophthong());
+			assertEquals(within(p, Phoneme.AJ, Phoneme.UUI), p.isDiphthong());
+			assertEquals(within(p, Phoneme.L, Phoneme.NG), p.isConsonant());
+			assertEquals(isLong, p.isLong());
+			assertEquals(vowel && !isLong, p.isShort());
+			assertEquals(vowel || p == Phoneme.R, p.canHaveBreathing());
+		}
+	}
+
+	@Test
+	public void testContractions() {
+		Map<Phoneme, Map<Phoneme, Phoneme>> contractionMap = new HashMap<>();
+		for(VowelContraction v : VowelContraction.values()) {
+			contractionMap.computeIfAbsent(v.getFirst(), k -> new HashMap<>())
+				.put(v.getSecond(), v.getContraction());
+		}
+		for(Phoneme a : PHONEMES) {
+			Map<Phoneme, Phoneme> contractions = contractionMap.getOrDefault(a, new HashMap<>());
+			for(Phoneme b : PHONEMES) {
+				assertSame(a + " + " + b, contractions.get(b), VowelContraction.contractedVowel(a, b));
+			}
+			assertNull(VowelContraction.contractedVowel(a, null));
+			assertNull(VowelContraction.contractedVowel(null, a));
+		}
+		assertSame(Phoneme.OU, VowelContraction.contractedVowel(Phoneme.E, Phoneme.O));
+		assertSame(Phoneme.AA, VowelContraction.contractedVowel(Phoneme.A, Phoneme.E));
+		assertSame(Phoneme.EI, VowelContraction.contractedVowel(Phoneme.E, Phoneme.E));
+	}
+
+	private static boolean within(Phoneme p, Phoneme low, Phoneme high) {
+		return low.getOrdinal() <= p.getOrdinal() && p.getOrdinal() <= high.getOrdinal();
+	}
+
+}
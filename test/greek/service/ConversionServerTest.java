@@ -0,0 +1,117 @@
+package test.greek.service;
+
+import greek.service.ConversionServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ConversionServerTest {
+
+	private ConversionServer _server;
+	private String _base;
+
+	@Before
+	public void setUp() throws IOException {
+		_server = new ConversionServer(new InetSocketAddress("127.0.0.1", 0), 2);
+		_server.start();
+		_base = "http://127.0.0.1:" + _server.getAddress().getPort();
+	}
+
+	@After
+	public void tearDown() {
+		_server.stop(0);
+	}
+
+	@Test
+	public void testBetaCode() throws IOException {
+		assertEquals("λόγος\n", nfc(get("/betacode?q=lo%2Fgos")));
+		assertEquals("λόγος\nλύω\n", nfc(post("/betacode", "lo/gos\nlu/w\n")));
+	}
+
+	@Test
+	public void testUnicode() throws IOException {
+		String unicode = get("/betacode?q=a%29%2Fnqrwpos");
+		String betaCode = post("/unicode", unicode);
+		assertEquals(unicode, post("/betacode", betaCode));
+		// Text from elsewhere is usually NFC, with tonos, or NFD
+		assertEquals("lu/w\n", post("/unicode", "\u03bb\u03cd\u03c9"));
+		assertEquals("lo/gos$\n", post("/unicode", "\u03bb\u03cc\u03b3\u03bf\u03c2"));
+		assertEquals("ti/\n", post("/unicode", "\u03c4\u03af"));
+		assertEquals(betaCode, post("/unicode", Normalizer.normalize(unicode, Normalizer.Form.NFD)));
+		assertEquals(betaCode, post("/unicode", Normalizer.normalize(unicode, Normalizer.Form.NFC)));
+	}
+
+	@Test
+	public void testParadigm() throws IOException {
+		String tsv = get("/paradigm?stem=lu&class=ThematicUncontr");
+		assertTrue(nfc(tsv).startsWith("lu\tThematicUncontr\tpresent\tactive\tindicative\tfirst\tsingular\tλύω\n"));
+		assertEquals(tsv, post("/paradigm", "lu ThematicUncontr\n"));
+		assertEquals(400, status("/paradigm?stem=lu&class=nothing", null));
+		assertEquals(405, status("/unicode", "PUT"));
+	}
+
+	@Test
+	public void testLimit() throws Exception {
+		// Hold both permits with requests whose bodies never finish.
+		HttpURLConnection[] held = new HttpURLConnection[2];
+		for(int i = 0; i < 2; ++i) {
+			HttpURLConnection c = (HttpURLConnection) new URL(_base + "/betacode").openConnection();
+			c.setRequestMethod("POST");
+			c.setDoOutput(true);
+			c.setFixedLengthStreamingMode(10);
+			held[i] = c;
+			OutputStream out = c.getOutputStream();
+			out.write("lo".getBytes(StandardCharsets.UTF_8));
+			out.flush();
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while(_server.getActiveRequests() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+		assertEquals(2, _server.getActiveRequests());
+		assertEquals(503, status("/betacode?q=a", null));
+		for(HttpURLConnection c : held) c.disconnect();
+	}
+
+	private static String nfc(String s) {
+		return Normalizer.normalize(s, Normalizer.Form.NFC);
+	}
+
+	private String get(String path) throws IOException {
+		return read((HttpURLConnection) new URL(_base + path).openConnection());
+	}
+
+	private String post(String path, String body) throws IOException {
+		HttpURLConnection c = (HttpURLConnection) new URL(_base + path).openConnection();
+		c.setRequestMethod("POST");
+		c.setDoOutput(true);
+		try(OutputStream out = c.getOutputStream()) {
+			out.write(body.getBytes(StandardCharsets.UTF_8));
+		}
+		return read(c);
+	}
+
+	private int status(String path, String method) throws IOException {
+		HttpURLConnection c = (HttpURLConnection) new URL(_base + path).openConnection();
+		if(method != null) c.setRequestMethod(method);
+		return c.getResponseCode();
+	}
+
+	private static String read(HttpURLConnection c) throws IOException {
+		assertEquals(200, c.getResponseCode());
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try(InputStream in = c.getInputStream()) {
+			in.transferTo(buffer);
+		}
+		return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,98 @@
+package test.greek.service;
+
+import greek.service.ConverterDaemon;
+import greek.service.DaemonClient;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ConverterDaemonTest {
+
+	@Test
+	public void testHandle() {
+		ConverterDaemon daemon = new ConverterDaemon();
+		assertEquals("{\"id\":1,\"result\":\"λόγος\"}",
+			nfc(daemon.handle("{\"id\": 1, \"op\": \"convert\", \"text\": \"lo/gos\"}")));
+		String unicode = daemon.handle("{\"op\":\"convert\",\"text\":\"a)/nqrwpos\"}");
+		String betaCode = daemon.handle(unicode.replace("result", "text").replace("{", "{\"op\":\"reverse\","));
+		assertEquals(unicode, daemon.handle(betaCode.replace("result", "text").replace("{", "{\"op\":\"convert\",")));
+		assertEquals("{\"result\":\"lo/gos$\"}", daemon.handle("{\"op\":\"reverse\",\"text\":\"\u03bb\u03cc\u03b3\u03bf\u03c2\"}"));
+		assertEquals("{\"id\":\"a\",\"result\":\"λύω\"}", nfc(daemon.handle(
+			"{\"id\":\"a\",\"op\":\"form\",\"stem\":\"lu\",\"class\":\"ThematicUncontr\",\"tense\":\"present\","
+			+ "\"voice\":\"active\",\"mood\":\"indicative\",\"person\":\"first\",\"number\":\"singular\"}")));
+		assertTrue(daemon.handle("{\"id\":2,\"op\":\"nothing\"}").startsWith("{\"id\":2,\"error\":"));
+		assertTrue(daemon.handle("not json").startsWith("{\"error\":"));
+	}
+
+	@Test
+	public void testServeStream() throws IOException {
+		StringWriter out = new StringWriter();
+		new ConverterDaemon().serve(new BufferedReader(new StringReader(
+			"{\"id\":1,\"op\":\"convert\",\"text\":\"a\"}\n\n{\"id\":2,\"op\":\"convert\",\"text\":\"b\"}\n")), out);
+		assertEquals("{\"id\":1,\"result\":\"α\"}\n{\"id\":2,\"result\":\"β\"}\n", out.toString());
+	}
+
+	@Test(timeout = 60000)
+	public void testSocket() throws Exception {
+		Path dir = Files.createTempDirectory("greek-daemon");
+		Path socket = dir.resolve("socket");
+		ConverterDaemon daemon = new ConverterDaemon();
+		daemon.bind(socket);
+		ExecutorService executor = Executors.newCachedThreadPool();
+		Thread listener = new Thread(() -> {
+			try {
+				daemon.serve(executor);
+			}
+			catch(IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		listener.start();
+		try {
+			try(DaemonClient client = new DaemonClient(socket)) {
+				assertEquals("λόγος", nfc(client.convert("lo/gos")));
+				String unicode = client.convert("a)/nqrwpos");
+				assertEquals(unicode, client.convert(client.reverse(unicode)));
+				String[] answers = client.request(Arrays.asList(
+					"{\"id\":1,\"op\":\"convert\",\"text\":\"a\"}",
+					"{\"id\":2,\"op\":\"convert\",\"text\":\"b\"}"));
+				assertArrayEquals(new String[] {"{\"id\":1,\"result\":\"α\"}", "{\"id\":2,\"result\":\"β\"}"}, answers);
+
+				// A batch far larger than the socket's buffers
+				StringBuilder text = new StringBuilder();
+				while(text.length() < 1400) text.append("a)/nqrwpos ");
+				List<String> batch = new ArrayList<>();
+				for(int i = 0; i < 1024; ++i) {
+					batch.add("{\"id\":" + i + ",\"op\":\"convert\",\"text\":\"" + text + "\"}");
+				}
+				answers = client.request(batch);
+				assertEquals(1024, answers.length);
+				assertTrue(answers[1023].startsWith("{\"id\":1023,\"result\":"));
+			}
+		}
+		finally {
+			daemon.close();
+			listener.join(5000);
+			executor.shutdownNow();
+			Files.deleteIfExists(socket);
+			Files.delete(dir);
+		}
+		assertFalse(listener.isAlive());
+	}
+
+	private static String nfc(String s) {
+		return Normalizer.normalize(s, Normalizer.Form.NFC);
+	}
+
+}